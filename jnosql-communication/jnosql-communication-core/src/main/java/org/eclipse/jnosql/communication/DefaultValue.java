@@ -44,17 +44,32 @@ record DefaultValue(Object value)  implements Value {
 
     @Override
     public <T> T get(Class<T> type) {
-        Objects.requireNonNull(type, "type is required");
-        return SERVICE_PROVIDER.read(type, value);
+        return read(type, value);
     }
 
     @Override
     public <T> T get(TypeSupplier<T> supplier) {
-        Objects.requireNonNull(supplier, "supplier is required");
-        if (REFERENCE_READER.test(Objects.requireNonNull(supplier, "supplier is required"))) {
-            return REFERENCE_READER.convert(supplier, value);
-        }
-        throw new UnsupportedOperationException("The type " + supplier.get().getTypeName() + " is not supported");
+        return read(supplier, value);
+    }
+
+    @Override
+    public int getInt() {
+        return value instanceof Integer number ? number : Value.super.getInt();
+    }
+
+    @Override
+    public long getLong() {
+        return value instanceof Long number ? number : Value.super.getLong();
+    }
+
+    @Override
+    public double getDouble() {
+        return value instanceof Double number ? number : Value.super.getDouble();
+    }
+
+    @Override
+    public boolean getBoolean() {
+        return value instanceof Boolean bool ? bool : Value.super.getBoolean();
     }
 
     @Override
@@ -71,13 +86,7 @@ record DefaultValue(Object value)  implements Value {
 
     @Override
     public boolean equals(Object o) {
-        if (this == o) {
-            return true;
-        }
-        if (!(o instanceof Value that)) {
-            return false;
-        }
-        return Objects.equals(value, that.get());
+        return equals(this, o);
     }
 
     @Override
@@ -85,4 +94,27 @@ record DefaultValue(Object value)  implements Value {
         return Objects.hashCode(value);
     }
 
+    static <T> T read(Class<T> type, Object value) {
+        Objects.requireNonNull(type, "type is required");
+        return SERVICE_PROVIDER.read(type, value);
+    }
+
+    static <T> T read(TypeSupplier<T> supplier, Object value) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        if (REFERENCE_READER.test(supplier)) {
+            return REFERENCE_READER.convert(supplier, value);
+        }
+        throw new UnsupportedOperationException("The type " + supplier.get().getTypeName() + " is not supported");
+    }
+
+    static boolean equals(Value value, Object o) {
+        if (value == o) {
+            return true;
+        }
+        if (!(o instanceof Value that)) {
+            return false;
+        }
+        return Objects.equals(value.get(), that.get());
+    }
+
 }
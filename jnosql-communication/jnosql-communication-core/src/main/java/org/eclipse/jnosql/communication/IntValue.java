@@ -0,0 +1,78 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+
+import java.util.Objects;
+
+/**
+ * The {@link Value} of {@code int}, so the numeric accessors do not box it.
+ */
+record IntValue(int value) implements Value {
+
+    @Override
+    public Object get() {
+        return value;
+    }
+
+    @Override
+    public <T> T get(Class<T> type) {
+        return DefaultValue.read(type, value);
+    }
+
+    @Override
+    public <T> T get(TypeSupplier<T> supplier) {
+        return DefaultValue.read(supplier, value);
+    }
+
+    @Override
+    public int getInt() {
+        return value;
+    }
+
+    @Override
+    public long getLong() {
+        return value;
+    }
+
+    @Override
+    public double getDouble() {
+        return value;
+    }
+
+    @Override
+    public boolean isInstanceOf(Class<?> typeClass) {
+        Objects.requireNonNull(typeClass, "typeClass is required");
+        return typeClass.isAssignableFrom(Integer.class);
+    }
+
+    @Override
+    public boolean isNull() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return DefaultValue.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+
+}
@@ -17,12 +17,18 @@
 package org.eclipse.jnosql.communication;
 
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * Decorators of all {@link TypeReferenceReader}
+ * Decorators of all {@link TypeReferenceReader}.
+ * It keeps the last reader found for each raw class in a {@link ClassValue}, so the conversion tests that reader
+ * first instead of every reader, and the cache does not hold the classes of the application.
  *
  * @see ValueReader
  */
@@ -32,6 +38,13 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
 
     private final List<TypeReferenceReader> readers = new ArrayList<>();
 
+    private final ClassValue<AtomicReference<TypeReferenceReader>> readersByType = new ClassValue<>() {
+        @Override
+        protected AtomicReference<TypeReferenceReader> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
     {
         ServiceLoader.load(TypeReferenceReader.class).stream()
                 .map(ServiceLoader.Provider::get)
@@ -44,17 +57,47 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
 
     @Override
     public boolean test(TypeSupplier type) {
-        return readers.stream().anyMatch(r -> r.test(type));
+        return reader(type).isPresent();
     }
 
     @Override
     public <T> T convert(TypeSupplier<T> typeReference, Object value) {
 
-        TypeReferenceReader valueReader = readers.stream().filter(r -> r.test(typeReference)).findFirst().
+        TypeReferenceReader valueReader = reader(typeReference).
                 orElseThrow(() -> new UnsupportedOperationException("The type " + typeReference + " is not supported yet"));
         return valueReader.convert(typeReference, value);
     }
 
+    private Optional<TypeReferenceReader> reader(TypeSupplier<?> typeReference) {
+        Class<?> rawType = rawType(typeReference.get());
+        if (rawType == null) {
+            return find(typeReference);
+        }
+        AtomicReference<TypeReferenceReader> cached = readersByType.get(rawType);
+        TypeReferenceReader reader = cached.get();
+        if (reader != null && reader.test(typeReference)) {
+            return Optional.of(reader);
+        }
+        Optional<TypeReferenceReader> found = find(typeReference);
+        found.ifPresent(cached::set);
+        return found;
+    }
+
+    private Optional<TypeReferenceReader> find(TypeSupplier<?> typeReference) {
+        return readers.stream().filter(r -> r.test(typeReference)).findFirst();
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class<?> rawType) {
+            return rawType;
+        }
+        if (type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() instanceof Class<?> rawType) {
+            return rawType;
+        }
+        return null;
+    }
+
     @Override
     public String toString() {
         return "TypeReferenceReaderDecorator{" + "readers=" + readers +
@@ -17,6 +17,7 @@
 package org.eclipse.jnosql.communication;
 
 
+import java.util.Objects;
 
 /**
  * It represents an information unit that is to/from a database.
@@ -61,6 +62,54 @@ public interface Value {
      */
     <T> T get(TypeSupplier<T> supplier);
 
+    /**
+     * Converts {@link Value#get()} to an {@code int}.
+     * The {@link Value#ofInt(int)} implementation returns it without boxing.
+     *
+     * @return the value as {@code int}
+     * @throws NullPointerException          when the value is null
+     * @throws UnsupportedOperationException when the value cannot be converted
+     */
+    default int getInt() {
+        return Objects.requireNonNull(get(Integer.class), "value is required");
+    }
+
+    /**
+     * Converts {@link Value#get()} to a {@code long}.
+     * The {@link Value#ofLong(long)} and {@link Value#ofInt(int)} implementations return it without boxing.
+     *
+     * @return the value as {@code long}
+     * @throws NullPointerException          when the value is null
+     * @throws UnsupportedOperationException when the value cannot be converted
+     */
+    default long getLong() {
+        return Objects.requireNonNull(get(Long.class), "value is required");
+    }
+
+    /**
+     * Converts {@link Value#get()} to a {@code double}.
+     * The numeric implementations, such as {@link Value#ofDouble(double)}, return it without boxing.
+     *
+     * @return the value as {@code double}
+     * @throws NullPointerException          when the value is null
+     * @throws UnsupportedOperationException when the value cannot be converted
+     */
+    default double getDouble() {
+        return Objects.requireNonNull(get(Double.class), "value is required");
+    }
+
+    /**
+     * Converts {@link Value#get()} to a {@code boolean}.
+     * The {@link Value#ofBoolean(boolean)} implementation returns it without boxing.
+     *
+     * @return the value as {@code boolean}
+     * @throws NullPointerException          when the value is null
+     * @throws UnsupportedOperationException when the value cannot be converted
+     */
+    default boolean getBoolean() {
+        return Objects.requireNonNull(get(Boolean.class), "value is required");
+    }
+
     /**
      * A wrapper of {@link Class#isInstance(Object)} to check the value instance within the {@link Value}.
      *
@@ -81,6 +130,8 @@ public interface Value {
 
     /**
      * Creates a new {@link Value} instance.
+     * It keeps the given object, so {@link Value#get()} returns it as is; {@link Value#ofInt(int)} and the other
+     * primitive factories keep a primitive instead.
      *
      * @param value - the information to {@link Value}
      * @return a {@link Value} instance within a value informed, or {@link DefaultValue#NULL} if the value is null
@@ -92,6 +143,47 @@ public interface Value {
         return new DefaultValue(value);
     }
 
+    /**
+     * Creates a new {@link Value} instance of an {@code int} that {@link Value#getInt()} returns without boxing.
+     *
+     * @param value the information to {@link Value}
+     * @return a {@link Value} instance
+     */
+    static Value ofInt(int value) {
+        return new IntValue(value);
+    }
+
+    /**
+     * Creates a new {@link Value} instance of a {@code long} that {@link Value#getLong()} returns without boxing.
+     *
+     * @param value the information to {@link Value}
+     * @return a {@link Value} instance
+     */
+    static Value ofLong(long value) {
+        return new LongValue(value);
+    }
+
+    /**
+     * Creates a new {@link Value} instance of a {@code double} that {@link Value#getDouble()} returns without boxing.
+     *
+     * @param value the information to {@link Value}
+     * @return a {@link Value} instance
+     */
+    static Value ofDouble(double value) {
+        return new DoubleValue(value);
+    }
+
+    /**
+     * Creates a new {@link Value} instance of a {@code boolean} that {@link Value#getBoolean()} returns
+     * without boxing.
+     *
+     * @param value the information to {@link Value}
+     * @return a {@link Value} instance
+     */
+    static Value ofBoolean(boolean value) {
+        return new BooleanValue(value);
+    }
+
     /**
      * Creates and returns a {@link Value} instance representing a null value.
      * This method provides a convenient way to obtain a {@link Value} instance that encapsulates a null value.
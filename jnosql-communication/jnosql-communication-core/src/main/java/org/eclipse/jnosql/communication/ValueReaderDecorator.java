@@ -19,10 +19,13 @@ package org.eclipse.jnosql.communication;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.ServiceLoader;
 
 /**
- * Decorators of all {@link ValueReader} supported by Jakarta NoSQL
+ * Decorators of all {@link ValueReader} supported by Jakarta NoSQL.
+ * It resolves the reader of each target type once, including the types without a reader,
+ * so the conversion does not test every reader again.
  *
  * @see ValueReader
  */
@@ -32,6 +35,13 @@ public final class ValueReaderDecorator implements ValueReader {
 
     private final List<ValueReader> readers = new ArrayList<>();
 
+    private final ClassValue<Optional<ValueReader>> readersByType = new ClassValue<>() {
+        @Override
+        protected Optional<ValueReader> computeValue(Class<?> type) {
+            return readers.stream().filter(r -> r.test(type)).findFirst();
+        }
+    };
+
     {
         ServiceLoader.load(ValueReader.class).stream()
                 .map(ServiceLoader.Provider::get)
@@ -44,7 +54,7 @@ public final class ValueReaderDecorator implements ValueReader {
 
     @Override
     public boolean test(Class type) {
-        return readers.stream().anyMatch(r -> r.test(type));
+        return readersByType.get(type).isPresent();
     }
 
     @Override
@@ -52,7 +62,7 @@ public final class ValueReaderDecorator implements ValueReader {
         if (type.isInstance(value)) {
             return type.cast(value);
         }
-        ValueReader valueReader = readers.stream().filter(r -> r.test(type)).findFirst().orElseThrow(
+        ValueReader valueReader = readersByType.get(type).orElseThrow(
                 () -> new UnsupportedOperationException("The type " + type + " is not supported yet"));
         return valueReader.read(type, value);
     }
@@ -20,9 +20,11 @@ package org.eclipse.jnosql.communication;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
- * Decorators of all {@link ValueWriter} supported by Diana
+ * Decorators of all {@link ValueWriter} supported by Diana.
+ * It resolves the writer of each source type once, including the types without a writer.
  *
  * @param <T> current type
  * @param <S> the converted type
@@ -34,6 +36,13 @@ public final class ValueWriterDecorator<T, S> implements ValueWriter<T, S> {
 
     private final List<ValueWriter> writers = new ArrayList<>();
 
+    private final ClassValue<Optional<ValueWriter>> writersByType = new ClassValue<>() {
+        @Override
+        protected Optional<ValueWriter> computeValue(Class<?> type) {
+            return writers.stream().filter(w -> w.test(type)).findFirst();
+        }
+    };
+
     {
         ValueWriter.getWriters().forEach(writers::add);
     }
@@ -47,13 +56,13 @@ public final class ValueWriterDecorator<T, S> implements ValueWriter<T, S> {
 
     @Override
     public boolean test(Class<?> type) {
-        return writers.stream().anyMatch(writerField -> writerField.test(type));
+        return writersByType.get(type).isPresent();
     }
 
     @Override
     public Object write(Object object) {
         Class<?> type = object.getClass();
-        ValueWriter valueWriter = writers.stream().filter(r -> r.test(type)).findFirst().orElseThrow(
+        ValueWriter valueWriter = writersByType.get(type).orElseThrow(
                 () -> new UnsupportedOperationException("The type " + type + " is not supported yet"));
         return valueWriter.write(object);
     }
@@ -29,9 +29,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
-
 
 /**
  * The {@link TypeReferenceReader} to {@link java.util.List} and {@link java.lang.Iterable}
@@ -58,8 +55,13 @@ public class ListTypeReferenceReader implements TypeReferenceReader {
         Type type = typeReference.get();
         ParameterizedType parameterizedType = (ParameterizedType) type;
         Class<?> classType = (Class<?>) parameterizedType.getActualTypeArguments()[0];
-        if (value instanceof Iterable iterable) {
-            return (T) stream(iterable.spliterator(), false).map(o -> SERVICE_PROVIDER.read(classType, o)).collect(toList());
+        if (value instanceof Iterable<?> iterable) {
+            List<Object> list = value instanceof Collection<?> collection ? new ArrayList<>(collection.size())
+                    : new ArrayList<>();
+            for (Object element : iterable) {
+                list.add(SERVICE_PROVIDER.read(classType, element));
+            }
+            return (T) list;
         }
         return (T) new ArrayList<>(Collections.singletonList(SERVICE_PROVIDER.read(classType, value)));
     }
@@ -29,12 +29,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * The {@link TypeReferenceReader} to {@link Map}
@@ -73,24 +74,47 @@ public class MapTypeReferenceReader implements TypeReferenceReader {
         if (Map.class.isInstance(value)) {
             return convertToMap(keyClass, valueClass, value);
         }
-        if (value instanceof Iterable<?> iterable) {
-            List<Object> collection = new ArrayList<>();
-            iterable.forEach(collection::add);
-            if (collection.isEmpty()) {
+        if (value instanceof Iterable<?> values) {
+            Iterable<?> iterable = values instanceof Collection<?> ? values : copy(values);
+            Iterator<?> iterator = iterable.iterator();
+            if (!iterator.hasNext()) {
                 return Collections.emptyMap();
-            } else if (collection.stream().allMatch(Map.class::isInstance)) {
-                return collection.stream().map(m -> convertToMap(keyClass, valueClass, m)).map(Map::entrySet)
-                        .flatMap(Collection::stream)
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-            } else if (collection.stream().allMatch(Entry.class::isInstance)) {
+            }
+            Object first = iterator.next();
+            if (first instanceof Map && allMatch(iterable, Map.class)) {
+                Function<Object, Object> keyReader = reader(keyClass);
+                Function<Object, Object> valueReader = reader(valueClass);
+                Map<K, V> map = new HashMap<>();
+                for (Object element : iterable) {
+                    putAll(map, (Map<?, ?>) element, keyReader, valueReader);
+                }
+                return map;
+            } else if (first instanceof Entry && allMatch(iterable, Entry.class)) {
                 Map<K, V> map = new HashMap<>();
-                collection.stream().forEach(e -> convertEntryToMap(e, map));
+                for (Object element : iterable) {
+                    convertEntryToMap(element, map);
+                }
                 return map;
             }
         }
         throw new UnsupportedOperationException("There is not supported convert" + value + " a not Map type.");
     }
 
+    private static List<Object> copy(Iterable<?> values) {
+        List<Object> collection = new ArrayList<>();
+        values.forEach(collection::add);
+        return collection;
+    }
+
+    private static boolean allMatch(Iterable<?> iterable, Class<?> type) {
+        for (Object element : iterable) {
+            if (!type.isInstance(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private <K, V> void convertEntryToMap(Object value, Map<K, V> map) {
         Entry entry = Entry.class.cast(value);
         Object entryValue = entry.value().get();
@@ -105,29 +129,29 @@ public class MapTypeReferenceReader implements TypeReferenceReader {
     }
 
     private <K, V> Map<K, V> convertToMap(Class<K> keyClass, Class<V> valueClass, Object value) {
-        Map mapValue = Map.class.cast(value);
-        return (Map<K, V>) mapValue.keySet().stream()
-                .collect(Collectors.toMap(mapKeyElement(keyClass), mapValueElement(valueClass, mapValue)));
+        Map<?, ?> mapValue = Map.class.cast(value);
+        Map<K, V> map = new HashMap<>(Math.max((int) (mapValue.size() / .75f) + 1, 16));
+        putAll(map, mapValue, reader(keyClass), reader(valueClass));
+        return map;
     }
 
-    private <K> Function mapKeyElement(Class<K> keyClass) {
-        return (keyElement) -> {
-            if (SERVICE_PROVIDER.test(keyClass)) {
-                return SERVICE_PROVIDER.read(keyClass, keyElement);
+    private <K, V> void putAll(Map<K, V> map, Map<?, ?> source, Function<Object, Object> keyReader,
+                               Function<Object, Object> valueReader) {
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            K key = (K) keyReader.apply(entry.getKey());
+            V value = (V) Objects.requireNonNull(valueReader.apply(entry.getValue()));
+            V previous = map.putIfAbsent(key, value);
+            if (previous != null) {
+                throw new IllegalStateException(String.format("Duplicate key %s (attempted merging values %s and %s)",
+                        key, previous, value));
             }
-            return keyElement;
-        };
+        }
     }
 
-    private <V> Function mapValueElement(Class<V> valueClass, Map mapValue) {
-        return (keyElement) -> {
-            Object valueElement = mapValue.get(keyElement);
-            if (SERVICE_PROVIDER.test(valueClass)) {
-                return SERVICE_PROVIDER.read(valueClass, valueElement);
-            }
-            return valueElement;
-        };
+    private static Function<Object, Object> reader(Class<?> type) {
+        if (SERVICE_PROVIDER.test(type)) {
+            return element -> SERVICE_PROVIDER.read(type, element);
+        }
+        return Function.identity();
     }
-
-
 }
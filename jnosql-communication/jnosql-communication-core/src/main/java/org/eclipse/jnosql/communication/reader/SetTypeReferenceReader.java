@@ -24,12 +24,11 @@ import org.eclipse.jnosql.communication.ValueReaderDecorator;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
 import static java.util.Collections.singleton;
-import static java.util.stream.Collectors.toSet;
-import static java.util.stream.StreamSupport.stream;
 
 /**
  * The {@link TypeReferenceReader} to {@link Set}
@@ -54,8 +53,13 @@ public class SetTypeReferenceReader implements TypeReferenceReader {
         Type type = typeReference.get();
         ParameterizedType parameterizedType = (ParameterizedType) type;
         Class<?> classType = (Class<?>) parameterizedType.getActualTypeArguments()[0];
-        if (value instanceof Iterable iterable) {
-            return (T) stream(iterable.spliterator(), false).map(o -> SERVICE_PROVIDER.read(classType, o)).collect(toSet());
+        if (value instanceof Iterable<?> iterable) {
+            Set<Object> set = value instanceof Collection<?> collection
+                    ? new HashSet<>(Math.max((int) (collection.size() / .75f) + 1, 16)) : new HashSet<>();
+            for (Object element : iterable) {
+                set.add(SERVICE_PROVIDER.read(classType, element));
+            }
+            return (T) set;
         }
         return (T) new HashSet<>(singleton(SERVICE_PROVIDER.read(classType, value)));
     }
@@ -47,6 +47,20 @@ class DefaultValueTest {
         assertThat(Value.of(null)).isEqualTo(DefaultValue.NULL);
     }
 
+    @Test
+    @DisplayName("Should convert to the primitives")
+    void shouldConvertToPrimitives() {
+        Value value = Value.of("12");
+
+        assertSoftly(softly -> {
+            softly.assertThat(value.getInt()).isEqualTo(12);
+            softly.assertThat(value.getLong()).isEqualTo(12L);
+            softly.assertThat(value.getDouble()).isEqualTo(12D);
+            softly.assertThat(Value.of("true").getBoolean()).isTrue();
+            softly.assertThatThrownBy(() -> Value.ofNull().getInt()).isInstanceOf(NullPointerException.class);
+        });
+    }
+
     @Test
     @DisplayName("Should be instance of the defined object")
     void shouldIsInstanceOf() {
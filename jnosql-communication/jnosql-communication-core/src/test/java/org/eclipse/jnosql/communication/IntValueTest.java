@@ -0,0 +1,73 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class IntValueTest {
+
+    @Test
+    void shouldKeepBoxedInteger() {
+        Integer boxed = 10;
+        Value value = Value.of(boxed);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(value).isInstanceOf(DefaultValue.class).isEqualTo(Value.ofInt(10));
+            soft.assertThat(value.get()).isSameAs(boxed);
+            soft.assertThat(value.getInt()).isEqualTo(10);
+            soft.assertThat(value.isNull()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldReturnPrimitives() {
+        Value value = Value.ofInt(10);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(value.getInt()).isEqualTo(10);
+            soft.assertThat(value.getLong()).isEqualTo(10L);
+            soft.assertThat(value.getDouble()).isEqualTo(10D);
+            soft.assertThat(value.getBoolean()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldConvert() {
+        Value value = Value.ofInt(10);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(value.get(String.class)).isEqualTo("10");
+            soft.assertThat(value.get(int.class)).isEqualTo(10);
+            soft.assertThat(value.get(new TypeReference<List<String>>() {
+            })).containsExactly("10");
+            soft.assertThat(value.isInstanceOf(Integer.class)).isTrue();
+            soft.assertThat(value.isInstanceOf(Number.class)).isTrue();
+            soft.assertThat(value.isInstanceOf(Long.class)).isFalse();
+        });
+    }
+
+    @Test
+    void shouldBeEqualsToDefaultValue() {
+        Value value = Value.ofInt(10);
+        Value defaultValue = new DefaultValue(10);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(value).isEqualTo(defaultValue);
+            soft.assertThat(defaultValue).isEqualTo(value);
+            soft.assertThat(value).hasSameHashCodeAs(defaultValue);
+        });
+    }
+}
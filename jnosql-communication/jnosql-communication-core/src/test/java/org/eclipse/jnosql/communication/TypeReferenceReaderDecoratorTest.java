@@ -0,0 +1,84 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class TypeReferenceReaderDecoratorTest {
+
+    private final TypeReferenceReaderDecorator decorator = TypeReferenceReaderDecorator.getInstance();
+
+    @Test
+    void shouldConvertWithTheSameReaderOfTheType() {
+        List<Integer> first = decorator.convert(new TypeReference<>() {
+        }, List.of("1", "2"));
+        List<Integer> second = decorator.convert(new TypeReference<>() {
+        }, List.of("3"));
+        Set<Integer> set = decorator.convert(new TypeReference<>() {
+        }, List.of("4"));
+
+        assertSoftly(softly -> {
+            softly.assertThat(first).containsExactly(1, 2);
+            softly.assertThat(second).containsExactly(3);
+            softly.assertThat(set).containsExactly(4);
+        });
+    }
+
+    @Test
+    void shouldTestType() {
+        assertSoftly(softly -> {
+            softly.assertThat(decorator.test(new TypeReference<Map<String, String>>() {
+            })).isTrue();
+            softly.assertThat(decorator.test(new TypeReference<Map<String, String>>() {
+            })).isTrue();
+            softly.assertThat(decorator.test(new TypeReference<Map.Entry<String, String>>() {
+            })).isFalse();
+        });
+    }
+
+    @Test
+    void shouldTestTheReaderOfTheRawTypeAgainstTheTypeArguments() {
+        assertSoftly(softly -> {
+            softly.assertThat(decorator.test(new TypeReference<SortedSet<String>>() {
+            })).isTrue();
+            softly.assertThat(decorator.test(new TypeReference<SortedSet<Object>>() {
+            })).isFalse();
+            softly.assertThat(decorator.test(new TypeReference<List<?>>() {
+            })).isFalse();
+            softly.assertThat(decorator.test(new TypeReference<List<String>>() {
+            })).isTrue();
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenTypeIsNotSupported() {
+        TypeReference<Map.Entry<String, String>> type = new TypeReference<>() {
+        };
+        assertThat(decorator.test(type)).isFalse();
+        assertThatThrownBy(() -> decorator.convert(type, "value"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
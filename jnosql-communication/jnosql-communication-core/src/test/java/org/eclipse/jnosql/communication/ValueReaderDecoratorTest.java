@@ -19,6 +19,24 @@ package org.eclipse.jnosql.communication;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -63,6 +81,35 @@ class ValueReaderDecoratorTest {
         assertFalse(serviceLoader.test(Bean.class));
     }
 
+    @ParameterizedTest(name = "must be compatible to {0}")
+    @DisplayName("Should resolve the same reader for every built-in type")
+    @ValueSource(classes = {AtomicInteger.class, AtomicLong.class, BigDecimal.class, BigInteger.class,
+            Boolean.class, Byte.class, Calendar.class, Character.class, Double.class, TimeUnit.class, Float.class,
+            Integer.class, LocalDate.class, LocalDateTime.class, Long.class, Number.class, Optional.class,
+            Short.class, String.class, YearMonth.class, Year.class, ZonedDateTime.class,
+            LocalTime.class, OffsetDateTime.class, OffsetTime.class})
+    void shouldResolveBuiltInReaders(Class<?> type) {
+        assertThat(serviceLoader.test(type)).isTrue();
+        assertThat(serviceLoader.test(type)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep converting after the reader is resolved")
+    void shouldConvertWithResolvedReader() {
+        assertThat(serviceLoader.read(Integer.class, "10")).isEqualTo(10);
+        assertThat(serviceLoader.read(Integer.class, 20L)).isEqualTo(20);
+        assertThat(serviceLoader.read(Integer.class, 30)).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("Should keep the incompatibility after the first check")
+    void shouldKeepIncompatibility() {
+        assertThat(serviceLoader.test(Bean.class)).isFalse();
+        assertThatThrownBy(() -> serviceLoader.read(Bean.class, "name"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(serviceLoader.test(Bean.class)).isFalse();
+    }
+
     static class Bean {
         Bean() {
         }
@@ -46,6 +46,19 @@ class ListTypeReferenceReaderTest {
     private final String firstValue = "123";
     private final String secondValue = "123";
 
+    @Test
+    @DisplayName("Should convert an Iterable that is not a Collection")
+    void shouldConvertIterable() {
+        Iterable<String> iterable = () -> List.of("1", "2").iterator();
+        List<Long> list = referenceReader.convert(new TypeReference<>() {
+        }, iterable);
+
+        assertSoftly(softly -> {
+            softly.assertThat(list).containsExactly(1L, 2L);
+            softly.assertThat(list).isInstanceOf(ArrayList.class);
+        });
+    }
+
     @DisplayName("Should be compatible")
     @ParameterizedTest(name = "is compatible: {0}")
     @MethodSource("compatibleTypeReferences")
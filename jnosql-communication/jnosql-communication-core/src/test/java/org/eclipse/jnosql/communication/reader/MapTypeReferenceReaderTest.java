@@ -33,6 +33,7 @@ import java.util.stream.Stream;
 
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -122,6 +123,34 @@ class MapTypeReferenceReaderTest {
         assertThat(map).hasSize(1).contains(entry("key", "value"));
     }
 
+    @Test
+    @DisplayName("Should convert list of maps to Map")
+    void shouldConvertMapsToMap() {
+        Map<Integer, Long> map = referenceReader.convert(new TypeReference<>() {
+        }, List.of(Map.of("1", "10"), Map.of("2", "20")));
+
+        assertThat(map).hasSize(2).contains(entry(1, 10L), entry(2, 20L));
+    }
+
+    @Test
+    @DisplayName("Should convert an Iterable that is not a Collection to Map")
+    void shouldConvertIterableToMap() {
+        Iterable<Map<String, String>> iterable = () -> List.of(Map.of("key", "value")).iterator();
+        Map<String, String> map = referenceReader.convert(new TypeReference<>() {
+        }, iterable);
+
+        assertThat(map).hasSize(1).contains(entry("key", "value"));
+    }
+
+    @Test
+    @DisplayName("Should not merge duplicated keys")
+    void shouldNotMergeDuplicatedKeys() {
+        List<Map<String, String>> maps = List.of(Map.of("1", "10"), Map.of("1", "20"));
+        assertThatThrownBy(() -> referenceReader.convert(new TypeReference<Map<Integer, Long>>() {
+        }, maps))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     @DisplayName("Should convert list of entry to Map")
     void shouldConvertEntriesToMap() {
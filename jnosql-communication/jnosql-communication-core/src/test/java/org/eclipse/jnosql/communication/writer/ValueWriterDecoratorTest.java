@@ -63,6 +63,24 @@ class ValueWriterDecoratorTest {
         assertThat(diana).isEqualTo(result);
     }
 
+    @Test
+    @DisplayName("Should keep converting after the writer is resolved")
+    @SuppressWarnings("unchecked")
+    void shouldConvertWithResolvedWriter() {
+        assertThat(valueWriter.write(Optional.of("diana"))).isEqualTo("diana");
+        assertThat(valueWriter.write(Optional.of("artemis"))).isEqualTo("artemis");
+        assertThat(valueWriter.test(Optional.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the incompatibility after the first check")
+    @SuppressWarnings("unchecked")
+    void shouldKeepIncompatibility() {
+        assertThat(valueWriter.test(Boolean.class)).isFalse();
+        assertThatThrownBy(() -> valueWriter.write(Boolean.TRUE)).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(valueWriter.test(Boolean.class)).isFalse();
+    }
+
     @Test
     @DisplayName("Should throw UnsupportedOperationException when type is not supported")
     @SuppressWarnings("unchecked")
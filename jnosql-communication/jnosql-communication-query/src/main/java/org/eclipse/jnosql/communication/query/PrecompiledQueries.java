@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The queries parsed at build time, usually by the repository annotation processor.
+ * Each {@value #RESOURCE} found at the classpath maps a query to its {@link QueryPlanCodec} plan,
+ * so those queries skip the ANTLR parser at runtime.
+ * The key is the {@link Kind} prefix followed by the query: the JDQL query or the repository method name.
+ * <p>
+ * A query not found here goes to the parser as usual.
+ */
+public final class PrecompiledQueries {
+
+    /**
+     * The classpath resource that holds the precompiled queries.
+     */
+    public static final String RESOURCE = "META-INF/jnosql/query-plans.properties";
+
+    private static final Logger LOGGER = Logger.getLogger(PrecompiledQueries.class.getName());
+
+    private static final Map<ClassLoader, PrecompiledQueries> LOADED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, String> plans;
+
+    private PrecompiledQueries(Map<String, String> plans) {
+        this.plans = plans;
+    }
+
+    /**
+     * Returns the select query built from the plan of this query.
+     *
+     * @param kind   the kind of the query, either {@link Kind#SELECT} or {@link Kind#METHOD_SELECT}
+     * @param query  the JDQL query or the method name
+     * @param entity the entity name to use when the plan does not define it
+     * @return the {@link SelectQuery} or {@link Optional#empty()} when the query was not precompiled
+     */
+    public Optional<SelectQuery> select(Kind kind, String query, String entity) {
+        return plan(kind, query).map(plan -> QueryPlanCodec.decodeSelect(plan, entity));
+    }
+
+    /**
+     * Returns the delete query built from the plan of this query.
+     *
+     * @param kind   the kind of the query, either {@link Kind#DELETE} or {@link Kind#METHOD_DELETE}
+     * @param query  the JDQL query or the method name
+     * @param entity the entity name to use when the plan does not define it
+     * @return the {@link DeleteQuery} or {@link Optional#empty()} when the query was not precompiled
+     */
+    public Optional<DeleteQuery> delete(Kind kind, String query, String entity) {
+        return plan(kind, query).map(plan -> QueryPlanCodec.decodeDelete(plan, entity));
+    }
+
+    /**
+     * Returns the update query built from the plan of this query.
+     *
+     * @param query the JDQL query
+     * @return the {@link UpdateQuery} or {@link Optional#empty()} when the query was not precompiled
+     */
+    public Optional<UpdateQuery> update(String query) {
+        return plan(Kind.UPDATE, query).map(plan -> QueryPlanCodec.decodeUpdate(plan, null));
+    }
+
+    /**
+     * @return the number of precompiled queries
+     */
+    public int size() {
+        return plans.size();
+    }
+
+    private Optional<String> plan(Kind kind, String query) {
+        Objects.requireNonNull(kind, "kind is required");
+        Objects.requireNonNull(query, "query is required");
+        if (plans.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(plans.get(kind.key(query)));
+    }
+
+    /**
+     * Returns the precompiled queries from the classpath of the thread context classloader,
+     * or the classloader of this class when there is none. The resources are read once per classloader,
+     * so each application in a container gets its own queries.
+     *
+     * @return the {@link PrecompiledQueries} instance
+     */
+    public static PrecompiledQueries get() {
+        var loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = PrecompiledQueries.class.getClassLoader();
+        }
+        return LOADED.computeIfAbsent(loader, PrecompiledQueries::load);
+    }
+
+    /**
+     * Creates a {@link PrecompiledQueries} from a map of keys, built with {@link Kind#key(String)}, to plans.
+     *
+     * @param plans the plans
+     * @return a new {@link PrecompiledQueries} instance
+     * @throws NullPointerException when plans is null
+     */
+    public static PrecompiledQueries of(Map<String, String> plans) {
+        Objects.requireNonNull(plans, "plans is required");
+        return new PrecompiledQueries(Map.copyOf(plans));
+    }
+
+    static PrecompiledQueries load(ClassLoader loader) {
+        Map<String, String> plans = new HashMap<>();
+        for (URL url : resources(loader)) {
+            try (InputStream stream = url.openStream()) {
+                var properties = new Properties();
+                properties.load(new InputStreamReader(stream, StandardCharsets.UTF_8));
+                properties.forEach((key, value) -> plans.putIfAbsent(key.toString(), value.toString()));
+            } catch (IOException exception) {
+                throw new UncheckedIOException("There is an issue to read the precompiled queries at: " + url, exception);
+            }
+        }
+        LOGGER.log(Level.FINEST, () -> "Precompiled queries loaded: " + plans.size());
+        return new PrecompiledQueries(Map.copyOf(plans));
+    }
+
+    private static Iterable<URL> resources(ClassLoader loader) {
+        if (loader == null) {
+            return Collections.emptyList();
+        }
+        try {
+            Enumeration<URL> resources = loader.getResources(RESOURCE);
+            return Collections.list(resources);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("There is an issue to find the precompiled queries", exception);
+        }
+    }
+
+    /**
+     * The kind of a precompiled query, it defines the prefix of the key.
+     */
+    public enum Kind {
+        /**
+         * A JDQL select query
+         */
+        SELECT("select"),
+        /**
+         * A JDQL delete query
+         */
+        DELETE("delete"),
+        /**
+         * A JDQL update query
+         */
+        UPDATE("update"),
+        /**
+         * A repository method that finds, counts or checks the existence of entities
+         */
+        METHOD_SELECT("method-select"),
+        /**
+         * A repository method that deletes entities
+         */
+        METHOD_DELETE("method-delete");
+
+        private final String prefix;
+
+        Kind(String prefix) {
+            this.prefix = prefix;
+        }
+
+        /**
+         * Returns the key of a query at the {@link PrecompiledQueries#RESOURCE}.
+         *
+         * @param query the JDQL query or the method name
+         * @return the key
+         */
+        public String key(String query) {
+            return prefix + '|' + query;
+        }
+    }
+}
@@ -0,0 +1,454 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import jakarta.data.Direction;
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Converts a parsed {@link SelectQuery}, {@link DeleteQuery} or {@link UpdateQuery} to a plain text plan and back.
+ * The plan keeps the whole query tree, including the parameters, so reading it does not need the ANTLR parser.
+ * It is how the queries parsed at build time are stored and loaded at runtime by {@link PrecompiledQueries}.
+ * <p>
+ * A query parsed with {@link #ENTITY_PLACEHOLDER} as the entity name stores the placeholder,
+ * and the entity given on decode replaces it.
+ */
+public final class QueryPlanCodec {
+
+    /**
+     * The entity name to use when the entity is only known at runtime, such as in repository method queries.
+     */
+    public static final String ENTITY_PLACEHOLDER = "#entity";
+
+    private static final String NULL = "_";
+
+    private QueryPlanCodec() {
+    }
+
+    /**
+     * Converts a select query to a plan.
+     *
+     * @param query the query
+     * @return the plan as text
+     * @throws NullPointerException when the query is null
+     */
+    public static String encode(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        var writer = new StringBuilder("(select ");
+        text(writer, query.entity());
+        writer.append(" (");
+        query.fields().forEach(f -> text(writer.append(' '), f));
+        writer.append(") (");
+        for (Sort<?> sort : query.orderBy()) {
+            writer.append(" (");
+            text(writer, sort.property());
+            writer.append(' ').append(sort.isAscending() ? "\"ASC\"" : "\"DESC\"").append(')');
+        }
+        writer.append(") ");
+        where(writer, query.where());
+        writer.append(" \"").append(query.limit()).append("\" \"").append(query.skip())
+                .append("\" \"").append(query.isCount()).append("\")");
+        return writer.toString();
+    }
+
+    /**
+     * Converts a delete query to a plan.
+     *
+     * @param query the query
+     * @return the plan as text
+     * @throws NullPointerException when the query is null
+     */
+    public static String encode(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        var writer = new StringBuilder("(delete ");
+        text(writer, query.entity());
+        writer.append(" (");
+        query.fields().forEach(f -> text(writer.append(' '), f));
+        writer.append(") ");
+        where(writer, query.where());
+        return writer.append(')').toString();
+    }
+
+    /**
+     * Converts an update query to a plan.
+     *
+     * @param query the query
+     * @return the plan as text
+     * @throws NullPointerException when the query is null
+     */
+    public static String encode(UpdateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        var writer = new StringBuilder("(update ");
+        text(writer, query.entity());
+        writer.append(" (");
+        for (UpdateItem item : query.set()) {
+            writer.append(" (");
+            text(writer, item.name());
+            value(writer.append(' '), item.value());
+            writer.append(')');
+        }
+        writer.append(") ");
+        where(writer, query.where());
+        return writer.append(')').toString();
+    }
+
+    /**
+     * Reads a select query from a plan.
+     *
+     * @param plan   the plan
+     * @param entity the entity name that replaces the {@link #ENTITY_PLACEHOLDER}
+     * @return the {@link SelectQuery}
+     * @throws NullPointerException when the plan is null
+     * @throws QueryException       when the plan is invalid
+     */
+    public static SelectQuery decodeSelect(String plan, String entity) {
+        var node = list(new Reader(plan).read(), "select", 8);
+        List<String> fields = texts(node.get(2));
+        List<Sort<?>> sorts = new ArrayList<>();
+        for (Object item : list(node.get(3))) {
+            var sort = list(item);
+            sorts.add(Sort.of(text(sort.get(0)), Direction.valueOf(text(sort.get(1))), false));
+        }
+        return new PlanSelectQuery(entity(node.get(1), entity), List.copyOf(fields), List.copyOf(sorts),
+                where(node.get(4)), Long.parseLong(text(node.get(5))), Long.parseLong(text(node.get(6))),
+                Boolean.parseBoolean(text(node.get(7))));
+    }
+
+    /**
+     * Reads a delete query from a plan.
+     *
+     * @param plan   the plan
+     * @param entity the entity name that replaces the {@link #ENTITY_PLACEHOLDER}
+     * @return the {@link DeleteQuery}
+     * @throws NullPointerException when the plan is null
+     * @throws QueryException       when the plan is invalid
+     */
+    public static DeleteQuery decodeDelete(String plan, String entity) {
+        var node = list(new Reader(plan).read(), "delete", 4);
+        return DeleteQuery.of(entity(node.get(1), entity), List.copyOf(texts(node.get(2))), where(node.get(3)));
+    }
+
+    /**
+     * Reads an update query from a plan.
+     *
+     * @param plan   the plan
+     * @param entity the entity name that replaces the {@link #ENTITY_PLACEHOLDER}
+     * @return the {@link UpdateQuery}
+     * @throws NullPointerException when the plan is null
+     * @throws QueryException       when the plan is invalid
+     */
+    public static UpdateQuery decodeUpdate(String plan, String entity) {
+        var node = list(new Reader(plan).read(), "update", 4);
+        List<UpdateItem> items = new ArrayList<>();
+        for (Object item : list(node.get(2))) {
+            var set = list(item);
+            items.add(new PlanUpdateItem(text(set.get(0)), value(set.get(1))));
+        }
+        return new PlanUpdateQuery(entity(node.get(1), entity), List.copyOf(items), where(node.get(3)));
+    }
+
+    private static void where(StringBuilder writer, Optional<Where> where) {
+        where.ifPresentOrElse(w -> condition(writer, w.condition()), () -> writer.append(NULL));
+    }
+
+    private static void condition(StringBuilder writer, QueryCondition condition) {
+        writer.append("(");
+        text(writer, condition.name());
+        writer.append(" \"").append(condition.condition().name()).append("\" ");
+        value(writer, condition.value());
+        writer.append(')');
+    }
+
+    private static void value(StringBuilder writer, QueryValue<?> value) {
+        if (value instanceof EnumQueryValue enumValue) {
+            writer.append("(enum ");
+            text(writer, enumValue.get().getDeclaringClass().getName());
+            text(writer.append(' '), enumValue.get().name());
+            writer.append(')');
+            return;
+        }
+        switch (value.type()) {
+            case STRING -> text(writer.append("(string "), (String) value.get()).append(')');
+            case NUMBER -> {
+                Number number = (Number) value.get();
+                text(writer.append("(number "), number.getClass().getName());
+                text(writer.append(' '), number.toString()).append(')');
+            }
+            case BOOLEAN -> writer.append("(boolean \"").append(value.get()).append("\")");
+            case PARAMETER -> text(writer.append("(param "), ((ParamQueryValue) value).get()).append(')');
+            case NULL -> writer.append("(null)");
+            case ARRAY -> {
+                writer.append("(array");
+                for (QueryValue<?> item : ((ArrayQueryValue) value).get()) {
+                    value(writer.append(' '), item);
+                }
+                writer.append(')');
+            }
+            case CONDITION -> {
+                writer.append("(conditions");
+                for (QueryCondition condition : ((ConditionQueryValue) value).get()) {
+                    condition(writer.append(' '), condition);
+                }
+                writer.append(')');
+            }
+            default -> throw new QueryException("There is not support to the value: " + value.type());
+        }
+    }
+
+    private static StringBuilder text(StringBuilder writer, String text) {
+        if (text == null) {
+            return writer.append(NULL);
+        }
+        writer.append('"');
+        for (int index = 0; index < text.length(); index++) {
+            char character = text.charAt(index);
+            if (character == '"' || character == '\\') {
+                writer.append('\\');
+            }
+            writer.append(character);
+        }
+        return writer.append('"');
+    }
+
+    private static String entity(Object node, String entity) {
+        String stored = text(node);
+        return ENTITY_PLACEHOLDER.equals(stored) ? entity : stored;
+    }
+
+    private static Where where(Object node) {
+        return node == null ? null : Where.of(condition(node));
+    }
+
+    private static QueryCondition condition(Object node) {
+        var condition = list(node);
+        return new PlanCondition(text(condition.get(0)), Condition.valueOf(text(condition.get(1))),
+                value(condition.get(2)));
+    }
+
+    private static QueryValue<?> value(Object node) {
+        var value = list(node);
+        var type = (String) value.get(0);
+        return switch (type) {
+            case "string" -> StringQueryValue.of(text(value.get(1)));
+            case "number" -> NumberQueryValue.of(number(text(value.get(1)), text(value.get(2))));
+            case "boolean" -> Boolean.parseBoolean(text(value.get(1))) ? BooleanQueryValue.TRUE : BooleanQueryValue.FALSE;
+            case "param" -> new PlanParamValue(text(value.get(1)));
+            case "null" -> NullQueryValue.INSTANCE;
+            case "enum" -> EnumQueryValue.of(enumValue(text(value.get(1)), text(value.get(2))));
+            case "array" -> new PlanArrayValue(value.subList(1, value.size()).stream()
+                    .map(QueryPlanCodec::value).toArray(QueryValue[]::new));
+            case "conditions" -> ConditionQueryValue.of(value.subList(1, value.size()).stream()
+                    .map(QueryPlanCodec::condition).toList());
+            default -> throw new QueryException("The query plan has an invalid value: " + type);
+        };
+    }
+
+    private static Number number(String type, String value) {
+        return switch (type) {
+            case "java.lang.Integer" -> Integer.valueOf(value);
+            case "java.lang.Long" -> Long.valueOf(value);
+            case "java.lang.Double" -> Double.valueOf(value);
+            case "java.lang.Float" -> Float.valueOf(value);
+            case "java.lang.Short" -> Short.valueOf(value);
+            case "java.lang.Byte" -> Byte.valueOf(value);
+            case "java.math.BigInteger" -> new BigInteger(value);
+            default -> new BigDecimal(value);
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Enum<?> enumValue(String type, String name) {
+        try {
+            var loader = Thread.currentThread().getContextClassLoader();
+            Class<?> enumClass = Class.forName(type, true, loader == null ? QueryPlanCodec.class.getClassLoader() : loader);
+            return Enum.valueOf((Class<? extends Enum>) enumClass.asSubclass(Enum.class), name);
+        } catch (ClassNotFoundException | IllegalArgumentException exp) {
+            throw new QueryException("There is an issue to load class because: " + type + "." + name, exp);
+        }
+    }
+
+    private static List<Object> list(Object node, String type, int size) {
+        var list = list(node);
+        if (list.size() != size || !type.equals(list.get(0))) {
+            throw new QueryException("The query plan is not a " + type + " query: " + list);
+        }
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> list(Object node) {
+        if (node instanceof List<?> list) {
+            return (List<Object>) list;
+        }
+        throw new QueryException("The query plan is invalid, it expects a list instead of: " + node);
+    }
+
+    private static List<String> texts(Object node) {
+        return list(node).stream().map(QueryPlanCodec::text).toList();
+    }
+
+    private static String text(Object node) {
+        if (node == null || node instanceof String) {
+            return (String) node;
+        }
+        throw new QueryException("The query plan is invalid, it expects a text instead of: " + node);
+    }
+
+    /**
+     * Reads the plan where a list is between parentheses, a text is between quotes,
+     * an underscore is null and a bare word is the type of a node.
+     */
+    private static final class Reader {
+
+        private final String plan;
+
+        private int position;
+
+        private Reader(String plan) {
+            this.plan = Objects.requireNonNull(plan, "plan is required");
+        }
+
+        private Object read() {
+            Object node = node();
+            skipSpaces();
+            if (position != plan.length()) {
+                throw new QueryException("The query plan has an unexpected content at " + position + ": " + plan);
+            }
+            return node;
+        }
+
+        private Object node() {
+            skipSpaces();
+            if (position >= plan.length()) {
+                throw new QueryException("The query plan ended unexpectedly: " + plan);
+            }
+            char current = plan.charAt(position);
+            if (current == '(') {
+                position++;
+                List<Object> nodes = new ArrayList<>();
+                skipSpaces();
+                while (position < plan.length() && plan.charAt(position) != ')') {
+                    nodes.add(node());
+                    skipSpaces();
+                }
+                if (position >= plan.length()) {
+                    throw new QueryException("The query plan ended unexpectedly: " + plan);
+                }
+                position++;
+                return nodes;
+            } else if (current == '"') {
+                return quoted();
+            }
+            int start = position;
+            while (position < plan.length() && Character.isLetter(plan.charAt(position))
+                    || position < plan.length() && plan.charAt(position) == NULL.charAt(0)) {
+                position++;
+            }
+            String word = plan.substring(start, position);
+            if (word.isEmpty()) {
+                throw new QueryException("The query plan has an unexpected character at " + position + ": " + plan);
+            }
+            return NULL.equals(word) ? null : word;
+        }
+
+        private String quoted() {
+            var text = new StringBuilder();
+            position++;
+            while (position < plan.length()) {
+                char character = plan.charAt(position++);
+                if (character == '"') {
+                    return text.toString();
+                } else if (character == '\\' && position < plan.length()) {
+                    text.append(plan.charAt(position++));
+                } else {
+                    text.append(character);
+                }
+            }
+            throw new QueryException("The query plan has a text without the end quote: " + plan);
+        }
+
+        private void skipSpaces() {
+            while (position < plan.length() && Character.isWhitespace(plan.charAt(position))) {
+                position++;
+            }
+        }
+    }
+
+    private record PlanSelectQuery(String entity, List<String> fields, List<Sort<?>> orderBy, Where condition,
+                                   long limit, long skip, boolean count) implements SelectQuery {
+
+        @Override
+        public Optional<Where> where() {
+            return Optional.ofNullable(condition);
+        }
+
+        @Override
+        public boolean isCount() {
+            return count;
+        }
+    }
+
+    private record PlanUpdateQuery(String entity, List<UpdateItem> set, Where condition) implements UpdateQuery {
+
+        @Override
+        public Optional<Where> where() {
+            return Optional.ofNullable(condition);
+        }
+    }
+
+    private record PlanUpdateItem(String name, QueryValue<?> value) implements UpdateItem {
+    }
+
+    private record PlanCondition(String name, Condition condition, QueryValue<?> value) implements QueryCondition {
+    }
+
+    private record PlanParamValue(String value) implements ParamQueryValue {
+
+        @Override
+        public String get() {
+            return value;
+        }
+    }
+
+    private record PlanArrayValue(QueryValue<?>[] values) implements ArrayQueryValue {
+
+        @Override
+        public QueryValue<?>[] get() {
+            return values;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof PlanArrayValue that && Arrays.equals(values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(values);
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(values);
+        }
+    }
+}
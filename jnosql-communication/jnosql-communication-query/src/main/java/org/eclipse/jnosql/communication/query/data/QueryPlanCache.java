@@ -0,0 +1,269 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.data;
+
+import org.eclipse.jnosql.communication.query.DeleteQuery;
+import org.eclipse.jnosql.communication.query.PrecompiledQueries;
+import org.eclipse.jnosql.communication.query.PrecompiledQueries.Kind;
+import org.eclipse.jnosql.communication.query.SelectQuery;
+import org.eclipse.jnosql.communication.query.UpdateQuery;
+
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A bounded and thread-safe cache of parsed JDQL queries.
+ * The queries stored are the result of {@link SelectProvider}, {@link DeleteProvider} and {@link UpdateProvider},
+ * so a repeated query does not go through the ANTLR lexer, parser and tree walk again.
+ * Those queries are templates: the parameters are kept as {@link org.eclipse.jnosql.communication.query.ParamQueryValue}
+ * and are bound later on each execution.
+ * <p>
+ * On a miss, the query precompiled at build time, see {@link PrecompiledQueries}, is used before the parser.
+ * Unless a {@link PrecompiledQueries} is given, those queries are looked up at the classloader of the current thread.
+ * When the cache reaches its maximum size the oldest entry is evicted.
+ * A query with a syntax error is never stored.
+ */
+public final class QueryPlanCache {
+
+    /**
+     * The default maximum number of queries stored at the cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1_000;
+
+    private static final Map<ClassLoader, Reference<QueryPlanCache>> SHARED = new WeakHashMap<>();
+
+    private final int maxSize;
+
+    private final Supplier<PrecompiledQueries> precompiled;
+
+    private final Map<PlanKey, Object> plans = new ConcurrentHashMap<>();
+
+    private final Queue<PlanKey> order = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private QueryPlanCache(int maxSize, Supplier<PrecompiledQueries> precompiled) {
+        this.maxSize = maxSize;
+        this.precompiled = precompiled;
+    }
+
+    /**
+     * Returns the parsed select query from the cache, parsing and storing it on the first call.
+     *
+     * @param query  the JDQL query
+     * @param entity the entity name, it might be null when the query defines the entity
+     * @return the {@link SelectQuery}
+     * @throws NullPointerException when the query is null
+     */
+    public SelectQuery select(String query, String entity) {
+        Objects.requireNonNull(query, "query is required");
+        return get(new PlanKey(PlanType.SELECT, query, entity), () -> precompiled.get().select(Kind.SELECT, query, entity)
+                .orElseGet(() -> new SelectProvider().apply(query, entity)));
+    }
+
+    /**
+     * Returns the parsed delete query from the cache, parsing and storing it on the first call.
+     *
+     * @param query the JDQL query
+     * @return the {@link DeleteQuery}
+     * @throws NullPointerException when the query is null
+     */
+    public DeleteQuery delete(String query) {
+        Objects.requireNonNull(query, "query is required");
+        return get(new PlanKey(PlanType.DELETE, query, null), () -> precompiled.get().delete(Kind.DELETE, query, null)
+                .orElseGet(() -> new DeleteProvider().apply(query)));
+    }
+
+    /**
+     * Returns the parsed update query from the cache, parsing and storing it on the first call.
+     *
+     * @param query the JDQL query
+     * @return the {@link UpdateQuery}
+     * @throws NullPointerException when the query is null
+     */
+    public UpdateQuery update(String query) {
+        Objects.requireNonNull(query, "query is required");
+        return get(new PlanKey(PlanType.UPDATE, query, null), () -> precompiled.get().update(query)
+                .orElseGet(() -> new UpdateProvider().apply(query)));
+    }
+
+    /**
+     * @return the number of queries found at the cache
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of queries that were parsed because they were not at the cache
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of queries removed from the cache because of the size limit
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the number of queries at the cache
+     */
+    public int size() {
+        return plans.size();
+    }
+
+    /**
+     * @return the maximum number of queries at the cache
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes all the queries from the cache, the counters are kept.
+     */
+    public void clear() {
+        plans.clear();
+        order.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "QueryPlanCache{" +
+                "maxSize=" + maxSize +
+                ", size=" + plans.size() +
+                ", hits=" + hits.sum() +
+                ", misses=" + misses.sum() +
+                ", evictions=" + evictions.sum() +
+                '}';
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(PlanKey key, Supplier<T> parser) {
+        Object plan = plans.get(key);
+        if (plan != null) {
+            hits.increment();
+            return (T) plan;
+        }
+        misses.increment();
+        T parsed = parser.get();
+        Object previous = plans.putIfAbsent(key, parsed);
+        if (previous != null) {
+            return (T) previous;
+        }
+        order.offer(key);
+        evict();
+        return parsed;
+    }
+
+    private void evict() {
+        while (plans.size() > maxSize) {
+            PlanKey eldest = order.poll();
+            if (eldest == null) {
+                return;
+            }
+            if (plans.remove(eldest) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Returns the {@link QueryPlanCache} shared by the default query parsers, with the {@link #DEFAULT_MAX_SIZE}.
+     * Use it instead of {@link #of()} to keep a single cache per application, so a query parsed at
+     * one place is a hit at every other one.
+     * There is a cache per thread context classloader, or the classloader of this class when there is none,
+     * because the parsed queries keep the classes of that application, such as the enum values; the cache is
+     * softly referenced, so it does not keep an undeployed classloader.
+     *
+     * @return the shared {@link QueryPlanCache} instance of the current classloader
+     */
+    public static QueryPlanCache shared() {
+        var loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = QueryPlanCache.class.getClassLoader();
+        }
+        synchronized (SHARED) {
+            Reference<QueryPlanCache> reference = SHARED.get(loader);
+            QueryPlanCache cache = reference == null ? null : reference.get();
+            if (cache == null) {
+                cache = of();
+                SHARED.put(loader, new SoftReference<>(cache));
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * Creates a {@link QueryPlanCache} instance with the {@link #DEFAULT_MAX_SIZE}.
+     *
+     * @return a new {@link QueryPlanCache} instance
+     */
+    public static QueryPlanCache of() {
+        return of(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a {@link QueryPlanCache} instance.
+     *
+     * @param maxSize the maximum number of queries stored
+     * @return a new {@link QueryPlanCache} instance
+     * @throws IllegalArgumentException when maxSize is negative
+     */
+    public static QueryPlanCache of(int maxSize) {
+        checkMaxSize(maxSize);
+        return new QueryPlanCache(maxSize, PrecompiledQueries::get);
+    }
+
+    /**
+     * Creates a {@link QueryPlanCache} instance that looks up the queries at the precompiled ones before parsing them.
+     *
+     * @param maxSize     the maximum number of queries stored
+     * @param precompiled the queries precompiled at build time
+     * @return a new {@link QueryPlanCache} instance
+     * @throws IllegalArgumentException when maxSize is negative
+     * @throws NullPointerException     when precompiled is null
+     */
+    public static QueryPlanCache of(int maxSize, PrecompiledQueries precompiled) {
+        checkMaxSize(maxSize);
+        Objects.requireNonNull(precompiled, "precompiled is required");
+        return new QueryPlanCache(maxSize, () -> precompiled);
+    }
+
+    private static void checkMaxSize(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The maxSize cannot be negative: " + maxSize);
+        }
+    }
+
+    private enum PlanType {
+        SELECT, DELETE, UPDATE
+    }
+
+    private record PlanKey(PlanType type, String query, String entity) {
+    }
+}
@@ -43,7 +43,7 @@ public final class SelectProvider extends AbstractWhere implements BiFunction<St
         if(this.entity == null) {
             throw new IllegalArgumentException("The entity is required in the query");
         }
-        return new JDQLSelectQuery(fields, this.entity, sorts, where, count);
+        return new JDQLSelectQuery(List.copyOf(fields), this.entity, List.copyOf(sorts), where, count);
     }
 
     @Override
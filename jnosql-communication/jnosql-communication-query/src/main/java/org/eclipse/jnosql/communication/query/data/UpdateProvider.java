@@ -41,7 +41,7 @@ public final class UpdateProvider extends AbstractWhere implements Function<Stri
         if(this.entity == null) {
             throw new IllegalArgumentException("The entity is required in the query");
         }
-        return new JDQLUpdateQuery(this.entity, items, where);
+        return new JDQLUpdateQuery(this.entity, List.copyOf(items), where);
     }
 
     @Override
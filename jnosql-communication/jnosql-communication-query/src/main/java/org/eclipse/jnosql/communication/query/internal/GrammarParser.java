@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.internal;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.query.QueryErrorListener;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Runs an ANTLR grammar in two stages: it parses first with {@link PredictionMode#SLL} and a {@link BailErrorStrategy},
+ * which is faster and enough for almost every query, and only when it fails parses again with the full
+ * {@link PredictionMode#LL} and the {@link QueryErrorListener}, so a wrong query reports the same error as before.
+ * <p>
+ * The lexer, the token stream and the parser are reused per thread.
+ * A parse that starts while the same thread is still using them, such as a nested parse, gets new instances.
+ * This class is used by the query providers and is not meant to be used by the application,
+ * so its package is not exported by the module.
+ *
+ * @param <L> the lexer type
+ * @param <P> the parser type
+ */
+public final class GrammarParser<L extends Lexer, P extends Parser> {
+
+    private final Function<CharStream, L> lexerFactory;
+
+    private final Function<TokenStream, P> parserFactory;
+
+    private final ThreadLocal<Instance<L, P>> instances;
+
+    private GrammarParser(Function<CharStream, L> lexerFactory, Function<TokenStream, P> parserFactory) {
+        this.lexerFactory = lexerFactory;
+        this.parserFactory = parserFactory;
+        this.instances = ThreadLocal.withInitial(this::create);
+    }
+
+    /**
+     * Parses the query from the grammar rule.
+     *
+     * @param query the query
+     * @param rule  the grammar rule, the start of the parse tree
+     * @param <T>   the parse tree type
+     * @return the parse tree
+     * @throws NullPointerException when either query or rule is null
+     * @throws QueryException       when the query has a syntax error
+     */
+    public <T extends ParseTree> T parse(String query, Function<P, T> rule) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(rule, "rule is required");
+        Instance<L, P> instance = instances.get();
+        if (instance.inUse) {
+            instance = create();
+        }
+        instance.inUse = true;
+        try {
+            return instance.parse(query, rule);
+        } finally {
+            instance.inUse = false;
+        }
+    }
+
+    private Instance<L, P> create() {
+        L lexer = lexerFactory.apply(CharStreams.fromString(""));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(QueryErrorListener.INSTANCE);
+        var tokens = new CommonTokenStream(lexer);
+        P parser = parserFactory.apply(tokens);
+        return new Instance<>(lexer, tokens, parser);
+    }
+
+    /**
+     * Creates a {@link GrammarParser} instance.
+     *
+     * @param lexerFactory  the lexer constructor
+     * @param parserFactory the parser constructor
+     * @param <L>           the lexer type
+     * @param <P>           the parser type
+     * @return a new {@link GrammarParser} instance
+     * @throws NullPointerException when either lexerFactory or parserFactory is null
+     */
+    public static <L extends Lexer, P extends Parser> GrammarParser<L, P> of(Function<CharStream, L> lexerFactory,
+                                                                           Function<TokenStream, P> parserFactory) {
+        Objects.requireNonNull(lexerFactory, "lexerFactory is required");
+        Objects.requireNonNull(parserFactory, "parserFactory is required");
+        return new GrammarParser<>(lexerFactory, parserFactory);
+    }
+
+    private static final class Instance<L extends Lexer, P extends Parser> {
+
+        private final L lexer;
+
+        private final CommonTokenStream tokens;
+
+        private final P parser;
+
+        private final BailErrorStrategy bail = new BailErrorStrategy();
+
+        private final DefaultErrorStrategy report = new DefaultErrorStrategy();
+
+        private boolean inUse;
+
+        private Instance(L lexer, CommonTokenStream tokens, P parser) {
+            this.lexer = lexer;
+            this.tokens = tokens;
+            this.parser = parser;
+        }
+
+        private <T extends ParseTree> T parse(String query, Function<P, T> rule) {
+            lexer.setInputStream(CharStreams.fromString(query));
+            tokens.setTokenSource(lexer);
+            parser.setTokenStream(tokens);
+            parser.removeErrorListeners();
+            parser.setErrorHandler(bail);
+            parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            try {
+                return rule.apply(parser);
+            } catch (ParseCancellationException exception) {
+                tokens.seek(0);
+                parser.reset();
+                parser.addErrorListener(QueryErrorListener.INSTANCE);
+                parser.setErrorHandler(report);
+                parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+                return rule.apply(parser);
+            }
+        }
+    }
+}
@@ -11,18 +11,16 @@
  */
 package org.eclipse.jnosql.communication.query.method;
 
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import jakarta.data.Direction;
 import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.query.ArrayQueryValue;
 import org.eclipse.jnosql.communication.query.BooleanQueryValue;
 import org.eclipse.jnosql.communication.query.ConditionQueryValue;
+import org.eclipse.jnosql.communication.query.internal.GrammarParser;
 import org.eclipse.jnosql.communication.query.ParamQueryValue;
 import org.eclipse.jnosql.communication.query.QueryCondition;
-import org.eclipse.jnosql.communication.query.QueryErrorListener;
 import org.eclipse.jnosql.communication.query.StringQueryValue;
 import org.eclipse.jnosql.communication.query.Where;
 import org.eclipse.jnosql.query.grammar.method.MethodBaseListener;
@@ -54,6 +52,12 @@ import static org.eclipse.jnosql.communication.Condition.OR;
 abstract class AbstractMethodQueryProvider extends MethodBaseListener {
 
     private static final String SUB_ENTITY_FLAG = "_";
+
+    private static final GrammarParser<MethodLexer, MethodParser> GRAMMAR = GrammarParser.of(MethodLexer::new,
+            MethodParser::new);
+
+    private final boolean grammar;
+
     protected Where where;
 
     protected QueryCondition condition;
@@ -62,20 +66,23 @@ abstract class AbstractMethodQueryProvider extends MethodBaseListener {
 
     protected boolean shouldCount = false;
 
-    protected void runQuery(String query) {
-
-        CharStream stream = CharStreams.fromString(query);
-        MethodLexer lexer = new MethodLexer(stream);
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        MethodParser parser = new MethodParser(tokens);
-        lexer.removeErrorListeners();
-        parser.removeErrorListeners();
-        lexer.addErrorListener(QueryErrorListener.INSTANCE);
-        parser.addErrorListener(QueryErrorListener.INSTANCE);
+    AbstractMethodQueryProvider(boolean grammar) {
+        this.grammar = grammar;
+    }
 
-        ParseTree tree = getParserTree().apply(parser);
-        ParseTreeWalker walker = new ParseTreeWalker();
-        walker.walk(this, tree);
+    /**
+     * Parses the method name with the {@link MethodNameParser} and, when it does not accept the method name,
+     * with the ANTLR grammar that reports the error.
+     *
+     * @param methodName the method name
+     */
+    protected void runQuery(String methodName) {
+        if (grammar || !MethodNameParser.parse(methodName, this)) {
+            reset();
+            ParseTree tree = GRAMMAR.parse(QueryTokenizer.of(methodName).get(), getParserTree());
+            ParseTreeWalker walker = new ParseTreeWalker();
+            walker.walk(this, tree);
+        }
 
         if (Objects.nonNull(condition)) {
             this.where = Where.of(condition);
@@ -84,103 +91,116 @@ abstract class AbstractMethodQueryProvider extends MethodBaseListener {
 
     abstract Function<MethodParser, ParseTree> getParserTree();
 
+    abstract boolean isDeleteBy();
+
+    void reset() {
+        this.where = null;
+        this.condition = null;
+        this.and = true;
+        this.shouldCount = false;
+    }
+
+    void limit(long limit) {
+    }
+
+    void orderBy(String variable, Direction direction) {
+    }
+
+    void selectStart(String text) {
+        this.shouldCount = text.startsWith("count");
+    }
+
+    void and(boolean and) {
+        this.and = and;
+    }
+
+    void condition(String variable, Condition operator, boolean hasNot) {
+        appendCondition(hasNot, getFormatField(variable), operator);
+    }
+
+    void truth(String variable, boolean value) {
+        checkCondition(new MethodCondition(getFormatField(variable), EQUALS,
+                value ? BooleanQueryValue.TRUE : BooleanQueryValue.FALSE), false);
+    }
+
+    void between(String variable, boolean hasNot) {
+        String field = getFormatField(variable);
+        ArrayQueryValue value = MethodArrayValue.of(field);
+        checkCondition(new MethodCondition(field, BETWEEN, value), hasNot);
+    }
+
+    void nullable(String variable, boolean hasNot) {
+        checkCondition(new MethodCondition(getFormatField(variable), EQUALS, StringQueryValue.of(null)), hasNot);
+    }
+
     @Override
     public void exitSelectStart(MethodParser.SelectStartContext ctx) {
-        this.shouldCount = ctx.getText().startsWith("count");
+        selectStart(ctx.getText());
     }
 
     @Override
     public void exitEq(MethodParser.EqContext ctx) {
-        Condition operator = EQUALS;
-        boolean hasNot = Objects.nonNull(ctx.not());
-        String variable = getVariable(ctx.variable());
-        appendCondition(hasNot, variable, operator);
+        condition(ctx.variable().getText(), EQUALS, Objects.nonNull(ctx.not()));
     }
 
     @Override
     public void exitTruth(MethodParser.TruthContext ctx) {
-        String variable = getVariable(ctx.variable());
-        checkCondition(new MethodCondition(variable, EQUALS, BooleanQueryValue.TRUE), false);
+        truth(ctx.variable().getText(), true);
     }
 
     @Override
     public void exitUntruth(MethodParser.UntruthContext ctx) {
-        String variable = getVariable(ctx.variable());
-        checkCondition(new MethodCondition(variable, EQUALS, BooleanQueryValue.FALSE), false);
+        truth(ctx.variable().getText(), false);
     }
 
     @Override
     public void exitGt(MethodParser.GtContext ctx) {
-        boolean hasNot = Objects.nonNull(ctx.not());
-        String variable = getVariable(ctx.variable());
-        Condition operator = GREATER_THAN;
-        appendCondition(hasNot, variable, operator);
+        condition(ctx.variable().getText(), GREATER_THAN, Objects.nonNull(ctx.not()));
     }
 
     @Override
     public void exitGte(MethodParser.GteContext ctx) {
-        boolean hasNot = Objects.nonNull(ctx.not());
-        String variable = getVariable(ctx.variable());
-        Condition operator = GREATER_EQUALS_THAN;
-        appendCondition(hasNot, variable, operator);
+        condition(ctx.variable().getText(), GREATER_EQUALS_THAN, Objects.nonNull(ctx.not()));
     }
 
     @Override
     public void exitLt(MethodParser.LtContext ctx) {
-        boolean hasNot = Objects.nonNull(ctx.not());
-        String variable = getVariable(ctx.variable());
-        Condition operator = LESSER_THAN;
-        appendCondition(hasNot, variable, operator);
+        condition(ctx.variable().getText(), LESSER_THAN, Objects.nonNull(ctx.not()));
     }
 
     @Override
     public void exitLte(MethodParser.LteContext ctx) {
-        boolean hasNot = Objects.nonNull(ctx.not());
-        String variable = getVariable(ctx.variable());
-        Condition operator = LESSER_EQUALS_THAN;
-        appendCondition(hasNot, variable, operator);
+        condition(ctx.variable().getText(), LESSER_EQUALS_THAN, Objects.nonNull(ctx.not()));
     }
 
     @Override
     public void exitLike(MethodParser.LikeContext ctx) {
-        boolean hasNot = Objects.nonNull(ctx.not());
-        String variable = getVariable(ctx.variable());
-        Condition operator = LIKE;
-        appendCondition(hasNot, variable, operator);
+        condition(ctx.variable().getText(), LIKE, Objects.nonNull(ctx.not()));
     }
 
     @Override
     public void exitIn(MethodParser.InContext ctx) {
-        boolean hasNot = Objects.nonNull(ctx.not());
-        String variable = getVariable(ctx.variable());
-        Condition operator = IN;
-        appendCondition(hasNot, variable, operator);
+        condition(ctx.variable().getText(), IN, Objects.nonNull(ctx.not()));
     }
 
     @Override
     public void exitBetween(MethodParser.BetweenContext ctx) {
-        boolean hasNot = Objects.nonNull(ctx.not());
-        String variable = getVariable(ctx.variable());
-        Condition operator = BETWEEN;
-        ArrayQueryValue value = MethodArrayValue.of(variable);
-        checkCondition(new MethodCondition(variable, operator, value), hasNot);
+        between(ctx.variable().getText(), Objects.nonNull(ctx.not()));
     }
 
     @Override
     public void exitNullable(MethodParser.NullableContext ctx) {
-        boolean hasNot = Objects.nonNull(ctx.not());
-        String variable = getVariable(ctx.variable());
-        checkCondition(new MethodCondition(variable, EQUALS, StringQueryValue.of(null)), hasNot);
+        nullable(ctx.variable().getText(), Objects.nonNull(ctx.not()));
     }
 
     @Override
     public void exitAnd(MethodParser.AndContext ctx) {
-        this.and = true;
+        and(true);
     }
 
     @Override
     public void exitOr(MethodParser.OrContext ctx) {
-        this.and = false;
+        and(false);
     }
 
     @Override
@@ -223,10 +243,6 @@ abstract class AbstractMethodQueryProvider extends MethodBaseListener {
 
     }
 
-    private String getVariable(MethodParser.VariableContext ctx) {
-        return getFormatField(ctx.getText());
-    }
-
     protected String getFormatField(String text) {
         if (text.contains(SUB_ENTITY_FLAG)) {
             return Stream.of(text.split(SUB_ENTITY_FLAG)).map(this::formatField).collect(joining("."));
@@ -21,12 +21,22 @@ import java.util.function.Function;
 
 public final class DeleteByMethodQueryProvider extends AbstractMethodQueryProvider implements BiFunction<String, String, DeleteQuery> {
 
+    /**
+     * Creates a provider that parses the method name with the hand-written {@link MethodNameParser}.
+     */
+    public DeleteByMethodQueryProvider() {
+        this(false);
+    }
+
+    DeleteByMethodQueryProvider(boolean grammar) {
+        super(grammar);
+    }
 
     @Override
     public DeleteQuery apply(String query, String entity) {
         Objects.requireNonNull(query, " query is required");
         Objects.requireNonNull(entity, " entity is required");
-        runQuery(QueryTokenizer.of(query).get());
+        runQuery(query);
         return DeleteQuery.of(entity, where);
     }
 
@@ -34,4 +44,9 @@ public final class DeleteByMethodQueryProvider extends AbstractMethodQueryProvid
     Function<MethodParser, ParseTree> getParserTree() {
         return MethodParser::deleteBy;
     }
+
+    @Override
+    boolean isDeleteBy() {
+        return true;
+    }
 }
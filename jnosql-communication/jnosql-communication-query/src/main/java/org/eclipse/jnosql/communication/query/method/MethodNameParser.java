@@ -0,0 +1,389 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.method;
+
+import jakarta.data.Direction;
+import org.eclipse.jnosql.communication.Condition;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A recursive-descent parser of the repository method names, such as {@code findByNameAndAgeGreaterThan}.
+ * It splits the method name in one pass over the characters, following the same rules of {@link QueryTokenizer},
+ * and parses the tokens following the rules of the {@code Method.g4} grammar,
+ * calling the {@link AbstractMethodQueryProvider} as the ANTLR listener does, so both build the same query.
+ * <p>
+ * It only accepts the method names that the grammar accepts and that Eclipse JNoSQL supports.
+ * For any other method name it returns false, and the ANTLR grammar parses the method name to report the error.
+ */
+final class MethodNameParser {
+
+    /**
+     * The limit to the first keyword, after this limit the first keyword will be ignored, as at {@link QueryTokenizer}
+     */
+    private static final int LIMIT_FIRST = 10;
+
+    private static final String FIRST = "First";
+
+    private static final String BY = "By";
+
+    private static final String[] START_KEYWORDS = {"findBy", "deleteBy", "countAll", "countBy", "existsBy", "OrderBy"};
+
+    private static final String[] CONDITION_KEYWORDS = {"Null", "Not", "Equals", "GreaterThanEqual", "True", "False",
+            "Contains", "EndsWith", "StartsWith", "LessThanEqual", "GreaterThan", "LessThan", "Between", "In", "Like",
+            "Asc", "Desc"};
+
+    private static final Map<String, Token> KEYWORDS = new HashMap<>();
+
+    static {
+        for (Token token : Token.values()) {
+            if (token.keyword != null) {
+                KEYWORDS.put(token.keyword, token);
+            }
+        }
+    }
+
+    private final AbstractMethodQueryProvider provider;
+
+    private final Token[] tokens;
+
+    private final String[] texts;
+
+    private int position;
+
+    private MethodNameParser(AbstractMethodQueryProvider provider, Token[] tokens, String[] texts) {
+        this.provider = provider;
+        this.tokens = tokens;
+        this.texts = texts;
+    }
+
+    /**
+     * Parses the method name, calling the provider for each part of the query.
+     *
+     * @param methodName the method name
+     * @param provider   the provider
+     * @return true when the method name was parsed, otherwise false and the provider might have a partial query
+     */
+    static boolean parse(String methodName, AbstractMethodQueryProvider provider) {
+        List<String> words = words(methodName);
+        if (words.isEmpty()) {
+            return false;
+        }
+        var tokens = new Token[words.size()];
+        var texts = new String[words.size()];
+        for (int index = 0; index < tokens.length; index++) {
+            String word = words.get(index);
+            Token token = token(word);
+            if (token == null) {
+                return false;
+            }
+            tokens[index] = token;
+            texts[index] = word;
+        }
+        var parser = new MethodNameParser(provider, tokens, texts);
+        return provider.isDeleteBy() ? parser.deleteBy() : parser.select();
+    }
+
+    private boolean deleteBy() {
+        return accept(Token.DELETE_BY) && (!is(Token.NAME) || where()) && position == tokens.length;
+    }
+
+    private boolean select() {
+        if (!selectStart()) {
+            return false;
+        }
+        if (is(Token.NAME) && !where()) {
+            return false;
+        }
+        if (is(Token.ORDER_BY) && !order()) {
+            return false;
+        }
+        return position == tokens.length;
+    }
+
+    private boolean selectStart() {
+        if (is(Token.FIND)) {
+            position++;
+            if (!accept(Token.FIRST)) {
+                return false;
+            }
+            long limit = 1L;
+            if (is(Token.INT)) {
+                try {
+                    limit = Long.parseLong(texts[position++]);
+                } catch (NumberFormatException exception) {
+                    return false;
+                }
+            }
+            if (!accept(Token.BY)) {
+                return false;
+            }
+            provider.limit(limit);
+            provider.selectStart(texts[0]);
+            return true;
+        }
+        if (is(Token.FIND_BY) || is(Token.COUNT_ALL) || is(Token.COUNT_BY) || is(Token.EXISTS_BY)) {
+            provider.selectStart(texts[position++]);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean where() {
+        if (!condition()) {
+            return false;
+        }
+        while (is(Token.AND) || is(Token.OR)) {
+            provider.and(tokens[position++] == Token.AND);
+            if (!condition()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean condition() {
+        if (!is(Token.NAME)) {
+            return false;
+        }
+        String variable = texts[position++];
+        if (is(Token.IGNORE_CASE)) {
+            return false;
+        }
+        boolean hasNot = accept(Token.NOT);
+        Token operator = position < tokens.length ? tokens[position] : null;
+        if (operator == null || operator.condition == null && operator.group == null) {
+            provider.condition(variable, Condition.EQUALS, hasNot);
+            return true;
+        }
+        if (operator.group == Group.UNSUPPORTED || operator.group == Group.TRUTH && hasNot) {
+            return false;
+        }
+        position++;
+        if (operator.group == null) {
+            provider.condition(variable, operator.condition, hasNot);
+        } else if (operator.group == Group.TRUTH) {
+            provider.truth(variable, operator == Token.TRUE);
+        } else if (operator.group == Group.BETWEEN) {
+            provider.between(variable, hasNot);
+        } else {
+            provider.nullable(variable, hasNot);
+        }
+        return true;
+    }
+
+    private boolean order() {
+        position++;
+        if (!is(Token.NAME)) {
+            return false;
+        }
+        while (is(Token.NAME)) {
+            String variable = texts[position++];
+            Direction direction = Direction.ASC;
+            if (accept(Token.DESC)) {
+                direction = Direction.DESC;
+            } else {
+                accept(Token.ASC);
+            }
+            provider.orderBy(variable, direction);
+        }
+        return true;
+    }
+
+    private boolean is(Token token) {
+        return position < tokens.length && tokens[position] == token;
+    }
+
+    private boolean accept(Token token) {
+        if (is(token)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Splits the method name in the same words as {@link QueryTokenizer}: the keywords and the text between them.
+     */
+    private static List<String> words(String methodName) {
+        List<String> words = new ArrayList<>();
+        int length = methodName.length();
+        int start = 0;
+        int index = 0;
+        while (index < length) {
+            char character = methodName.charAt(index);
+            if (Character.isWhitespace(character)) {
+                return List.of();
+            }
+            int keyword = keyword(methodName, index);
+            if (keyword == 0) {
+                index++;
+                continue;
+            }
+            if (start < index) {
+                words.add(methodName.substring(start, index));
+            }
+            words.add(methodName.substring(index, index + keyword));
+            index += keyword;
+            start = index;
+        }
+        if (start < length) {
+            words.add(methodName.substring(start));
+        }
+        int current = 0;
+        for (int position = 0; position < words.size(); position++) {
+            String word = words.get(position);
+            if (current >= LIMIT_FIRST && FIRST.equals(word) && position > 0) {
+                words.set(position - 1, words.get(position - 1).concat(word));
+                words.remove(position--);
+            }
+            current += word.length();
+        }
+        return words;
+    }
+
+    private static int keyword(String methodName, int index) {
+        for (String keyword : START_KEYWORDS) {
+            if (methodName.startsWith(keyword, index)) {
+                return keyword.length();
+            }
+        }
+        if (methodName.startsWith(FIRST, index)) {
+            int next = index + FIRST.length();
+            while (next < methodName.length() && isDigit(methodName.charAt(next))) {
+                next++;
+            }
+            if (methodName.startsWith(BY, next)) {
+                return FIRST.length();
+            }
+        }
+        if (methodName.startsWith(BY, index)) {
+            return BY.length();
+        }
+        if (methodName.startsWith("IgnoreCase", index)) {
+            return "IgnoreCase".length();
+        }
+        if (methodName.startsWith("And", index)) {
+            return "And".length();
+        }
+        if (methodName.startsWith("Or", index) && !methodName.startsWith("der", index + 2)) {
+            return "Or".length();
+        }
+        for (String keyword : CONDITION_KEYWORDS) {
+            if (methodName.startsWith(keyword, index)) {
+                return keyword.length();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the token of a word following the lexer rules of the grammar, or null when the word is not a single token.
+     */
+    private static Token token(String word) {
+        Token keyword = KEYWORDS.get(word);
+        if (keyword != null) {
+            return keyword;
+        }
+        boolean number = true;
+        for (int index = 0; index < word.length(); index++) {
+            number &= isDigit(word.charAt(index));
+        }
+        if (number) {
+            return Token.INT;
+        }
+        if (!isNameStart(word.charAt(0))) {
+            return null;
+        }
+        for (int index = 1; index < word.length(); index++) {
+            char character = word.charAt(index);
+            if (!isNameStart(character) && !isDigit(character) && character != '-') {
+                return null;
+            }
+        }
+        return Token.NAME;
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static boolean isNameStart(char character) {
+        return character >= 'a' && character <= 'z' || character >= 'A' && character <= 'Z'
+                || character == '_' || character == '.';
+    }
+
+    private enum Group {
+        TRUTH, BETWEEN, NULLABLE, UNSUPPORTED
+    }
+
+    private enum Token {
+        NAME(null),
+        INT(null),
+        DELETE_BY("deleteBy"),
+        FIND("find"),
+        BY(MethodNameParser.BY),
+        FIND_BY("findBy"),
+        COUNT_ALL("countAll"),
+        COUNT_BY("countBy"),
+        EXISTS_BY("existsBy"),
+        ORDER_BY("OrderBy"),
+        FIRST(MethodNameParser.FIRST),
+        AND("And"),
+        OR("Or"),
+        ASC("Asc"),
+        DESC("Desc"),
+        IGNORE_CASE("IgnoreCase"),
+        NOT("Not"),
+        EQUALS("Equals", Condition.EQUALS),
+        GREATER_THAN("GreaterThan", Condition.GREATER_THAN),
+        GREATER_THAN_EQUAL("GreaterThanEqual", Condition.GREATER_EQUALS_THAN),
+        LESS_THAN("LessThan", Condition.LESSER_THAN),
+        LESS_THAN_EQUAL("LessThanEqual", Condition.LESSER_EQUALS_THAN),
+        IN("In", Condition.IN),
+        LIKE("Like", Condition.LIKE),
+        TRUE("True", Group.TRUTH),
+        FALSE("False", Group.TRUTH),
+        BETWEEN("Between", Group.BETWEEN),
+        NULL("Null", Group.NULLABLE),
+        CONTAINS("Contains", Group.UNSUPPORTED),
+        ENDS_WITH("EndsWith", Group.UNSUPPORTED),
+        STARTS_WITH("StartsWith", Group.UNSUPPORTED);
+
+        private final String keyword;
+
+        private final Condition condition;
+
+        private final Group group;
+
+        Token(String keyword) {
+            this(keyword, null, null);
+        }
+
+        Token(String keyword, Condition condition) {
+            this(keyword, condition, null);
+        }
+
+        Token(String keyword, Group group) {
+            this(keyword, null, group);
+        }
+
+        Token(String keyword, Condition condition, Group group) {
+            this.keyword = keyword;
+            this.condition = condition;
+            this.group = group;
+        }
+    }
+}
@@ -13,21 +13,54 @@ package org.eclipse.jnosql.communication.query.method;
 
 
 import org.eclipse.jnosql.communication.query.SelectQuery;
+import org.eclipse.jnosql.communication.query.PrecompiledQueries;
+import org.eclipse.jnosql.communication.query.PrecompiledQueries.Kind;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 public enum SelectMethodProvider implements BiFunction<Method, String, SelectQuery> {
 
     INSTANCE;
 
+    private final ClassValue<Map<MethodKey, SelectQuery>> cache = new ClassValue<>() {
+        @Override
+        protected Map<MethodKey, SelectQuery> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
+    /**
+     * Returns the select query from the method name. The method name is parsed only once per method and entity,
+     * the following calls return the query from the cache.
+     * The cache is kept per declaring class through a {@link ClassValue}, so it does not keep the
+     * repository class, and its classloader, alive after an application is undeployed.
+     * The query precompiled at build time, see {@link PrecompiledQueries}, is used instead of parsing it.
+     *
+     * @param method the repository method
+     * @param entity the entity name
+     * @return the {@link SelectQuery}
+     * @throws NullPointerException when either method or entity is null
+     */
     @Override
     public SelectQuery apply(Method method, String entity) {
         Objects.requireNonNull(method, "method is required");
         Objects.requireNonNull(entity, "entity is required");
-        SelectMethodQueryProvider supplier = new SelectMethodQueryProvider();
-        return supplier.apply(method.getName(), entity);
+        var queries = cache.get(method.getDeclaringClass());
+        var key = new MethodKey(method.getName(), entity);
+        var query = queries.get(key);
+        if (query == null) {
+            query = PrecompiledQueries.get().select(Kind.METHOD_SELECT, method.getName(), entity)
+                    .orElseGet(() -> new SelectMethodQueryProvider().apply(method.getName(), entity));
+            var previous = queries.putIfAbsent(key, query);
+            return previous == null ? query : previous;
+        }
+        return query;
+    }
+
+    private record MethodKey(String name, String entity) {
     }
 }
@@ -29,28 +29,38 @@ public final class SelectMethodQueryProvider extends AbstractMethodQueryProvider
 
     private long limit = 0;
 
+    /**
+     * Creates a provider that parses the method name with the hand-written {@link MethodNameParser}.
+     */
+    public SelectMethodQueryProvider() {
+        this(false);
+    }
+
+    SelectMethodQueryProvider(boolean grammar) {
+        super(grammar);
+    }
+
     @Override
     public SelectQuery apply(String query, String entity) {
         Objects.requireNonNull(query, " query is required");
         Objects.requireNonNull(entity, " entity is required");
-        runQuery(QueryTokenizer.of(query).get());
-        return new MethodSelectQuery(entity, sorts, where, limit, shouldCount);
+        runQuery(query);
+        return new MethodSelectQuery(entity, List.copyOf(sorts), where, limit, shouldCount);
     }
 
     @Override
     public void exitOrderName(MethodParser.OrderNameContext ctx) {
-        sorts.add(this.sort(ctx));
+        orderBy(ctx.variable().getText(), ctx.desc() == null ? Direction.ASC : Direction.DESC);
     }
 
     @Override
     public void exitLimitNumber(MethodParser.LimitNumberContext ctx) {
-        String text = ctx.INT().getText();
-        this.limit = Long.parseLong(text);
+        limit(Long.parseLong(ctx.INT().getText()));
     }
 
     @Override
     public void exitFirstOne(MethodParser.FirstOneContext ctx) {
-        this.limit = 1L;
+        limit(1L);
     }
 
     @Override
@@ -58,11 +68,25 @@ public final class SelectMethodQueryProvider extends AbstractMethodQueryProvider
         return MethodParser::select;
     }
 
-    private Sort<?> sort(MethodParser.OrderNameContext context) {
-        String text = context.variable().getText();
-        Direction type = context.desc() == null ? Direction.ASC : Direction.DESC;
-        return Sort.of(getFormatField(text), type, false);
+    @Override
+    boolean isDeleteBy() {
+        return false;
+    }
+
+    @Override
+    void reset() {
+        super.reset();
+        this.sorts.clear();
+        this.limit = 0;
     }
 
+    @Override
+    void limit(long limit) {
+        this.limit = limit;
+    }
 
+    @Override
+    void orderBy(String variable, Direction direction) {
+        sorts.add(Sort.of(getFormatField(variable), direction, false));
+    }
 }
@@ -0,0 +1,198 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import jakarta.data.Sort;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.query.data.DeleteProvider;
+import org.eclipse.jnosql.communication.query.data.SelectProvider;
+import org.eclipse.jnosql.communication.query.data.UpdateProvider;
+import org.eclipse.jnosql.communication.query.method.DeleteByMethodQueryProvider;
+import org.eclipse.jnosql.communication.query.method.SelectMethodQueryProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.DayOfWeek;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryPlanCodecTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"FROM entity",
+            "SELECT name, age FROM entity WHERE age > 10 ORDER BY name DESC, age ASC",
+            "FROM entity WHERE name = 'Ada \"Lovelace\"' AND age >= :age OR active = TRUE",
+            "FROM entity WHERE NOT age < 10.5 OR name LIKE 'A%'",
+            "FROM entity WHERE age BETWEEN 10 AND ?1",
+            "FROM entity WHERE name IN ('Ada', :name, 'Poliana')",
+            "FROM entity WHERE day = java.time.DayOfWeek.MONDAY",
+            "SELECT COUNT(THIS) FROM entity WHERE name IS NULL"})
+    void shouldEncodeSelect(String query) {
+        var selectQuery = new SelectProvider().apply(query, null);
+        var plan = QueryPlanCodec.encode(selectQuery);
+        var decoded = QueryPlanCodec.decodeSelect(plan, null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(QueryPlanCodec.encode(decoded)).isEqualTo(plan);
+            soft.assertThat(decoded.entity()).isEqualTo(selectQuery.entity());
+            soft.assertThat(decoded.fields()).isEqualTo(selectQuery.fields());
+            soft.assertThat(decoded.orderBy()).isEqualTo(selectQuery.orderBy());
+            soft.assertThat(decoded.isCount()).isEqualTo(selectQuery.isCount());
+            soft.assertThat(decoded.where().isPresent()).isEqualTo(selectQuery.where().isPresent());
+        });
+    }
+
+    @Test
+    void shouldDecodeValues() {
+        var query = new SelectProvider().apply("FROM entity WHERE age = 10 AND day = java.time.DayOfWeek.MONDAY " +
+                "AND name = :name", null);
+        var decoded = QueryPlanCodec.decodeSelect(QueryPlanCodec.encode(query), null);
+        var conditions = ((ConditionQueryValue) decoded.where().orElseThrow().condition().value()).get();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(decoded.where().orElseThrow().condition().condition()).isEqualTo(Condition.AND);
+            soft.assertThat(conditions).hasSize(3);
+            soft.assertThat(conditions.get(0).value().get()).isEqualTo(10);
+            soft.assertThat(conditions.get(1).value().get()).isEqualTo(DayOfWeek.MONDAY);
+            soft.assertThat(conditions.get(2).value()).isInstanceOf(ParamQueryValue.class);
+            soft.assertThat(conditions.get(2).value().get()).isEqualTo("name");
+        });
+    }
+
+    @Test
+    void shouldReplaceEntityPlaceholder() {
+        var query = new SelectMethodQueryProvider().apply("findByNameOrderByAgeDesc",
+                QueryPlanCodec.ENTITY_PLACEHOLDER);
+        var decoded = QueryPlanCodec.decodeSelect(QueryPlanCodec.encode(query), "Person");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(decoded.entity()).isEqualTo("Person");
+            soft.assertThat(decoded.orderBy()).containsExactly(Sort.desc("age"));
+            soft.assertThat(decoded.where().orElseThrow().condition().name()).isEqualTo("name");
+        });
+    }
+
+    @Test
+    void shouldEncodeDelete() {
+        var query = new DeleteProvider().apply("DELETE FROM entity WHERE age > :age");
+        var decoded = QueryPlanCodec.decodeDelete(QueryPlanCodec.encode(query), null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(decoded.entity()).isEqualTo("entity");
+            soft.assertThat(decoded.where().orElseThrow().condition().condition()).isEqualTo(Condition.GREATER_THAN);
+            soft.assertThat(QueryPlanCodec.encode(decoded)).isEqualTo(QueryPlanCodec.encode(query));
+        });
+    }
+
+    @Test
+    void shouldEncodeDeleteFromMethod() {
+        var query = new DeleteByMethodQueryProvider().apply("deleteByAgeIn", QueryPlanCodec.ENTITY_PLACEHOLDER);
+        var decoded = QueryPlanCodec.decodeDelete(QueryPlanCodec.encode(query), "Person");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(decoded.entity()).isEqualTo("Person");
+            soft.assertThat(decoded.where().orElseThrow().condition().condition()).isEqualTo(Condition.IN);
+        });
+    }
+
+    @Test
+    void shouldEncodeUpdate() {
+        var query = new UpdateProvider().apply("UPDATE entity SET name = :name, age = 10 WHERE id = 'id'");
+        var decoded = QueryPlanCodec.decodeUpdate(QueryPlanCodec.encode(query), null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(decoded.entity()).isEqualTo("entity");
+            soft.assertThat(decoded.set()).hasSize(2);
+            soft.assertThat(decoded.set().get(0).name()).isEqualTo("name");
+            soft.assertThat(decoded.set().get(1).value().get()).isEqualTo(10);
+            soft.assertThat(QueryPlanCodec.encode(decoded)).isEqualTo(QueryPlanCodec.encode(query));
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenPlanIsInvalid() {
+        var plan = QueryPlanCodec.encode(new DeleteProvider().apply("DELETE FROM entity"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> QueryPlanCodec.decodeSelect(plan, null)).isInstanceOf(QueryException.class);
+            soft.assertThatThrownBy(() -> QueryPlanCodec.decodeDelete("(delete \"entity\"", null))
+                    .isInstanceOf(QueryException.class);
+            soft.assertThatThrownBy(() -> QueryPlanCodec.decodeDelete(plan + ")", null))
+                    .isInstanceOf(QueryException.class);
+            soft.assertThatThrownBy(() -> QueryPlanCodec.decodeDelete(null, null))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenQueryIsNull() {
+        assertThatThrownBy(() -> QueryPlanCodec.encode((SelectQuery) null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldFindPrecompiledQuery() {
+        var plan = QueryPlanCodec.encode(new SelectMethodQueryProvider().apply("findByName",
+                QueryPlanCodec.ENTITY_PLACEHOLDER));
+        var queries = PrecompiledQueries.of(Map.of(PrecompiledQueries.Kind.METHOD_SELECT.key("findByName"),
+                plan));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(queries.size()).isEqualTo(1);
+            soft.assertThat(queries.select(PrecompiledQueries.Kind.METHOD_SELECT, "findByName", "Person"))
+                    .get().extracting(SelectQuery::entity).isEqualTo("Person");
+            soft.assertThat(queries.select(PrecompiledQueries.Kind.SELECT, "findByName", "Person")).isEmpty();
+            soft.assertThat(queries.delete(PrecompiledQueries.Kind.METHOD_DELETE, "deleteByName", "Person"))
+                    .isEmpty();
+        });
+    }
+
+    @Test
+    void shouldLoadPrecompiledQueriesFromClasspath() throws IOException {
+        try (var loader = precompiledLoader()) {
+            var queries = PrecompiledQueries.load(loader);
+            assertThat(queries.select(PrecompiledQueries.Kind.SELECT, "FROM Precompiled", null))
+                    .get().extracting(SelectQuery::entity).isEqualTo("Precompiled");
+        }
+    }
+
+    @Test
+    void shouldLoadPrecompiledQueriesPerClassLoader() throws IOException {
+        var thread = Thread.currentThread();
+        var original = thread.getContextClassLoader();
+        try (var loader = precompiledLoader()) {
+            thread.setContextClassLoader(loader);
+            var precompiled = PrecompiledQueries.get();
+            thread.setContextClassLoader(original);
+            var application = PrecompiledQueries.get();
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(precompiled.size()).isEqualTo(1);
+                soft.assertThat(application.size()).isZero();
+                soft.assertThat(PrecompiledQueries.get()).isSameAs(application);
+            });
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    private static URLClassLoader precompiledLoader() {
+        return new URLClassLoader(new URL[]{QueryPlanCodecTest.class.getResource("/precompiled/")}, null);
+    }
+}
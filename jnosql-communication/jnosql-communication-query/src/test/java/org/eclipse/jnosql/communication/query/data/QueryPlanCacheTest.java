@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.data;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.QueryException;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryPlanCacheTest {
+
+    @Test
+    void shouldReturnErrorWhenMaxSizeIsNegative() {
+        assertThatThrownBy(() -> QueryPlanCache.of(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenQueryIsNull() {
+        var cache = QueryPlanCache.of();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> cache.select(null, "entity")).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> cache.delete(null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> cache.update(null)).isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @Test
+    void shouldReuseSelectQuery() {
+        var cache = QueryPlanCache.of();
+        var first = cache.select("FROM entity WHERE name = :name", null);
+        var second = cache.select("FROM entity WHERE name = :name", null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(second).isSameAs(first);
+            soft.assertThat(first).isEqualTo(new SelectProvider().apply("FROM entity WHERE name = :name", null));
+            soft.assertThat(cache.hits()).isEqualTo(1L);
+            soft.assertThat(cache.misses()).isEqualTo(1L);
+            soft.assertThat(cache.size()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldUseEntityAsKey() {
+        var cache = QueryPlanCache.of();
+        var first = cache.select("WHERE name = :name", "entity");
+        var second = cache.select("WHERE name = :name", "entity2");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first.entity()).isEqualTo("entity");
+            soft.assertThat(second.entity()).isEqualTo("entity2");
+            soft.assertThat(cache.misses()).isEqualTo(2L);
+            soft.assertThat(cache.hits()).isZero();
+        });
+    }
+
+    @Test
+    void shouldReuseDeleteAndUpdateQuery() {
+        var cache = QueryPlanCache.of();
+        var delete = cache.delete("DELETE FROM entity WHERE age > 10");
+        var update = cache.update("UPDATE entity SET name = 'Ada'");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.delete("DELETE FROM entity WHERE age > 10")).isSameAs(delete);
+            soft.assertThat(cache.update("UPDATE entity SET name = 'Ada'")).isSameAs(update);
+            soft.assertThat(cache.hits()).isEqualTo(2L);
+            soft.assertThat(cache.misses()).isEqualTo(2L);
+        });
+    }
+
+    @Test
+    void shouldEvictWhenReachesMaxSize() {
+        var cache = QueryPlanCache.of(2);
+        cache.select("FROM entity", null);
+        cache.select("FROM entity2", null);
+        cache.select("FROM entity3", null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.size()).isEqualTo(2);
+            soft.assertThat(cache.evictions()).isEqualTo(1L);
+        });
+        cache.select("FROM entity", null);
+        assertThat(cache.misses()).isEqualTo(4L);
+    }
+
+    @Test
+    void shouldNotStoreInvalidQuery() {
+        var cache = QueryPlanCache.of();
+        assertThatThrownBy(() -> cache.select("FROM entity WHERE", null)).isInstanceOf(QueryException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldClear() {
+        var cache = QueryPlanCache.of();
+        cache.select("FROM entity", null);
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldReturnSameSharedCache() {
+        assertThat(QueryPlanCache.shared()).isSameAs(QueryPlanCache.shared())
+                .isNotSameAs(QueryPlanCache.of());
+    }
+
+    @Test
+    void shouldReturnSharedCachePerClassLoader() {
+        var thread = Thread.currentThread();
+        var current = thread.getContextClassLoader();
+        var shared = QueryPlanCache.shared();
+        var loader = new URLClassLoader(new URL[0], current);
+        try {
+            thread.setContextClassLoader(loader);
+            var other = QueryPlanCache.shared();
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(other).isNotSameAs(shared).isSameAs(QueryPlanCache.shared());
+                soft.assertThat(other.size()).isZero();
+            });
+        } finally {
+            thread.setContextClassLoader(current);
+        }
+        assertThat(QueryPlanCache.shared()).isSameAs(shared);
+    }
+}
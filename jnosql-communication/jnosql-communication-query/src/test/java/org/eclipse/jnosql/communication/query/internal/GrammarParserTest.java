@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.internal;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.query.method.QueryTokenizer;
+import org.eclipse.jnosql.query.grammar.data.JDQLLexer;
+import org.eclipse.jnosql.query.grammar.data.JDQLParser;
+import org.eclipse.jnosql.query.grammar.method.MethodLexer;
+import org.eclipse.jnosql.query.grammar.method.MethodParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GrammarParserTest {
+
+    private final GrammarParser<JDQLLexer, JDQLParser> grammar = GrammarParser.of(JDQLLexer::new, JDQLParser::new);
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> GrammarParser.of(null, JDQLParser::new))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> grammar.parse(null, JDQLParser::select_statement))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> grammar.parse("FROM entity", null))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @Test
+    void shouldParse() {
+        var tree = grammar.parse("FROM entity WHERE age > 10 ORDER BY name ASC", JDQLParser::select_statement);
+        assertThat(tree.getText()).isEqualTo("FROMentityWHEREage>10ORDERBYnameASC");
+    }
+
+    @Test
+    void shouldReuseParserForNextQuery() {
+        var first = grammar.parse("FROM entity WHERE age > 10", JDQLParser::select_statement);
+        var second = grammar.parse("DELETE FROM book", JDQLParser::delete_statement);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first.getText()).isEqualTo("FROMentityWHEREage>10");
+            soft.assertThat(second.getText()).isEqualTo("DELETEFROMbook");
+        });
+    }
+
+    @Test
+    void shouldReturnSameErrorAsFullParser() {
+        assertThatThrownBy(() -> grammar.parse("FROM entity WHERE age = = 10", JDQLParser::select_statement))
+                .isInstanceOf(QueryException.class)
+                .hasMessageStartingWith("line 1:");
+    }
+
+    @Test
+    void shouldParseAfterError() {
+        assertThatThrownBy(() -> grammar.parse("FROM entity WHERE", JDQLParser::select_statement))
+                .isInstanceOf(QueryException.class);
+        var tree = grammar.parse("FROM entity", JDQLParser::select_statement);
+        assertThat(tree.getText()).isEqualTo("FROMentity");
+    }
+
+    @Test
+    void shouldParseNested() {
+        var inner = new String[1];
+        var tree = grammar.parse("FROM entity", parser -> {
+            inner[0] = grammar.parse("FROM nested", JDQLParser::select_statement).getText();
+            return parser.select_statement();
+        });
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(tree.getText()).isEqualTo("FROMentity");
+            soft.assertThat(inner[0]).isEqualTo("FROMnested");
+        });
+    }
+
+    @Test
+    void shouldParseMethodGrammar() {
+        var method = GrammarParser.of(MethodLexer::new, MethodParser::new);
+        var tree = method.parse(QueryTokenizer.of("findByNameAndAgeGreaterThan").get(), MethodParser::select);
+        assertThat(tree.getText()).isEqualTo("findByNameAndAgeGreaterThan<EOF>");
+    }
+
+    @Test
+    void shouldParseConcurrently() {
+        List<CompletableFuture<String>> futures = IntStream.range(0, 50)
+                .mapToObj(index -> CompletableFuture.supplyAsync(() -> grammar
+                        .parse("FROM entity" + index + " WHERE age > " + index, JDQLParser::select_statement)
+                        .getText()))
+                .toList();
+
+        for (int index = 0; index < futures.size(); index++) {
+            assertThat(futures.get(index).join()).isEqualTo("FROMentity" + index + "WHEREage>" + index + "");
+        }
+    }
+}
@@ -27,6 +27,22 @@ class DeleteMethodProviderTest {
         Assertions.assertEquals("Person", query.entity());
     }
 
+    @Test
+    void shouldReuseQueryFromSameMethod() {
+        Method method = PersonRepository.class.getDeclaredMethods()[0];
+        DeleteQuery query = DeleteMethodProvider.INSTANCE.apply(method, "Person");
+        Assertions.assertSame(query, DeleteMethodProvider.INSTANCE.apply(method, "Person"));
+    }
+
+    @Test
+    void shouldUseEntityAtCache() {
+        Method method = PersonRepository.class.getDeclaredMethods()[0];
+        DeleteQuery query = DeleteMethodProvider.INSTANCE.apply(method, "Person");
+        DeleteQuery otherQuery = DeleteMethodProvider.INSTANCE.apply(method, "Human");
+        Assertions.assertEquals("Person", query.entity());
+        Assertions.assertEquals("Human", otherQuery.entity());
+    }
+
     interface PersonRepository{
         void deleteByAge(Integer age);
     }
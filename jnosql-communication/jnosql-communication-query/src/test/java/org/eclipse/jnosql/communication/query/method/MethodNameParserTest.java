@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.method;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.query.QueryPlanCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MethodNameParserTest {
+
+    private static final String[] WORDS = {"find", "findBy", "countBy", "countAll", "existsBy", "deleteBy", "First",
+            "10", "By", "Name", "Age", "Salary_Currency", "Index", "Order", "Origin", "Description", "Not", "And",
+            "Or", "OrderBy", "Asc", "Desc", "Equals", "GreaterThan", "GreaterThanEqual", "LessThan", "LessThanEqual",
+            "Between", "In", "Like", "Null", "True", "False", "IgnoreCase", "Contains", "StartsWith", "EndsWith",
+            "$", "1"};
+
+    @ParameterizedTest
+    @ValueSource(strings = {"countAll", "countBy", "countByActiveFalse", "countByActiveTrue", "countByAgeAndName",
+            "countByAgeBetween", "countByAgeGreaterThan", "countByAgeGreaterThanEqual",
+            "countByAgeGreaterThanOrNameIn", "countByAgeIn", "countByAgeLessThan",
+            "countByAgeLessThanEqual", "countByAgeLike", "countByAgeNotBetween",
+            "countByAgeNotGreaterThan", "countByAgeNotGreaterThanEqual", "countByAgeNotIn",
+            "countByAgeNotLessThan", "countByAgeNotLessThanEqual", "countByAgeNotLike",
+            "countByAgeOrName", "countByAgeOrNameLessThan", "countByName", "countByNameEquals",
+            "countByNameNot", "countByNameNotEquals", "countByNameNotNull", "countByNameNull",
+            "countByOrderByName", "countByOrderByNameAsc", "countByOrderByNameAscAgeAsc",
+            "countByOrderByNameDesc", "countByOrderByNameDescAge", "countByOrderByNameDescAgeAsc",
+            "countByOrderByNameDescAgeDesc", "countBySalary_Currency",
+            "countBySalary_CurrencyAndCredential_Role", "countBySalary_CurrencyAndName",
+            "countBySalary_CurrencyOrderBySalary_Value", "existsBy", "existsByActiveFalse",
+            "existsByActiveTrue", "existsByAgeAndName", "existsByAgeBetween",
+            "existsByAgeGreaterThan", "existsByAgeGreaterThanEqual",
+            "existsByAgeGreaterThanOrNameIn", "existsByAgeIn", "existsByAgeLessThan",
+            "existsByAgeLessThanEqual", "existsByAgeLike", "existsByAgeNotBetween",
+            "existsByAgeNotGreaterThan", "existsByAgeNotGreaterThanEqual", "existsByAgeNotIn",
+            "existsByAgeNotLessThan", "existsByAgeNotLessThanEqual", "existsByAgeNotLike",
+            "existsByAgeOrName", "existsByAgeOrNameLessThan", "existsByName", "existsByNameEquals",
+            "existsByNameNot", "existsByNameNotEquals", "existsByNameNotNull", "existsByNameNull",
+            "existsByOrderByName", "existsByOrderByNameAsc", "existsByOrderByNameAscAgeAsc",
+            "existsByOrderByNameDesc", "existsByOrderByNameDescAge",
+            "existsByOrderByNameDescAgeAsc", "existsByOrderByNameDescAgeDesc",
+            "existsBySalary_Currency", "existsBySalary_CurrencyAndCredential_Role",
+            "existsBySalary_CurrencyAndName", "existsBySalary_CurrencyOrderBySalary_Value",
+            "findBy", "findByActiveFalse", "findByActiveTrue", "findByAge", "findByAgeAndName",
+            "findByAgeBetween", "findByAgeGreaterThan", "findByAgeGreaterThanEqual",
+            "findByAgeGreaterThanOrNameIn", "findByAgeIn", "findByAgeLessThan",
+            "findByAgeLessThanEqual", "findByAgeLike", "findByAgeNotBetween",
+            "findByAgeNotGreaterThan", "findByAgeNotGreaterThanEqual", "findByAgeNotIn",
+            "findByAgeNotLessThan", "findByAgeNotLessThanEqual", "findByAgeNotLike",
+            "findByAgeOrName", "findByAgeOrNameLessThan", "findByFirstNameAndLastName",
+            "findByFirstNameLike", "findByFirstNameLikeOrderByNameAscAge",
+            "findByFirstNameLikeOrderByNameAscAgeDesc", "findByFirstNameNotLike",
+            "findByHexadecimalIgnoreCase", "findByHexadecimalIgnoreCaseNot",
+            "findByLastNameAndFirstName", "findByLastNameOrFirstName", "findByName",
+            "findByNameAndAge", "findByNameContains", "findByNameEndsWith", "findByNameEquals",
+            "findByNameNot", "findByNameNotContains", "findByNameNotEndsWith",
+            "findByNameNotEquals", "findByNameNotNull", "findByNameNotStartsWith", "findByNameNull",
+            "findByNameOrAge", "findByNameOrAgeOrderByName", "findByNameOrAgeOrderByNameAsc",
+            "findByNameOrAgeOrderByNameDesc", "findByNameStartsWith", "findByOrderByName",
+            "findByOrderByNameAsc", "findByOrderByNameAscAgeAsc", "findByOrderByNameDesc",
+            "findByOrderByNameDescAge", "findByOrderByNameDescAgeAsc",
+            "findByOrderByNameDescAgeDesc", "findBySalary_Currency",
+            "findBySalary_CurrencyAndCredential_Role", "findBySalary_CurrencyAndName",
+            "findBySalary_CurrencyOrderBySalary_Value", "findByStartDateBetween",
+            "findByStreetNameIgnoreCaseLike", "findByStreetNameIgnoreCaseNotLike", "findFirst10By",
+            "findFirstBy", "findFirstByHexadecimalStartsWithAndIsControlOrderByIdAsc",
+            "findFirst10ByNameOrderByAgeDesc", "findByNameFirst10By", "findByIndexIn", "findByOriginAndDescription",
+            "findByNameOrderByName", "findAll", "findByName$", "findByAge OrderByName", "findFirst99999999999999999999By",
+            "findByNameNotTrue", "findByName_", "findByNameAnd", "findByOrderBy", "countAllByName"})
+    void shouldParseSelectAsGrammar(String methodName) {
+        assertThat(select(methodName, false)).isEqualTo(select(methodName, true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"deleteBy", "deleteByActiveFalse", "deleteByActiveTrue", "deleteByAge",
+            "deleteByAgeAndName", "deleteByAgeBetween", "deleteByAgeGreaterThan",
+            "deleteByAgeGreaterThanEqual", "deleteByAgeGreaterThanOrNameIn", "deleteByAgeIn",
+            "deleteByAgeLessThan", "deleteByAgeLessThanEqual", "deleteByAgeLike",
+            "deleteByAgeNotBetween", "deleteByAgeNotGreaterThan", "deleteByAgeNotGreaterThanEqual",
+            "deleteByAgeNotIn", "deleteByAgeNotLessThan", "deleteByAgeNotLessThanEqual",
+            "deleteByAgeNotLike", "deleteByAgeOrName", "deleteByAgeOrNameLessThan",
+            "deleteByFirstNameLike", "deleteByFirstNameNotLike", "deleteByLastNameAndFirstName",
+            "deleteByLastNameOrFirstName", "deleteByName", "deleteByNameAndAge",
+            "deleteByNameEquals", "deleteByNameNotEquals", "deleteByNameOrAge",
+            "deleteBySalary_Currency", "deleteBySalary_CurrencyAndCredential_Role",
+            "deleteBySalary_CurrencyAndName", "deleteByStartDateBetween",
+            "deleteByNameOrderByAge", "deleteByFirst10By", "deleteByNameIgnoreCase", "deleteByNameContains",
+            "findByName"})
+    void shouldParseDeleteAsGrammar(String methodName) {
+        assertThat(delete(methodName, false)).isEqualTo(delete(methodName, true));
+    }
+
+    @Test
+    void shouldParseRandomMethodNamesAsGrammar() {
+        var random = new Random(42);
+        for (int index = 0; index < 5_000; index++) {
+            var methodName = new StringBuilder(random.nextBoolean() ? "findBy" : "countBy");
+            int size = random.nextInt(8);
+            for (int word = 0; word < size; word++) {
+                methodName.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            String name = methodName.toString();
+            assertThat(select(name, false)).as(name).isEqualTo(select(name, true));
+            String deleteName = "deleteBy" + name.substring(name.indexOf("By") + 2);
+            assertThat(delete(deleteName, false)).as(deleteName).isEqualTo(delete(deleteName, true));
+        }
+    }
+
+    @Test
+    void shouldParseWithoutGrammar() {
+        var provider = new SelectMethodQueryProvider();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(MethodNameParser.parse("findFirst5ByNameAndAgeGreaterThanOrderByAgeDesc", provider))
+                    .isTrue();
+            soft.assertThat(MethodNameParser.parse("countBySalary_CurrencyNotIn", new SelectMethodQueryProvider()))
+                    .isTrue();
+            soft.assertThat(MethodNameParser.parse("deleteByActiveTrueOrAgeBetween", new DeleteByMethodQueryProvider()))
+                    .isTrue();
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"findByNameContains", "findByNameIgnoreCase", "findByName$", "findAll", "findByNameAnd",
+            "findByIndex", "deleteByName", ""})
+    void shouldLeaveToGrammar(String methodName) {
+        assertThat(MethodNameParser.parse(methodName, new SelectMethodQueryProvider())).isFalse();
+    }
+
+    private static String select(String methodName, boolean grammar) {
+        return outcome(() -> QueryPlanCodec.encode(new SelectMethodQueryProvider(grammar).apply(methodName, "entity")));
+    }
+
+    private static String delete(String methodName, boolean grammar) {
+        return outcome(() -> QueryPlanCodec.encode(new DeleteByMethodQueryProvider(grammar).apply(methodName, "entity")));
+    }
+
+    private static String outcome(Supplier<String> plan) {
+        try {
+            return plan.get().replaceAll("_\\d+\"", "\"");
+        } catch (RuntimeException exception) {
+            return exception.getClass().getName() + ": " + exception.getMessage();
+        }
+    }
+}
@@ -30,6 +30,22 @@ class SelectMethodProviderTest {
     }
 
 
+    @Test
+    void shouldReuseQueryFromSameMethod() {
+        Method method = PersonRepository.class.getDeclaredMethods()[0];
+        SelectQuery query = SelectMethodProvider.INSTANCE.apply(method, "Person");
+        Assertions.assertSame(query, SelectMethodProvider.INSTANCE.apply(method, "Person"));
+    }
+
+    @Test
+    void shouldUseEntityAtCache() {
+        Method method = PersonRepository.class.getDeclaredMethods()[0];
+        SelectQuery query = SelectMethodProvider.INSTANCE.apply(method, "Person");
+        SelectQuery otherQuery = SelectMethodProvider.INSTANCE.apply(method, "Human");
+        Assertions.assertEquals("Person", query.entity());
+        Assertions.assertEquals("Human", otherQuery.entity());
+    }
+
     interface PersonRepository{
         List<String> findByAge(Integer age);
     }
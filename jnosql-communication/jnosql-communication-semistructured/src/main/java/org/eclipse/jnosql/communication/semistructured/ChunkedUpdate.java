@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+
+package org.eclipse.jnosql.communication.semistructured;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Runs an {@link UpdateQuery} in memory, one chunk of entities at a time, for the default
+ * {@link DatabaseManager#update(UpdateQuery)} and {@link DatabaseManager#executeUpdate(UpdateQuery)}.
+ */
+final class ChunkedUpdate {
+
+    private ChunkedUpdate() {
+    }
+
+    /**
+     * Reads the entities of the query as a stream, sets the elements of the query and sends them
+     * to the action in chunks of the given size, so it never keeps more than a chunk of entities.
+     *
+     * @param manager   the manager that selects the entities
+     * @param query     the update query
+     * @param chunkSize the maximum number of entities at each chunk
+     * @param action    the action that writes each chunk
+     * @return the number of entities sent to the action
+     * @throws IllegalArgumentException when the chunk size is lower than one
+     */
+    static long update(DatabaseManager manager, UpdateQuery query, int chunkSize,
+                       Consumer<List<CommunicationEntity>> action) {
+        checkChunkSize(chunkSize);
+        long count = 0;
+        try (Stream<CommunicationEntity> entities = manager.select(query.toSelectQuery())) {
+            List<CommunicationEntity> chunk = new ArrayList<>(chunkSize);
+            Iterator<CommunicationEntity> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                CommunicationEntity entity = iterator.next();
+                entity.addAll(query.set());
+                chunk.add(entity);
+                if (chunk.size() == chunkSize) {
+                    action.accept(chunk);
+                    count += chunk.size();
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                action.accept(chunk);
+                count += chunk.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the updated entities of the query, reading the entities of the query as a stream and writing them
+     * with {@link DatabaseManager#update(Iterable)} one chunk at a time as the result is read, so it never keeps
+     * more than a chunk of entities. The result can be read only once, and it closes the stream of the query
+     * when it reaches the end or when a chunk fails.
+     *
+     * @param manager   the manager that selects and updates the entities
+     * @param query     the update query
+     * @param chunkSize the maximum number of entities at each chunk
+     * @return the updated entities
+     * @throws IllegalArgumentException when the chunk size is lower than one
+     */
+    static Iterable<CommunicationEntity> entities(DatabaseManager manager, UpdateQuery query, int chunkSize) {
+        checkChunkSize(chunkSize);
+        AtomicBoolean read = new AtomicBoolean();
+        return () -> {
+            if (!read.compareAndSet(false, true)) {
+                throw new IllegalStateException("The updated entities of " + query.name()
+                        + " can be read only once");
+            }
+            return new Chunks(manager, query, chunkSize);
+        };
+    }
+
+    private static void checkChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be greater than zero: " + chunkSize);
+        }
+    }
+
+    private static final class Chunks implements Iterator<CommunicationEntity> {
+
+        private final DatabaseManager manager;
+
+        private final UpdateQuery query;
+
+        private final int chunkSize;
+
+        private Stream<CommunicationEntity> selected;
+
+        private Iterator<CommunicationEntity> entities;
+
+        private Iterator<CommunicationEntity> updated = Collections.emptyIterator();
+
+        private Chunks(DatabaseManager manager, UpdateQuery query, int chunkSize) {
+            this.manager = manager;
+            this.query = query;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!updated.hasNext()) {
+                if (selected == null) {
+                    selected = manager.select(query.toSelectQuery());
+                    entities = selected.iterator();
+                }
+                try {
+                    if (!entities.hasNext()) {
+                        selected.close();
+                        return false;
+                    }
+                    List<CommunicationEntity> chunk = new ArrayList<>(chunkSize);
+                    while (chunk.size() < chunkSize && entities.hasNext()) {
+                        CommunicationEntity entity = entities.next();
+                        entity.addAll(query.set());
+                        chunk.add(entity);
+                    }
+                    updated = manager.update(chunk).iterator();
+                } catch (RuntimeException exception) {
+                    selected.close();
+                    throw exception;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public CommunicationEntity next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There is no updated entity left");
+            }
+            return updated.next();
+        }
+    }
+}
@@ -25,11 +25,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
-import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.collectingAndThen;
-import static java.util.stream.Collectors.toList;
 
 /**
  * Represents a communication level entity in the Eclipse JNoSQL framework.
@@ -42,15 +39,21 @@ import static java.util.stream.Collectors.toList;
  * @see Element
  * @see CommunicationEntity#elements()
  * @see CommunicationEntity#name()
+ * @see EntityShape
  */
 public class CommunicationEntity {
 
-    private final Map<String, Element> elements = new HashMap<>();
+    private final ElementStorage elements;
 
     private final String name;
 
     CommunicationEntity(String name) {
+        this(name, new HashElementStorage());
+    }
+
+    CommunicationEntity(String name, ElementStorage elements) {
         this.name = name;
+        this.elements = elements;
     }
 
 
@@ -73,7 +76,7 @@ public class CommunicationEntity {
      */
     public void add(Element element) {
         Objects.requireNonNull(element, "Column is required");
-        this.elements.put(element.name(), element);
+        this.elements.add(element);
     }
 
     /**
@@ -85,7 +88,7 @@ public class CommunicationEntity {
      */
     public void add(String name, Object value) {
         requireNonNull(name, "name is required");
-        this.elements.put(name, Element.of(name, Value.of(value)));
+        this.elements.add(name, value);
     }
 
     /**
@@ -97,7 +100,7 @@ public class CommunicationEntity {
      */
     public void add(String name, Value value) {
         requireNonNull(name, "name is required");
-        this.elements.put(name, Element.of(name, value));
+        this.elements.add(name, value);
     }
 
     /**
@@ -108,7 +111,7 @@ public class CommunicationEntity {
      */
     public void addNull(String name){
         requireNonNull(name, "name is required");
-        this.elements.put(name, Element.of(name, Value.ofNull()));
+        this.elements.add(name, Value.ofNull());
     }
 
     /**
@@ -118,10 +121,9 @@ public class CommunicationEntity {
      * @return an unmodifiable map containing the elements of this communication entity
      */
     public Map<String, Object> toMap() {
-        Map<String, Object> map = new HashMap<>();
-        for (Map.Entry<String, Element> entry : elements.entrySet()) {
-            Element element = entry.getValue();
-            map.put(entry.getKey(), convert(element.get()));
+        Map<String, Object> map = new HashMap<>(elements.size() * 4 / 3 + 1);
+        for (Element element : elements) {
+            map.put(element.name(), convert(element.get()));
         }
         return Collections.unmodifiableMap(map);
     }
@@ -133,9 +135,7 @@ public class CommunicationEntity {
      * @return an unmodifiable list containing all elements
      */
     public List<Element> elements() {
-        return elements.values()
-                .stream()
-                .collect(collectingAndThen(toList(), Collections::unmodifiableList));
+        return elements.elements();
     }
 
     /**
@@ -156,7 +156,7 @@ public class CommunicationEntity {
      */
     public boolean remove(String name) {
         requireNonNull(name, "name is required");
-        return elements.remove(name) != null;
+        return elements.remove(name);
     }
 
     /**
@@ -168,8 +168,7 @@ public class CommunicationEntity {
      */
     public Optional<Element> find(String columnName) {
         requireNonNull(columnName, "columnName is required");
-        Element element = elements.get(columnName);
-        return ofNullable(element);
+        return ofNullable(elements.get(columnName));
     }
 
     /**
@@ -185,8 +184,7 @@ public class CommunicationEntity {
     public <T> Optional<T> find(String elementName, Class<T> type) {
         Objects.requireNonNull(elementName, "elementName is required");
         Objects.requireNonNull(type, "type is required");
-        return ofNullable(elements.get(elementName))
-                .map(c -> c.get(type));
+        return ofNullable(elements.get(elementName, type));
     }
 
     /**
@@ -202,8 +200,7 @@ public class CommunicationEntity {
     public <T> Optional<T> find(String elementName, TypeSupplier<T> type) {
         Objects.requireNonNull(elementName, "elementName is required");
         Objects.requireNonNull(type, "type is required");
-        return ofNullable(elements.get(elementName))
-                .map(v -> v.get(type));
+        return ofNullable(elements.get(elementName, type));
     }
 
     /**
@@ -221,7 +218,7 @@ public class CommunicationEntity {
      * @return {@code true} if this communication entity contains no elements, {@code false} otherwise
      */
     public boolean isEmpty() {
-        return elements.isEmpty();
+        return elements.size() == 0;
     }
 
     /**
@@ -230,9 +227,7 @@ public class CommunicationEntity {
      * @return a new instance of CommunicationEntity with the same elements and name
      */
     public CommunicationEntity copy() {
-        CommunicationEntity entity = new CommunicationEntity(this.name);
-        entity.elements.putAll(new HashMap<>(this.elements));
-        return entity;
+        return new CommunicationEntity(this.name, elements.copy());
     }
 
     /**
@@ -241,7 +236,7 @@ public class CommunicationEntity {
      * @return an unmodifiable set containing the names of all elements
      */
     public Set<String> elementNames() {
-        return unmodifiableSet(elements.keySet());
+        return elements.names();
     }
 
     /**
@@ -250,11 +245,7 @@ public class CommunicationEntity {
      * @return an unmodifiable collection containing the values of all elements
      */
     public Collection<Value> values() {
-        return elements
-                .values()
-                .stream()
-                .map(Element::value)
-                .collect(collectingAndThen(toList(), Collections::unmodifiableList));
+        return elements.values();
     }
 
     /**
@@ -266,7 +257,7 @@ public class CommunicationEntity {
      */
     public boolean contains(String name) {
         requireNonNull(name, "name is required");
-        return elements.containsKey(name);
+        return elements.contains(name);
     }
 
     /**
@@ -281,17 +272,31 @@ public class CommunicationEntity {
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        if (!(o instanceof CommunicationEntity that)) {
+            return false;
+        }
+        if (!Objects.equals(name, that.name) || elements.size() != that.elements.size()) {
             return false;
         }
-        CommunicationEntity that = (CommunicationEntity) o;
-        return Objects.equals(elements, that.elements) &&
-                Objects.equals(name, that.name);
+        for (Element element : elements) {
+            if (!element.equals(that.elements.get(element.name()))) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    /**
+     * Returns the same hash code of the elements by name at a {@link Map}, without creating the map,
+     * so the entities are equal regardless of how they keep the elements.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(elements, name);
+        int elementsHash = 0;
+        for (Element element : elements) {
+            elementsHash += element.name().hashCode() ^ element.hashCode();
+        }
+        return Objects.hash(elementsHash, name);
     }
 
     @Override
@@ -327,8 +332,27 @@ public class CommunicationEntity {
         return communicationEntity;
     }
 
+    /**
+     * Creates a new instance of CommunicationEntity over the specified map, such as the document of a driver,
+     * with the same elements as {@code CommunicationEntity.of(name, Elements.of(values))}.
+     * Instead of converting the whole map, it decodes each element, including the sub-documents,
+     * only when it is read, so a partial read pays only for the elements it touches.
+     * The entity never changes the map, and the map must not change while the entity reads it.
+     *
+     * @param name   the name of the communication entity
+     * @param values the map of the elements
+     * @return a new CommunicationEntity instance over the map
+     * @throws NullPointerException if either the provided name or map is {@code null}
+     * @see Elements#of(Map)
+     */
+    public static CommunicationEntity view(String name, Map<String, ?> values) {
+        requireNonNull(name, "name is required");
+        requireNonNull(values, "values is required");
+        return new CommunicationEntity(name, new MapElementStorage(values));
+    }
+
     @SuppressWarnings("unchecked")
-    private Object convert(Object value) {
+    static Object convert(Object value) {
         if (value instanceof Element) {
             Element element = Element.class.cast(value);
             return Collections.singletonMap(element.name(), convert(element.get()));
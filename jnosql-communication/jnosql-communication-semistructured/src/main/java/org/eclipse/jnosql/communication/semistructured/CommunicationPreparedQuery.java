@@ -0,0 +1,204 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+
+import jakarta.data.Direction;
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.query.UpdateItem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * An immutable query that is prepared once and executed many times.
+ * Unlike {@link CommunicationPreparedStatement}, this instance does not hold any parameter value,
+ * so it can be cached and shared across threads. Each execution creates a {@link CommunicationQueryBinder}
+ * from {@link #binder()} that holds the values of that execution in a fixed-size array,
+ * where each parameter has its position resolved when the query was prepared.
+ *
+ * <pre>{@code
+ * CommunicationPreparedQuery prepared = parser.prepareQuery("FROM Person WHERE age > :age", null, observer);
+ * SelectQuery query = prepared.binder().bind("age", 10).select();
+ * }</pre>
+ */
+public final class CommunicationPreparedQuery {
+
+    private final CommunicationPreparedStatement.PreparedStatementType type;
+
+    private final Function<Object[], ?> template;
+
+    private final Map<String, Integer> indexes;
+
+    private final List<String> parameters;
+
+    private CommunicationPreparedQuery(CommunicationPreparedStatement.PreparedStatementType type,
+                                       Function<Object[], ?> template,
+                                       ParamSlots slots) {
+        this.type = type;
+        this.indexes = slots.indexes();
+        this.parameters = slots.names();
+        if (parameters.isEmpty()) {
+            Object query = template.apply(new Object[0]);
+            this.template = s -> query;
+        } else {
+            this.template = template;
+        }
+    }
+
+    /**
+     * Creates a new binder to set the parameters of one execution.
+     *
+     * @return a new {@link CommunicationQueryBinder} instance
+     */
+    public CommunicationQueryBinder binder() {
+        return new CommunicationQueryBinder(this);
+    }
+
+    /**
+     * Returns the parameter names in the order they appear at the query.
+     *
+     * @return the parameter names
+     */
+    public List<String> parameters() {
+        return parameters;
+    }
+
+    /**
+     * Checks if the query is a count query.
+     *
+     * @return true if the query is a count query
+     */
+    public boolean isCount() {
+        return CommunicationPreparedStatement.PreparedStatementType.COUNT.equals(type);
+    }
+
+    CommunicationPreparedStatement.PreparedStatementType type() {
+        return type;
+    }
+
+    int index(String name) {
+        Integer index = indexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    Object apply(Object[] slots) {
+        return template.apply(slots);
+    }
+
+    @Override
+    public String toString() {
+        return "CommunicationPreparedQuery{" +
+                "type=" + type +
+                ", parameters=" + parameters +
+                '}';
+    }
+
+    /**
+     * Creates a {@link CommunicationPreparedQuery} from a select query.
+     *
+     * @param selectQuery the select query
+     * @param observer    the observer
+     * @return a {@link CommunicationPreparedQuery} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static CommunicationPreparedQuery select(org.eclipse.jnosql.communication.query.SelectQuery selectQuery,
+                                                    CommunicationObserverParser observer) {
+        Objects.requireNonNull(selectQuery, "selectQuery is required");
+        Objects.requireNonNull(observer, "observer is required");
+        var slots = new ParamSlots();
+        var entity = observer.fireEntity(selectQuery.entity());
+        var limit = selectQuery.limit();
+        var skip = selectQuery.skip();
+        var count = selectQuery.isCount();
+        List<String> columns = selectQuery.fields().stream()
+                .map(f -> observer.fireSelectField(entity, f))
+                .toList();
+        List<Sort<?>> sorts = selectQuery.orderBy().stream()
+                .<Sort<?>>map(s -> Sort.of(observer.fireSortProperty(entity, s.property()),
+                        s.isAscending() ? Direction.ASC : Direction.DESC, false))
+                .toList();
+        var condition = selectQuery.where()
+                .map(w -> Conditions.compile(w, slots, observer, entity))
+                .orElse(null);
+
+        Function<Object[], SelectQuery> template = s -> new DefaultSelectQuery(limit, skip, entity, columns, sorts,
+                condition == null ? null : condition.apply(s), count);
+        var type = count ? CommunicationPreparedStatement.PreparedStatementType.COUNT
+                : CommunicationPreparedStatement.PreparedStatementType.SELECT;
+        return new CommunicationPreparedQuery(type, template, slots);
+    }
+
+    /**
+     * Creates a {@link CommunicationPreparedQuery} from a delete query.
+     *
+     * @param deleteQuery the delete query
+     * @param observer    the observer
+     * @return a {@link CommunicationPreparedQuery} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static CommunicationPreparedQuery delete(org.eclipse.jnosql.communication.query.DeleteQuery deleteQuery,
+                                                    CommunicationObserverParser observer) {
+        Objects.requireNonNull(deleteQuery, "deleteQuery is required");
+        Objects.requireNonNull(observer, "observer is required");
+        var slots = new ParamSlots();
+        var entity = observer.fireEntity(deleteQuery.entity());
+        List<String> columns = deleteQuery.fields().stream()
+                .map(f -> observer.fireSelectField(entity, f))
+                .toList();
+        var condition = deleteQuery.where()
+                .map(w -> Conditions.compile(w, slots, observer, entity))
+                .orElse(null);
+
+        Function<Object[], DeleteQuery> template = s -> new DefaultDeleteQuery(entity,
+                condition == null ? null : condition.apply(s), columns);
+        return new CommunicationPreparedQuery(CommunicationPreparedStatement.PreparedStatementType.DELETE,
+                template, slots);
+    }
+
+    /**
+     * Creates a {@link CommunicationPreparedQuery} from an update query.
+     *
+     * @param updateQuery the update query
+     * @param observer    the observer
+     * @return a {@link CommunicationPreparedQuery} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static CommunicationPreparedQuery update(org.eclipse.jnosql.communication.query.UpdateQuery updateQuery,
+                                                    CommunicationObserverParser observer) {
+        Objects.requireNonNull(updateQuery, "updateQuery is required");
+        Objects.requireNonNull(observer, "observer is required");
+        var slots = new ParamSlots();
+        var entity = observer.fireEntity(updateQuery.entity());
+        List<String> fields = new ArrayList<>();
+        List<Function<Object[], Object>> values = new ArrayList<>();
+        for (UpdateItem item : updateQuery.set()) {
+            fields.add(observer.fireSelectField(entity, item.name()));
+            values.add(Values.compile(item.value(), slots));
+        }
+        var condition = updateQuery.where()
+                .map(w -> Conditions.compile(w, slots, observer, entity))
+                .orElse(null);
+
+        Function<Object[], UpdateQuery> template = s -> {
+            List<Element> set = new ArrayList<>(fields.size());
+            for (int index = 0; index < fields.size(); index++) {
+                set.add(Element.of(fields.get(index), values.get(index).apply(s)));
+            }
+            return new DefaultUpdateQuery(entity, set, condition == null ? null : condition.apply(s));
+        };
+        return new CommunicationPreparedQuery(CommunicationPreparedStatement.PreparedStatementType.UPDATE,
+                template, slots);
+    }
+}
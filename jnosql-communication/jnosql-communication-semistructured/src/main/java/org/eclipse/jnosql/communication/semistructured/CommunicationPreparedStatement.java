@@ -177,6 +177,33 @@ public final class CommunicationPreparedStatement {
 
     }
 
+    /**
+     * Checks if the operation is an update operation.
+     *
+     * @return {@code true} if the operation is an update operation, otherwise {@code false}
+     */
+    public boolean isUpdate() {
+        return PreparedStatementType.UPDATE.equals(type);
+    }
+
+    /**
+     * Runs the update through {@link DatabaseManager#executeUpdate(UpdateQuery)}, which does not keep the updated
+     * entities, so use it instead of {@link #result()} when the caller does not read them.
+     *
+     * @return the number of updated entities
+     * @throws QueryException if there are parameters left to bind
+     * @throws IllegalArgumentException if the operation is not an update operation
+     */
+    public long executeUpdate() {
+        if (!paramsLeft.isEmpty()) {
+            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
+        }
+        if (isUpdate()) {
+            return manager.executeUpdate(updateQuery);
+        }
+        throw new IllegalArgumentException("The executeUpdate operation is only allowed for UPDATE queries");
+    }
+
 
 
     /**
@@ -0,0 +1,213 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+
+import jakarta.data.exceptions.NonUniqueResultException;
+import org.eclipse.jnosql.communication.QueryException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Holds the parameter values of a single execution of a {@link CommunicationPreparedQuery}.
+ * This class is not thread-safe; create one instance per execution from {@link CommunicationPreparedQuery#binder()}.
+ */
+public final class CommunicationQueryBinder {
+
+    private final CommunicationPreparedQuery preparedQuery;
+
+    private final Object[] slots;
+
+    CommunicationQueryBinder(CommunicationPreparedQuery preparedQuery) {
+        this.preparedQuery = preparedQuery;
+        this.slots = new Object[preparedQuery.parameters().size()];
+    }
+
+    /**
+     * Binds an argument to a named parameter.
+     *
+     * @param name  the parameter name
+     * @param value the parameter value
+     * @return the same binder instance
+     * @throws NullPointerException when either name or value is null
+     */
+    public CommunicationQueryBinder bind(String name, Object value) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(value, "value is required");
+        int index = preparedQuery.index(name);
+        if (index >= 0) {
+            slots[index] = value;
+        }
+        return this;
+    }
+
+    /**
+     * Binds an argument to a positional parameter.
+     *
+     * @param index the parameter index, the first parameter is 1, the second is 2, ...
+     * @param value the parameter value
+     * @return the same binder instance
+     * @throws NullPointerException     when the value is null
+     * @throws IllegalArgumentException when the index is lesser than one
+     */
+    public CommunicationQueryBinder bind(int index, Object value) {
+        if (index < 1) {
+            throw new IllegalArgumentException("The index should be greater than zero");
+        }
+        return bind("?" + index, value);
+    }
+
+    /**
+     * Returns the select query with the parameters bound.
+     *
+     * @return the select query
+     * @throws QueryException        if there are parameters left to bind
+     * @throws IllegalStateException if the prepared query is not a select
+     */
+    public SelectQuery select() {
+        return query(SelectQuery.class);
+    }
+
+    /**
+     * Returns the delete query with the parameters bound.
+     *
+     * @return the delete query
+     * @throws QueryException        if there are parameters left to bind
+     * @throws IllegalStateException if the prepared query is not a delete
+     */
+    public DeleteQuery delete() {
+        return query(DeleteQuery.class);
+    }
+
+    /**
+     * Returns the update query with the parameters bound.
+     *
+     * @return the update query
+     * @throws QueryException        if there are parameters left to bind
+     * @throws IllegalStateException if the prepared query is not an update
+     */
+    public UpdateQuery update() {
+        return query(UpdateQuery.class);
+    }
+
+    /**
+     * Executes the query and returns the result as a stream of entities.
+     *
+     * @param manager the manager
+     * @return the stream of entities, when the operation is <b>delete</b> it will return an empty stream
+     * @throws NullPointerException when the manager is null
+     * @throws QueryException       if there are parameters left to bind
+     */
+    public Stream<CommunicationEntity> result(DatabaseManager manager) {
+        Objects.requireNonNull(manager, "manager is required");
+        switch (preparedQuery.type()) {
+            case SELECT, COUNT -> {
+                return manager.select(select());
+            }
+            case DELETE -> {
+                manager.delete(delete());
+                return Stream.empty();
+            }
+            case UPDATE -> {
+                return StreamSupport.stream(manager.update(update()).spliterator(), false);
+            }
+            default -> throw new UnsupportedOperationException("there is not support to operation type: "
+                    + preparedQuery.type());
+        }
+    }
+
+    /**
+     * Executes the update through {@link DatabaseManager#executeUpdate(UpdateQuery)}, which does not keep the updated
+     * entities, so use it instead of {@link #result(DatabaseManager)} when the caller does not read them.
+     *
+     * @param manager the manager
+     * @return the number of updated entities
+     * @throws NullPointerException  when the manager is null
+     * @throws QueryException        if there are parameters left to bind
+     * @throws IllegalStateException if the prepared query is not an update
+     */
+    public long executeUpdate(DatabaseManager manager) {
+        Objects.requireNonNull(manager, "manager is required");
+        return manager.executeUpdate(update());
+    }
+
+    /**
+     * Executes the query and returns the single result as an optional entity.
+     *
+     * @param manager the manager
+     * @return the optional entity
+     * @throws NullPointerException     when the manager is null
+     * @throws NonUniqueResultException if the result contains more than one entity
+     */
+    public Optional<CommunicationEntity> singleResult(DatabaseManager manager) {
+        Iterator<CommunicationEntity> iterator = result(manager).iterator();
+        if (!iterator.hasNext()) {
+            return Optional.empty();
+        }
+        CommunicationEntity next = iterator.next();
+        if (!iterator.hasNext()) {
+            return Optional.of(next);
+        }
+        throw new NonUniqueResultException("The select returns more than one entity, select: " + preparedQuery);
+    }
+
+    /**
+     * Executes the count query.
+     *
+     * @param manager the manager
+     * @return the number of elements
+     * @throws NullPointerException     when the manager is null
+     * @throws IllegalArgumentException if the operation is not a count operation
+     */
+    public long count(DatabaseManager manager) {
+        Objects.requireNonNull(manager, "manager is required");
+        if (!preparedQuery.isCount()) {
+            throw new IllegalArgumentException("The count operation is only allowed for COUNT queries");
+        }
+        return manager.count(select());
+    }
+
+    private <T> T query(Class<T> type) {
+        Object query = bound();
+        if (!type.isInstance(query)) {
+            throw new IllegalStateException("The prepared query is not a " + type.getSimpleName()
+                    + ", it is: " + preparedQuery.type());
+        }
+        return type.cast(query);
+    }
+
+    private Object bound() {
+        List<String> paramsLeft = null;
+        for (int index = 0; index < slots.length; index++) {
+            if (slots[index] == null) {
+                if (paramsLeft == null) {
+                    paramsLeft = new ArrayList<>();
+                }
+                paramsLeft.add(preparedQuery.parameters().get(index));
+            }
+        }
+        if (paramsLeft != null) {
+            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
+        }
+        return preparedQuery.apply(slots);
+    }
+
+    @Override
+    public String toString() {
+        return preparedQuery.toString();
+    }
+}
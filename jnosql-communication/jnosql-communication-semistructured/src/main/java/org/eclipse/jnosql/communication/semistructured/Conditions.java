@@ -17,6 +17,8 @@ import org.eclipse.jnosql.communication.query.ConditionQueryValue;
 import org.eclipse.jnosql.communication.query.QueryCondition;
 import org.eclipse.jnosql.communication.query.Where;
 
+import java.util.function.Function;
+
 final class Conditions {
 
     private Conditions() {
@@ -62,6 +64,62 @@ final class Conditions {
         };
     }
 
+    static Function<Object[], CriteriaCondition> compile(Where where, ParamSlots slots,
+                                                         CommunicationObserverParser observer, String entity) {
+        return compile(where.condition(), slots, observer, entity);
+    }
+
+    static Function<Object[], CriteriaCondition> compile(QueryCondition condition, ParamSlots slots,
+                                                         CommunicationObserverParser observer, String entity) {
+        return switch (condition.condition()) {
+            case EQUALS -> compile(condition, slots, observer, entity, CriteriaCondition::eq);
+            case GREATER_THAN -> compile(condition, slots, observer, entity, CriteriaCondition::gt);
+            case GREATER_EQUALS_THAN -> compile(condition, slots, observer, entity, CriteriaCondition::gte);
+            case LESSER_THAN -> compile(condition, slots, observer, entity, CriteriaCondition::lt);
+            case LESSER_EQUALS_THAN -> compile(condition, slots, observer, entity, CriteriaCondition::lte);
+            case IN -> compile(condition, slots, observer, entity, CriteriaCondition::in);
+            case LIKE -> compile(condition, slots, observer, entity, CriteriaCondition::like);
+            case BETWEEN -> compile(condition, slots, observer, entity, CriteriaCondition::between);
+            case NOT -> {
+                var negate = compile(ConditionQueryValue.class.cast(condition.value()).get().get(0),
+                        slots, observer, entity);
+                yield s -> negate.apply(s).negate();
+            }
+            case OR -> {
+                var conditions = compile(ConditionQueryValue.class.cast(condition.value()), slots, observer, entity);
+                yield s -> CriteriaCondition.or(apply(conditions, s));
+            }
+            case AND -> {
+                var conditions = compile(ConditionQueryValue.class.cast(condition.value()), slots, observer, entity);
+                yield s -> CriteriaCondition.and(apply(conditions, s));
+            }
+            default -> throw new QueryException("There is not support the type: " + condition.condition());
+        };
+    }
+
+    private static Function<Object[], CriteriaCondition> compile(QueryCondition condition, ParamSlots slots,
+                                                                 CommunicationObserverParser observer, String entity,
+                                                                 Function<Element, CriteriaCondition> operator) {
+        var name = getName(condition, observer, entity);
+        var value = Values.compile(condition.value(), slots);
+        return s -> operator.apply(Element.of(name, value.apply(s)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object[], CriteriaCondition>[] compile(ConditionQueryValue value, ParamSlots slots,
+                                                                   CommunicationObserverParser observer, String entity) {
+        return value.get().stream().map(v -> compile(v, slots, observer, entity))
+                .toArray(Function[]::new);
+    }
+
+    private static CriteriaCondition[] apply(Function<Object[], CriteriaCondition>[] conditions, Object[] slots) {
+        CriteriaCondition[] criteria = new CriteriaCondition[conditions.length];
+        for (int index = 0; index < conditions.length; index++) {
+            criteria[index] = conditions[index].apply(slots);
+        }
+        return criteria;
+    }
+
     private static String getName(QueryCondition condition, CommunicationObserverParser observer, String entity) {
         return observer.fireConditionField(entity, condition.name());
     }
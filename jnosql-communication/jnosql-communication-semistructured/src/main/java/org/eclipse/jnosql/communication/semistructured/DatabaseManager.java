@@ -20,6 +20,7 @@ import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The manager instance bridges between Jakarta NoSQL and the NoSQL vendor, providing operations
@@ -152,13 +153,89 @@ public interface DatabaseManager extends AutoCloseable {
      */
     Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities);
 
+    /**
+     * Returns whether this manager saves an entity with a single operation of the database, through
+     * {@link #upsert(CommunicationEntity)} and {@link #upsert(Iterable)}.
+     *
+     * <p>The default implementation returns {@code false}. A driver whose database has a native upsert,
+     * or an insert that replaces the entity with the same unique identifier, overrides it along with
+     * {@link #upsert(CommunicationEntity)}.</p>
+     *
+     * @return true when the upsert operations are supported
+     */
+    default boolean supportsUpsert() {
+        return false;
+    }
+
+    /**
+     * Saves an entity: inserts it when there is no entity with the same unique identifier, otherwise updates it,
+     * in a single operation of the database.
+     *
+     * <p>The default implementation throws {@link UnsupportedOperationException}, because this layer does not know
+     * the unique identifier of the entity. A driver overrides it along with {@link #supportsUpsert()}.</p>
+     *
+     * @param entity the entity to save
+     * @return the saved entity
+     * @throws NullPointerException          if the entity is null
+     * @throws UnsupportedOperationException when the database does not support the upsert
+     */
+    default CommunicationEntity upsert(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        throw new UnsupportedOperationException("The database manager " + name() + " does not support upsert");
+    }
+
+    /**
+     * Saves multiple entities, inserting each one that does not exist and updating the others.
+     *
+     * <p>The default implementation calls {@link #upsert(CommunicationEntity)} for each entity.
+     * A driver with a bulk upsert overrides it to save the entities in a single operation.</p>
+     *
+     * @param entities entities to save
+     * @return the saved entities
+     * @throws NullPointerException          if the iterable is null or any element is null
+     * @throws UnsupportedOperationException when the database does not support the upsert
+     */
+    default Iterable<CommunicationEntity> upsert(Iterable<CommunicationEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return StreamSupport.stream(entities.spliterator(), false).map(this::upsert).toList();
+    }
+
+    /**
+     * Returns whether this manager runs {@link #update(UpdateQuery)} and {@link #executeUpdate(UpdateQuery)}
+     * directly in the database, without reading the entities to update.
+     *
+     * <p>The default implementation returns {@code false}. A driver that translates an {@link UpdateQuery}
+     * to the database overrides it along with both methods.</p>
+     *
+     * @return true when the update query runs in the database
+     */
+    default boolean supportsUpdateQuery() {
+        return false;
+    }
+
+    /**
+     * Returns the maximum number of entities that the default {@link #update(UpdateQuery)} and
+     * {@link #executeUpdate(UpdateQuery)} send at once to {@link #update(Iterable)}.
+     *
+     * <p>The default implementation returns {@code 100}. A driver overrides it to fit the batch size
+     * of the database.</p>
+     *
+     * @return the maximum number of entities at each call to {@link #update(Iterable)}, greater than zero
+     */
+    default int updateChunkSize() {
+        return 100;
+    }
+
     /**
      * Modifies an existing entity in the database based on the specified query.
      *
-     * <p>This default implementation of the update operation is executed in memory. It fetches the
-     * entities using a selection query, applies updates in memory, and then writes each updated entity
-     * back to the database. While this method provides a straightforward and universal approach, it may
-     * impact performance due to multiple database read and write operations.</p>
+     * <p>This default implementation of the update operation is executed in memory. It reads the
+     * entities of the selection query as a stream, applies updates in memory, and writes them back
+     * to the database through {@link #update(Iterable)} in chunks of {@link #updateChunkSize()} as the result
+     * is read, so it keeps at most a chunk of entities. The result can be read only once, and the entities
+     * that are not read are not updated; use {@link #executeUpdate(UpdateQuery)} when they are not needed.
+     * While this method provides a straightforward and universal approach, it may impact performance due to
+     * the database read and write operations.</p>
      *
      * <p>To enhance performance, especially in production environments, it is recommended that this
      * method is overridden by the database driver to perform the update operation directly in the database.
@@ -173,11 +250,37 @@ public interface DatabaseManager extends AutoCloseable {
      * @param query the query used to select entities to update
      * @return the updated entities
      * @throws NullPointerException if the query is null
+     * @see #supportsUpdateQuery()
      */
     default Iterable<CommunicationEntity> update(UpdateQuery query) {
         Objects.requireNonNull(query, "query is required");
-        var entities = this.select(query.toSelectQuery());
-        return entities.peek(e -> e.addAll(query.set())).map(this::update).toList();
+        return ChunkedUpdate.entities(this, query, updateChunkSize());
+    }
+
+    /**
+     * Modifies the entities that match the specified query and returns how many of them were updated,
+     * without returning the entities.
+     *
+     * <p>This default implementation reads the entities of the selection query as a stream, applies the updates
+     * in memory and writes them back through {@link #update(Iterable)} in chunks, so it keeps at most a chunk of
+     * entities in memory. When {@link #supportsUpdateQuery()} returns {@code true}, it runs {@link #update(UpdateQuery)}
+     * and counts the entities it returns instead. A driver that supports it overrides this method, along with
+     * {@link #supportsUpdateQuery()}, to run the update in the database without reading any entity.</p>
+     *
+     * @param query the query used to select entities to update
+     * @return the number of updated entities
+     * @throws NullPointerException if the query is null
+     */
+    default long executeUpdate(UpdateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        if (supportsUpdateQuery()) {
+            long count = 0;
+            for (CommunicationEntity ignored : update(query)) {
+                count++;
+            }
+            return count;
+        }
+        return ChunkedUpdate.update(this, query, updateChunkSize(), this::update);
     }
 
     /**
@@ -250,8 +353,7 @@ public interface DatabaseManager extends AutoCloseable {
      */
     default Stream<CommunicationEntity> query(String query, String entity) {
         Objects.requireNonNull(query, "query is required");
-        QueryParser parser = new QueryParser();
-        return parser.query(query, entity, this, CommunicationObserverParser.EMPTY);
+        return QueryParser.shared().query(query, entity, this, CommunicationObserverParser.EMPTY);
     }
 
     /**
@@ -277,8 +379,7 @@ public interface DatabaseManager extends AutoCloseable {
      */
     default CommunicationPreparedStatement prepare(String query, String entity) {
         Objects.requireNonNull(query, "query is required");
-        QueryParser parser = new QueryParser();
-        return parser.prepare(query, entity,this, CommunicationObserverParser.EMPTY);
+        return QueryParser.shared().prepare(query, entity, this, CommunicationObserverParser.EMPTY);
     }
 
     /**
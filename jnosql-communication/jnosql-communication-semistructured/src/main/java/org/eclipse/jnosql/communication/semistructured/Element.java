@@ -51,6 +51,53 @@ public interface Element extends Entry {
      */
     Object get();
 
+    /**
+     * Retrieves the value of this element as an {@code int}.
+     *
+     * @return the value of this element as {@code int}
+     * @throws NullPointerException          if the value is {@code null}
+     * @throws UnsupportedOperationException if the value cannot be converted to {@code int}
+     * @see Value#getInt()
+     */
+    default int getInt() {
+        return value().getInt();
+    }
+
+    /**
+     * Retrieves the value of this element as a {@code long}.
+     *
+     * @return the value of this element as {@code long}
+     * @throws NullPointerException          if the value is {@code null}
+     * @throws UnsupportedOperationException if the value cannot be converted to {@code long}
+     * @see Value#getLong()
+     */
+    default long getLong() {
+        return value().getLong();
+    }
+
+    /**
+     * Retrieves the value of this element as a {@code double}.
+     *
+     * @return the value of this element as {@code double}
+     * @throws NullPointerException          if the value is {@code null}
+     * @throws UnsupportedOperationException if the value cannot be converted to {@code double}
+     * @see Value#getDouble()
+     */
+    default double getDouble() {
+        return value().getDouble();
+    }
+
+    /**
+     * Retrieves the value of this element as a {@code boolean}.
+     *
+     * @return the value of this element as {@code boolean}
+     * @throws NullPointerException          if the value is {@code null}
+     * @throws UnsupportedOperationException if the value cannot be converted to {@code boolean}
+     * @see Value#getBoolean()
+     */
+    default boolean getBoolean() {
+        return value().getBoolean();
+    }
 
     /**
      * Creates a new element with the specified name and value.
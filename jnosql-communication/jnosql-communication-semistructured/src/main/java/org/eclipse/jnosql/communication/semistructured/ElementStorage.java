@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.TypeSupplier;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the elements of a {@link CommunicationEntity}, at most one per name.
+ * The {@link CommunicationEntity} checks the arguments and delegates to its storage,
+ * so each storage defines only how it keeps the elements, such as the slots of an {@link EntityShape}.
+ */
+abstract class ElementStorage implements Iterable<Element> {
+
+    /**
+     * Adds the element, replacing the element of the same name.
+     */
+    abstract void add(Element element);
+
+    /**
+     * Adds the element of the name with the {@link Value}.
+     */
+    void add(String name, Value value) {
+        add(Element.of(name, value));
+    }
+
+    /**
+     * Adds the element of the name with the value, where even a {@link Value} is the value itself.
+     */
+    void add(String name, Object value) {
+        add(Element.of(name, Value.of(value)));
+    }
+
+    /**
+     * Returns the element of the name, or {@code null} when there is none.
+     */
+    abstract Element get(String name);
+
+    <T> T get(String name, Class<T> type) {
+        Element element = get(name);
+        return element == null ? null : element.get(type);
+    }
+
+    <T> T get(String name, TypeSupplier<T> type) {
+        Element element = get(name);
+        return element == null ? null : element.get(type);
+    }
+
+    abstract boolean remove(String name);
+
+    abstract boolean contains(String name);
+
+    abstract int size();
+
+    abstract Set<String> names();
+
+    abstract void clear();
+
+    abstract ElementStorage copy();
+
+    List<Element> elements() {
+        List<Element> elements = new ArrayList<>(size());
+        for (Element element : this) {
+            elements.add(element);
+        }
+        return Collections.unmodifiableList(elements);
+    }
+
+    Collection<Value> values() {
+        List<Value> values = new ArrayList<>(size());
+        for (Element element : this) {
+            values.add(element.value());
+        }
+        return Collections.unmodifiableList(values);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The shape of the {@link CommunicationEntity} instances of the same type: the entity name and the element names.
+ * It is immutable and shared by all the entities it creates, so each entity only keeps the values in a flat array
+ * instead of a hash table and an {@link Element} per value; the elements are created on demand.
+ *
+ * <p>It fits a result set where the rows have the same columns, for instance:</p>
+ * <pre>{@code
+ * EntityShape shape = EntityShape.of("Person", List.of("_id", "name", "age"));
+ * CommunicationEntity entity = shape.entity(10L, "Ada", 36);
+ * }</pre>
+ *
+ * <p>The entities keep the whole {@link CommunicationEntity} API, including adding an element that is not at
+ * the shape.</p>
+ */
+public final class EntityShape {
+
+    private final String name;
+
+    private final List<String> elementNames;
+
+    private final Map<String, Integer> indexes;
+
+    private EntityShape(String name, List<String> elementNames, Map<String, Integer> indexes) {
+        this.name = name;
+        this.elementNames = elementNames;
+        this.indexes = indexes;
+    }
+
+    /**
+     * Returns the name of the entities of this shape.
+     *
+     * @return the entity name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the element names of this shape, in the order of the values of {@link EntityShape#entity(Object...)}.
+     *
+     * @return an unmodifiable list of the element names
+     */
+    public List<String> elementNames() {
+        return elementNames;
+    }
+
+    /**
+     * Creates a new {@link CommunicationEntity} with the values of the elements, in the order of
+     * {@link EntityShape#elementNames()}. A value follows the {@link Element#of(String, Object)} rules,
+     * so it might be either a {@link Value} or the value itself, and a {@code null} value is an element with the
+     * null value. The entity copies the values, so the array can be reused.
+     * Without values, it creates an empty entity.
+     *
+     * @param values the values of the elements
+     * @return a new {@link CommunicationEntity} of this shape
+     * @throws NullPointerException     when the values array is null
+     * @throws IllegalArgumentException when the number of values is neither zero nor the number of elements
+     */
+    public CommunicationEntity entity(Object... values) {
+        Objects.requireNonNull(values, "values is required");
+        Object[] elements = new Object[size()];
+        if (values.length == 0) {
+            return new CommunicationEntity(name, new ShapedElementStorage(this, elements));
+        }
+        if (values.length != elements.length) {
+            throw new IllegalArgumentException("The shape " + name + " has " + elements.length
+                    + " elements, but there are " + values.length + " values");
+        }
+        for (int index = 0; index < values.length; index++) {
+            elements[index] = ShapedElementStorage.slot(values[index]);
+        }
+        return new CommunicationEntity(name, new ShapedElementStorage(this, elements));
+    }
+
+    /**
+     * Creates a new {@link EntityShape}.
+     *
+     * @param name         the entity name
+     * @param elementNames the element names
+     * @return a new {@link EntityShape}
+     * @throws NullPointerException     when the name, the element names or any element name is null
+     * @throws IllegalArgumentException when there is a duplicated element name
+     */
+    public static EntityShape of(String name, List<String> elementNames) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(elementNames, "elementNames is required");
+        List<String> names = List.copyOf(elementNames);
+        Map<String, Integer> indexes = new HashMap<>(names.size() * 4 / 3 + 1);
+        for (int index = 0; index < names.size(); index++) {
+            if (indexes.put(names.get(index), index) != null) {
+                throw new IllegalArgumentException("The element name " + names.get(index)
+                        + " is duplicated at the shape " + name);
+            }
+        }
+        return new EntityShape(name, names, indexes);
+    }
+
+    int size() {
+        return elementNames.size();
+    }
+
+    int index(String elementName) {
+        Integer index = indexes.get(elementName);
+        return index == null ? -1 : index;
+    }
+
+    String elementName(int index) {
+        return elementNames.get(index);
+    }
+
+    @Override
+    public String toString() {
+        return "EntityShape{" +
+                "name='" + name + '\'' +
+                ", elementNames=" + elementNames +
+                '}';
+    }
+}
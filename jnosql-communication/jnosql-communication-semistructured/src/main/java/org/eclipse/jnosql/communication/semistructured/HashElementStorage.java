@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The default {@link ElementStorage}, which keeps the elements by name at a {@link HashMap}.
+ */
+final class HashElementStorage extends ElementStorage {
+
+    private final Map<String, Element> elements;
+
+    HashElementStorage() {
+        this(new HashMap<>());
+    }
+
+    HashElementStorage(Map<String, Element> elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    void add(Element element) {
+        elements.put(element.name(), element);
+    }
+
+    @Override
+    Element get(String name) {
+        return elements.get(name);
+    }
+
+    @Override
+    boolean remove(String name) {
+        return elements.remove(name) != null;
+    }
+
+    @Override
+    boolean contains(String name) {
+        return elements.containsKey(name);
+    }
+
+    @Override
+    int size() {
+        return elements.size();
+    }
+
+    @Override
+    Set<String> names() {
+        return Collections.unmodifiableSet(elements.keySet());
+    }
+
+    @Override
+    void clear() {
+        elements.clear();
+    }
+
+    @Override
+    ElementStorage copy() {
+        return new HashElementStorage(new HashMap<>(elements));
+    }
+
+    @Override
+    public Iterator<Element> iterator() {
+        return Collections.unmodifiableCollection(elements.values()).iterator();
+    }
+}
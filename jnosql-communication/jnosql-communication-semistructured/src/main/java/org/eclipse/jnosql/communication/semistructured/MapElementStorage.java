@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An {@link ElementStorage} over a {@link Map}, such as the document of a driver, with the same elements
+ * as {@link Elements#of(Map)}. It decodes an element only when it is read and keeps it at a single cache
+ * for both {@link CommunicationEntity#find(String)} and {@link CommunicationEntity#elements()},
+ * so reading a few elements does not convert the whole map.
+ * <p>
+ * The first change, such as {@link CommunicationEntity#add(Element)}, decodes the remaining elements and,
+ * from then on, it keeps the elements by name as the default storage. It never changes the map.
+ */
+final class MapElementStorage extends ElementStorage {
+
+    private final Map<String, Element> elements;
+
+    private Map<String, ?> source;
+
+    private int size = -1;
+
+    private List<Element> view;
+
+    MapElementStorage(Map<String, ?> source) {
+        this.source = source;
+        this.elements = new HashMap<>();
+    }
+
+    @Override
+    void add(Element element) {
+        materialize();
+        elements.put(element.name(), element);
+    }
+
+    @Override
+    Element get(String name) {
+        Element element = elements.get(name);
+        if (element == null && source != null) {
+            Object value = source.get(name);
+            if (value == null) {
+                return null;
+            }
+            element = Element.of(name, MapElements.decode(value));
+            elements.put(name, element);
+        }
+        return element;
+    }
+
+    @Override
+    boolean remove(String name) {
+        materialize();
+        return elements.remove(name) != null;
+    }
+
+    @Override
+    boolean contains(String name) {
+        if (source == null) {
+            return elements.containsKey(name);
+        }
+        return source.get(name) != null;
+    }
+
+    @Override
+    int size() {
+        if (source == null) {
+            return elements.size();
+        }
+        if (size < 0) {
+            size = (int) source.values().stream().filter(Objects::nonNull).count();
+        }
+        return size;
+    }
+
+    @Override
+    Set<String> names() {
+        if (source == null) {
+            return Collections.unmodifiableSet(elements.keySet());
+        }
+        Set<String> names = new LinkedHashSet<>(size() * 4 / 3 + 1);
+        source.forEach((key, value) -> {
+            if (value != null) {
+                names.add(key);
+            }
+        });
+        return Collections.unmodifiableSet(names);
+    }
+
+    @Override
+    void clear() {
+        elements.clear();
+        source = null;
+    }
+
+    @Override
+    ElementStorage copy() {
+        if (source == null) {
+            return new HashElementStorage(new HashMap<>(elements));
+        }
+        var storage = new MapElementStorage(source);
+        storage.elements.putAll(elements);
+        return storage;
+    }
+
+    @Override
+    List<Element> elements() {
+        if (source == null) {
+            return super.elements();
+        }
+        if (view == null) {
+            view = new MapElements(source, elements);
+        }
+        return view;
+    }
+
+    @Override
+    public Iterator<Element> iterator() {
+        if (source == null) {
+            return Collections.unmodifiableCollection(elements.values()).iterator();
+        }
+        return elements().iterator();
+    }
+
+    private void materialize() {
+        if (source == null) {
+            return;
+        }
+        source.forEach((key, value) -> {
+            if (value != null && !elements.containsKey(key)) {
+                elements.put(key, Element.of(key, MapElements.decode(value)));
+            }
+        });
+        source = null;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * An unmodifiable list of the {@link Element} of a {@link Map}, with the same elements as
+ * {@link Elements#of(Map)}, but it decodes each element only when it is read and keeps it at a cache by name,
+ * which {@link MapElementStorage} shares, so an element is decoded once whether it is found or listed.
+ * A sub-document, a {@link Map} value, is also a {@link MapElements}, so it is decoded only when it is read as well.
+ */
+final class MapElements extends AbstractList<Element> implements RandomAccess {
+
+    private final Map.Entry<String, ?>[] entries;
+
+    private final Map<String, Element> cache;
+
+    MapElements(Map<String, ?> values) {
+        this(values, new HashMap<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    MapElements(Map<String, ?> values, Map<String, Element> cache) {
+        this.entries = values.entrySet().stream()
+                .filter(e -> e.getValue() != null)
+                .toArray(Map.Entry[]::new);
+        this.cache = cache;
+    }
+
+    @Override
+    public Element get(int index) {
+        Map.Entry<String, ?> entry = entries[index];
+        Element element = cache.get(entry.getKey());
+        if (element == null) {
+            element = Element.of(entry.getKey(), decode(entry.getValue()));
+            cache.put(entry.getKey(), element);
+        }
+        return element;
+    }
+
+    @Override
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Decodes a value with the same rules as {@link Elements#of(Map)}: a {@link Map} is the list of its elements,
+     * or the element itself when there is only one, and an {@link Iterable} has each item decoded.
+     */
+    @SuppressWarnings("unchecked")
+    static Object decode(Object value) {
+        if (value instanceof Map) {
+            var elements = new MapElements((Map<String, ?>) value);
+            if (elements.size() == 1) {
+                return elements.get(0);
+            }
+            return elements;
+        }
+        if (value instanceof Iterable<?> iterable) {
+            List<Object> items = new ArrayList<>();
+            for (Object item : iterable) {
+                items.add(decode(item));
+            }
+            return items;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gives a fixed position to each parameter name of a query while it is compiled.
+ * The same name used twice in a query shares the same slot.
+ */
+final class ParamSlots {
+
+    private final Map<String, Integer> indexes = new LinkedHashMap<>();
+
+    int add(String name) {
+        Integer index = indexes.get(name);
+        if (index == null) {
+            index = indexes.size();
+            indexes.put(name, index);
+        }
+        return index;
+    }
+
+    Map<String, Integer> indexes() {
+        return Map.copyOf(indexes);
+    }
+
+    List<String> names() {
+        return List.copyOf(indexes.keySet());
+    }
+}
@@ -11,6 +11,7 @@
 package org.eclipse.jnosql.communication.semistructured;
 
 import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.query.data.QueryPlanCache;
 
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -20,9 +21,51 @@ import java.util.stream.Stream;
  */
 public final class QueryParser {
 
-    private final SelectQueryParser select = new SelectQueryParser();
-    private final DeleteQueryParser delete = new DeleteQueryParser();
-    private final UpdateQueryParser update = new UpdateQueryParser();
+    private final QueryPlanCache cache;
+    private final SelectQueryParser select;
+    private final DeleteQueryParser delete;
+    private final UpdateQueryParser update;
+
+    /**
+     * Creates a {@link QueryParser} that keeps the parsed queries at {@link QueryPlanCache#shared()}.
+     */
+    public QueryParser() {
+        this(QueryPlanCache.shared());
+    }
+
+    /**
+     * Creates a {@link QueryParser} that keeps the parsed queries at the given cache,
+     * so a repeated query does not run the parser again.
+     *
+     * @param cache the cache of parsed queries
+     * @throws NullPointerException when cache is null
+     */
+    public QueryParser(QueryPlanCache cache) {
+        this.cache = Objects.requireNonNull(cache, "cache is required");
+        this.select = new SelectQueryParser(cache);
+        this.delete = new DeleteQueryParser(cache);
+        this.update = new UpdateQueryParser(cache);
+    }
+
+    /**
+     * Returns a {@link QueryParser} over {@link QueryPlanCache#shared()}, used when the caller has no parser of its own.
+     * It is not kept in a static field, because the shared cache is per classloader; creating it is cheap,
+     * and the parsed queries stay at the shared cache.
+     *
+     * @return a {@link QueryParser} over the shared cache
+     */
+    static QueryParser shared() {
+        return new QueryParser(QueryPlanCache.shared());
+    }
+
+    /**
+     * Returns the cache of parsed queries, it allows checking the hits, misses and evictions.
+     *
+     * @return the {@link QueryPlanCache}
+     */
+    public QueryPlanCache cache() {
+        return cache;
+    }
 
     /**
      * Executes a query and returns the result, when the operations are <b>insert</b>, <b>update</b> and <b>select</b>
@@ -68,6 +111,28 @@ public final class QueryParser {
         };
     }
 
+    /**
+     * Prepares a query that can be cached and shared across threads. Each execution sets its parameters
+     * through {@link CommunicationPreparedQuery#binder()}.
+     *
+     * @param query    the query as {@link String}
+     * @param entity   the entity name, it might be null when the query defines the entity
+     * @param observer the observer
+     * @return a {@link CommunicationPreparedQuery} instance
+     * @throws NullPointerException when either query or observer is null
+     * @throws QueryException       when there is error in the syntax
+     */
+    public CommunicationPreparedQuery prepareQuery(String query, String entity, CommunicationObserverParser observer) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(observer, "observer is required");
+        String command = extractQueryCommand(query);
+        return switch (command) {
+            case "DELETE" -> CommunicationPreparedQuery.delete(cache.delete(query), observer);
+            case "UPDATE" -> CommunicationPreparedQuery.update(cache.update(query), observer);
+            default -> CommunicationPreparedQuery.select(cache.select(query, entity), observer);
+        };
+    }
+
     private String extractQueryCommand(String query){
         if(query.length() < 6){
            return "";
@@ -80,4 +145,4 @@ public final class QueryParser {
         Objects.requireNonNull(manager, "manager is required");
         Objects.requireNonNull(observer, "manager is observer");
     }
-}
\ No newline at end of file
+}
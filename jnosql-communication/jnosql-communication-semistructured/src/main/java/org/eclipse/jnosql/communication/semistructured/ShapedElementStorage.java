@@ -0,0 +1,244 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.TypeSupplier;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An {@link ElementStorage} that keeps the values at the index of the {@link EntityShape}.
+ * Each slot is either empty, an {@link Element}, a {@link Value} or the value itself,
+ * and the elements of the two last ones are created on demand.
+ * An element out of the shape goes to a map that is created only when there is one.
+ */
+final class ShapedElementStorage extends ElementStorage {
+
+    private final EntityShape shape;
+
+    private final Object[] values;
+
+    private int size;
+
+    private Map<String, Element> extras;
+
+    ShapedElementStorage(EntityShape shape, Object[] values) {
+        this.shape = shape;
+        this.values = values;
+        for (Object value : values) {
+            if (value != null) {
+                size++;
+            }
+        }
+    }
+
+    @Override
+    void add(Element element) {
+        put(element.name(), element);
+    }
+
+    @Override
+    void add(String name, Object value) {
+        if (value == null) {
+            put(name, Value.ofNull());
+        } else if (value instanceof Value || value instanceof Element) {
+            put(name, Value.of(value));
+        } else {
+            put(name, value);
+        }
+    }
+
+    @Override
+    void add(String name, Value value) {
+        put(name, slot(value));
+    }
+
+    @Override
+    Element get(String name) {
+        int index = shape.index(name);
+        if (index < 0) {
+            return extras == null ? null : extras.get(name);
+        }
+        return values[index] == null ? null : element(index);
+    }
+
+    @Override
+    <T> T get(String name, Class<T> type) {
+        int index = shape.index(name);
+        if (index < 0) {
+            return super.get(name, type);
+        }
+        Object slot = values[index];
+        if (slot == null) {
+            return null;
+        } else if (slot instanceof Element element) {
+            return element.get(type);
+        }
+        return value(slot).get(type);
+    }
+
+    @Override
+    <T> T get(String name, TypeSupplier<T> type) {
+        int index = shape.index(name);
+        if (index < 0) {
+            return super.get(name, type);
+        }
+        Object slot = values[index];
+        if (slot == null) {
+            return null;
+        } else if (slot instanceof Element element) {
+            return element.get(type);
+        }
+        return value(slot).get(type);
+    }
+
+    @Override
+    boolean remove(String name) {
+        int index = shape.index(name);
+        if (index < 0) {
+            return extras != null && extras.remove(name) != null;
+        }
+        if (values[index] == null) {
+            return false;
+        }
+        values[index] = null;
+        size--;
+        return true;
+    }
+
+    @Override
+    boolean contains(String name) {
+        int index = shape.index(name);
+        if (index < 0) {
+            return extras != null && extras.containsKey(name);
+        }
+        return values[index] != null;
+    }
+
+    @Override
+    int size() {
+        return extras == null ? size : size + extras.size();
+    }
+
+    @Override
+    Set<String> names() {
+        Set<String> names = new LinkedHashSet<>(size() * 4 / 3 + 1);
+        for (int index = 0; index < values.length; index++) {
+            if (values[index] != null) {
+                names.add(shape.elementName(index));
+            }
+        }
+        if (extras != null) {
+            names.addAll(extras.keySet());
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    @Override
+    void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+        extras = null;
+    }
+
+    @Override
+    ElementStorage copy() {
+        var storage = new ShapedElementStorage(shape, values.clone());
+        if (extras != null) {
+            storage.extras = new LinkedHashMap<>(extras);
+        }
+        return storage;
+    }
+
+    @Override
+    List<Element> elements() {
+        List<Element> elements = new ArrayList<>(size());
+        for (int index = 0; index < values.length; index++) {
+            if (values[index] != null) {
+                elements.add(element(index));
+            }
+        }
+        if (extras != null) {
+            elements.addAll(extras.values());
+        }
+        return Collections.unmodifiableList(elements);
+    }
+
+    @Override
+    Collection<Value> values() {
+        List<Value> result = new ArrayList<>(size());
+        for (Object slot : values) {
+            if (slot instanceof Element element) {
+                result.add(element.value());
+            } else if (slot != null) {
+                result.add(value(slot));
+            }
+        }
+        if (extras != null) {
+            extras.values().forEach(e -> result.add(e.value()));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public Iterator<Element> iterator() {
+        return elements().iterator();
+    }
+
+    /**
+     * Converts a value with the {@link Element#of(String, Object)} rules to a slot.
+     */
+    static Object slot(Object value) {
+        if (value == null) {
+            return Value.ofNull();
+        } else if (value instanceof Element) {
+            return Value.of(value);
+        }
+        return value;
+    }
+
+    private void put(String name, Object slot) {
+        int index = shape.index(name);
+        if (index < 0) {
+            if (extras == null) {
+                extras = new LinkedHashMap<>();
+            }
+            extras.put(name, slot instanceof Element element ? element : Element.of(name, slot));
+            return;
+        }
+        if (values[index] == null) {
+            size++;
+        }
+        values[index] = slot;
+    }
+
+    private Element element(int index) {
+        Object slot = values[index];
+        if (slot instanceof Element element) {
+            return element;
+        }
+        return Element.of(shape.elementName(index), value(slot));
+    }
+
+    private static Value value(Object slot) {
+        return slot instanceof Value value ? value : Value.of(slot);
+    }
+}
@@ -12,12 +12,16 @@ package org.eclipse.jnosql.communication.semistructured;
 
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.query.ArrayQueryValue;
 import org.eclipse.jnosql.communication.query.EnumQueryValue;
 import org.eclipse.jnosql.communication.query.ParamQueryValue;
 import org.eclipse.jnosql.communication.query.QueryValue;
 import org.eclipse.jnosql.communication.query.ValueType;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
@@ -51,4 +55,39 @@ final class Values {
             default -> throw new QueryException("There is not support to the value: " + type);
         }
     }
-}
\ No newline at end of file
+
+    static Function<Object[], Object> compile(QueryValue<?> value, ParamSlots slots) {
+
+        ValueType type = value.type();
+        switch (type) {
+            case NUMBER, STRING, BOOLEAN -> {
+                Object constant = value.get();
+                return s -> constant;
+            }
+            case PARAMETER -> {
+                int index = slots.add(((ParamQueryValue) value).get());
+                return s -> Value.of(s[index]);
+            }
+            case ARRAY -> {
+                List<Function<Object[], Object>> items = Stream.of(((ArrayQueryValue) value).get())
+                        .map(v -> compile(v, slots))
+                        .toList();
+                return s -> {
+                    List<Object> values = new ArrayList<>(items.size());
+                    for (Function<Object[], Object> item : items) {
+                        values.add(item.apply(s));
+                    }
+                    return values;
+                };
+            }
+            case ENUM -> {
+                String name = ((EnumQueryValue) value).get().name();
+                return s -> name;
+            }
+            case NULL -> {
+                return s -> null;
+            }
+            default -> throw new QueryException("There is not support to the value: " + type);
+        }
+    }
+}
@@ -0,0 +1,586 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Condition;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link DatabaseManager} that keeps the writes in memory and sends them later, in batches, to another
+ * {@link DatabaseManager}, so a high rate of small writes does not pay a round trip per write.
+ * <p>
+ * It keeps the {@code insert}, {@code update} and the {@code delete} of a single value, such as
+ * {@code delete().from("Person").where("_id").eq(10)}, in the order they happen for each entity name.
+ * It sends them when there are {@code batchSize} writes of an entity name, when the oldest one waits for
+ * {@code maxDelay}, on {@link WriteBehindDatabaseManager#flush()} or on {@link WriteBehindDatabaseManager#close()}.
+ * Each run of the same operation goes through a single call: the {@link Iterable} insert and update, and a delete
+ * with {@link Condition#IN} for the deletes of the same element.
+ * <p>
+ * The other operations send the pending writes of the entity name first, so a query reads the writes before it.
+ * There are at most {@code capacity} writes waiting, and a new write blocks until there is room.
+ * <p>
+ * A write returns before it reaches the database, so the returned entity is the one given, without any value
+ * created by the database. A dedicated thread sends the batches; when one fails, the other buffers and batches are
+ * still sent, the writes of that batch are lost, and the next write, flush or close throws a
+ * {@link CommunicationException} with the failures.
+ */
+public final class WriteBehindDatabaseManager implements DatabaseManager {
+
+    private final DatabaseManager manager;
+
+    private final int batchSize;
+
+    private final long maxDelay;
+
+    private final int capacity;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final java.util.concurrent.locks.Condition notFull = lock.newCondition();
+
+    private final java.util.concurrent.locks.Condition ready = lock.newCondition();
+
+    private final ReentrantLock writing = new ReentrantLock();
+
+    private final Map<String, Buffer> buffers = new LinkedHashMap<>();
+
+    private final Thread flusher;
+
+    private int pending;
+
+    private boolean closed;
+
+    private RuntimeException failure;
+
+    private WriteBehindDatabaseManager(DatabaseManager manager, int batchSize, Duration maxDelay, int capacity) {
+        this.manager = manager;
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay.toNanos();
+        this.capacity = capacity;
+        this.flusher = new Thread(this::run, "jnosql-write-behind-" + manager.name());
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity) {
+        requireNonNull(entity, "entity is required");
+        enqueue(entity.name(), new Write(Kind.INSERT, entity, null, null));
+        return entity;
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        enqueue(entity.name(), new Write(Kind.INSERT, entity, ttl, null));
+        return entity;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
+        requireNonNull(entities, "entities is required");
+        entities.forEach(this::insert);
+        return entities;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        entities.forEach(entity -> insert(entity, ttl));
+        return entities;
+    }
+
+    @Override
+    public CommunicationEntity update(CommunicationEntity entity) {
+        requireNonNull(entity, "entity is required");
+        enqueue(entity.name(), new Write(Kind.UPDATE, entity, null, null));
+        return entity;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
+        requireNonNull(entities, "entities is required");
+        entities.forEach(this::update);
+        return entities;
+    }
+
+    @Override
+    public boolean supportsUpsert() {
+        return manager.supportsUpsert();
+    }
+
+    @Override
+    public CommunicationEntity upsert(CommunicationEntity entity) {
+        requireNonNull(entity, "entity is required");
+        flush(entity.name());
+        return manager.upsert(entity);
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> upsert(Iterable<CommunicationEntity> entities) {
+        requireNonNull(entities, "entities is required");
+        flush();
+        return manager.upsert(entities);
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> update(UpdateQuery query) {
+        requireNonNull(query, "query is required");
+        flush(query.name());
+        return manager.update(query);
+    }
+
+    @Override
+    public boolean supportsUpdateQuery() {
+        return manager.supportsUpdateQuery();
+    }
+
+    @Override
+    public long executeUpdate(UpdateQuery query) {
+        requireNonNull(query, "query is required");
+        flush(query.name());
+        return manager.executeUpdate(query);
+    }
+
+    @Override
+    public void delete(DeleteQuery query) {
+        requireNonNull(query, "query is required");
+        if (query.columns().isEmpty() && query.condition().map(c -> Condition.EQUALS.equals(c.condition()))
+                .orElse(false)) {
+            enqueue(query.name(), new Write(Kind.DELETE, null, null, query));
+        } else {
+            flush(query.name());
+            manager.delete(query);
+        }
+    }
+
+    @Override
+    public Stream<CommunicationEntity> select(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        flush(query.name());
+        return manager.select(query);
+    }
+
+    @Override
+    public long count(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        flush(query.name());
+        return manager.count(query);
+    }
+
+    @Override
+    public boolean exists(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        flush(query.name());
+        return manager.exists(query);
+    }
+
+    @Override
+    public long count(String entity) {
+        requireNonNull(entity, "entity is required");
+        flush(entity);
+        return manager.count(entity);
+    }
+
+    /**
+     * Sends all the pending writes and waits for them.
+     *
+     * @throws CommunicationException when a previous batch or this one fails
+     */
+    public void flush() {
+        RuntimeException exception;
+        writing.lock();
+        try {
+            List<List<Write>> buffers = drain(null);
+            exception = write(buffers, size(buffers));
+        } finally {
+            writing.unlock();
+        }
+        if (exception != null) {
+            fail(exception);
+        }
+        throwFailure();
+    }
+
+    /**
+     * Sends the pending writes, stops the thread that sends the batches and closes the {@link DatabaseManager}.
+     * Calling it more than once has no effect.
+     *
+     * @throws CommunicationException when a previous batch or the last one fails
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            ready.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            flush();
+        } finally {
+            manager.close();
+        }
+    }
+
+    /**
+     * Returns the number of writes that were not sent yet.
+     *
+     * @return the number of pending writes
+     */
+    public int pending() {
+        lock.lock();
+        try {
+            return pending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBehindDatabaseManager{" +
+                "manager=" + manager +
+                ", batchSize=" + batchSize +
+                ", maxDelay=" + Duration.ofNanos(maxDelay) +
+                ", capacity=" + capacity +
+                '}';
+    }
+
+    /**
+     * Creates a {@link WriteBehindDatabaseManager}.
+     *
+     * @param manager   the {@link DatabaseManager} that receives the batches
+     * @param batchSize the number of writes of an entity name that are sent together
+     * @param maxDelay  the longest time a write waits before it is sent
+     * @param capacity  the maximum number of pending writes, where a new write blocks until there is room
+     * @return a new {@link WriteBehindDatabaseManager}
+     * @throws NullPointerException     when the manager or the max delay is null
+     * @throws IllegalArgumentException when the batch size, the max delay or the capacity is not positive, or when
+     *                                  the capacity is lower than the batch size
+     */
+    public static WriteBehindDatabaseManager of(DatabaseManager manager, int batchSize, Duration maxDelay,
+                                                int capacity) {
+        requireNonNull(manager, "manager is required");
+        requireNonNull(maxDelay, "maxDelay is required");
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        }
+        if (maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException("The max delay must be positive: " + maxDelay);
+        }
+        if (capacity < batchSize) {
+            throw new IllegalArgumentException("The capacity " + capacity + " must be at least the batch size "
+                    + batchSize);
+        }
+        return new WriteBehindDatabaseManager(manager, batchSize, maxDelay, capacity);
+    }
+
+    private void enqueue(String name, Write write) {
+        lock.lock();
+        try {
+            throwFailure();
+            while (pending >= capacity && !closed) {
+                ready.signal();
+                notFull.await();
+            }
+            if (closed) {
+                throw new IllegalStateException("The WriteBehindDatabaseManager is closed");
+            }
+            Buffer buffer = buffers.get(name);
+            if (buffer == null) {
+                buffer = new Buffer(System.nanoTime());
+                buffers.put(name, buffer);
+                ready.signal();
+            }
+            buffer.writes.add(write);
+            pending++;
+            if (buffer.writes.size() >= batchSize) {
+                ready.signal();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException("The write was interrupted while waiting for room in the buffer",
+                    exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flush(String name) {
+        RuntimeException exception;
+        writing.lock();
+        try {
+            List<List<Write>> buffers = drain(name);
+            exception = write(buffers, size(buffers));
+        } finally {
+            writing.unlock();
+        }
+        if (exception != null) {
+            throw failure(exception);
+        }
+    }
+
+    private void run() {
+        while (true) {
+            writing.lock();
+            try {
+                List<List<Write>> due = awaitDue();
+                if (due == null) {
+                    return;
+                }
+                RuntimeException exception = write(due, size(due));
+                if (exception != null) {
+                    fail(exception);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                writing.unlock();
+            }
+        }
+    }
+
+    /**
+     * Waits until a buffer has a batch, its oldest write waits for the max delay or there is no room for new writes,
+     * and removes the due buffers.
+     * It releases the writing lock while it waits, so a flush from another thread is not blocked.
+     *
+     * @return the writes of the due buffers or null when this manager is closed
+     */
+    private List<List<Write>> awaitDue() throws InterruptedException {
+        lock.lock();
+        try {
+            while (!closed) {
+                long now = System.nanoTime();
+                boolean full = pending >= capacity;
+                long wait = Long.MAX_VALUE;
+                List<List<Write>> due = new ArrayList<>();
+                for (Iterator<Buffer> iterator = buffers.values().iterator(); iterator.hasNext(); ) {
+                    Buffer buffer = iterator.next();
+                    long remaining = buffer.since + maxDelay - now;
+                    if (full || buffer.writes.size() >= batchSize || remaining <= 0) {
+                        due.add(buffer.writes);
+                        iterator.remove();
+                    } else {
+                        wait = Math.min(wait, remaining);
+                    }
+                }
+                if (!due.isEmpty()) {
+                    return due;
+                }
+                writing.unlock();
+                try {
+                    if (wait == Long.MAX_VALUE) {
+                        ready.await();
+                    } else {
+                        ready.awaitNanos(wait);
+                    }
+                } finally {
+                    lock.unlock();
+                    writing.lock();
+                    lock.lock();
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<List<Write>> drain(String name) {
+        lock.lock();
+        try {
+            List<List<Write>> writes = new ArrayList<>();
+            if (name == null) {
+                buffers.values().forEach(buffer -> writes.add(buffer.writes));
+                buffers.clear();
+            } else {
+                Buffer buffer = buffers.remove(name);
+                if (buffer != null) {
+                    writes.add(buffer.writes);
+                }
+            }
+            return writes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sends every batch of the buffers, even when one of them fails, and releases their room.
+     *
+     * @return the first failure, with the next ones as suppressed, or null when every batch was sent
+     */
+    private RuntimeException write(List<List<Write>> buffers, int size) {
+        RuntimeException failure = null;
+        try {
+            for (List<Write> writes : buffers) {
+                int start = 0;
+                while (start < writes.size()) {
+                    Write first = writes.get(start);
+                    int end = start + 1;
+                    while (end < writes.size() && end - start < batchSize && first.sameBatch(writes.get(end))) {
+                        end++;
+                    }
+                    try {
+                        send(writes.subList(start, end));
+                    } catch (RuntimeException exception) {
+                        failure = suppress(failure, exception);
+                    }
+                    start = end;
+                }
+            }
+        } finally {
+            release(size);
+        }
+        return failure;
+    }
+
+    private void send(List<Write> batch) {
+        Write first = batch.get(0);
+        switch (first.kind) {
+            case INSERT -> {
+                List<CommunicationEntity> entities = batch.stream().map(Write::entity).toList();
+                if (first.ttl == null) {
+                    manager.insert(entities);
+                } else {
+                    manager.insert(entities, first.ttl);
+                }
+            }
+            case UPDATE -> manager.update(batch.stream().map(Write::entity).toList());
+            case DELETE -> {
+                if (batch.size() == 1) {
+                    manager.delete(first.query);
+                } else {
+                    List<Object> values = batch.stream().map(w -> w.element().get()).toList();
+                    var condition = CriteriaCondition.in(first.element().name(), values);
+                    manager.delete(new DefaultDeleteQuery(first.query.name(), condition, List.of()));
+                }
+            }
+            default -> throw new UnsupportedOperationException("The write " + first.kind + " is not supported");
+        }
+    }
+
+    private void release(int size) {
+        lock.lock();
+        try {
+            pending -= size;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void fail(RuntimeException exception) {
+        lock.lock();
+        try {
+            failure = suppress(failure, exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void throwFailure() {
+        lock.lock();
+        try {
+            if (failure != null) {
+                RuntimeException exception = failure;
+                failure = null;
+                throw failure(exception);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CommunicationException failure(RuntimeException exception) {
+        return new CommunicationException("A write-behind batch to " + manager.name() + " failed", exception);
+    }
+
+    private static RuntimeException suppress(RuntimeException failure, RuntimeException exception) {
+        if (failure == null) {
+            return exception;
+        }
+        if (failure != exception) {
+            failure.addSuppressed(exception);
+        }
+        return failure;
+    }
+
+    private static int size(List<List<Write>> buffers) {
+        return buffers.stream().mapToInt(List::size).sum();
+    }
+
+    private enum Kind {
+        INSERT, UPDATE, DELETE
+    }
+
+    private record Write(Kind kind, CommunicationEntity entity, Duration ttl, DeleteQuery query) {
+
+        private Element element() {
+            return query.condition().orElseThrow().element();
+        }
+
+        private boolean sameBatch(Write write) {
+            if (kind != write.kind) {
+                return false;
+            }
+            return switch (kind) {
+                case INSERT -> Objects.equals(ttl, write.ttl);
+                case UPDATE -> true;
+                case DELETE -> element().name().equals(write.element().name());
+            };
+        }
+    }
+
+    private static final class Buffer {
+
+        private final long since;
+
+        private final List<Write> writes = new ArrayList<>();
+
+        private Buffer(long since) {
+            this.since = since;
+        }
+    }
+}
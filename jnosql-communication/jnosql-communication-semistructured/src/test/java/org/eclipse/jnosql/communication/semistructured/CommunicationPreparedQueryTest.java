@@ -0,0 +1,199 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommunicationPreparedQueryTest {
+
+    private final QueryParser parser = new QueryParser();
+
+    @Test
+    void shouldReturnErrorWhenThereIsNullParameter() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> parser.prepareQuery(null, null, CommunicationObserverParser.EMPTY))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> parser.prepareQuery("FROM God", null, null))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @Test
+    void shouldBindByName() {
+        var prepared = parser.prepareQuery("FROM God WHERE age = :age", null, CommunicationObserverParser.EMPTY);
+        var query = prepared.binder().bind("age", 10).select();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(prepared.parameters()).containsExactly("age");
+            soft.assertThat(query.name()).isEqualTo("God");
+            soft.assertThat(query.condition()).get().isEqualTo(CriteriaCondition.eq("age", 10));
+        });
+    }
+
+    @Test
+    void shouldBindByPosition() {
+        var prepared = parser.prepareQuery("FROM God WHERE age = ?1 AND name = ?2", null,
+                CommunicationObserverParser.EMPTY);
+        var query = prepared.binder().bind(1, 10).bind(2, "Ada").select();
+
+        assertThat(query.condition()).get().isEqualTo(CriteriaCondition.and(CriteriaCondition.eq("age", 10),
+                CriteriaCondition.eq("name", "Ada")));
+    }
+
+    @Test
+    void shouldShareSlotWhenParameterRepeats() {
+        var prepared = parser.prepareQuery("FROM God WHERE age > :age OR level > :age", null,
+                CommunicationObserverParser.EMPTY);
+        var query = prepared.binder().bind("age", 10).select();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(prepared.parameters()).containsExactly("age");
+            soft.assertThat(query.condition()).get().isEqualTo(CriteriaCondition.or(CriteriaCondition.gt("age", 10),
+                    CriteriaCondition.gt("level", 10)));
+        });
+    }
+
+    @Test
+    void shouldBindInAndNotCondition() {
+        var prepared = parser.prepareQuery("FROM God WHERE name IN (:first, 'Poliana') AND age <> :age", null,
+                CommunicationObserverParser.EMPTY);
+        var query = prepared.binder().bind("first", "Ada").bind("age", 10).select();
+
+        assertThat(query.condition()).get().isEqualTo(CriteriaCondition.and(
+                CriteriaCondition.in("name", List.of(Value.of("Ada"), "Poliana")),
+                CriteriaCondition.eq("age", 10).negate()));
+    }
+
+    @Test
+    void shouldKeepBindersIndependent() {
+        var prepared = parser.prepareQuery("FROM God WHERE age = :age", null, CommunicationObserverParser.EMPTY);
+        var first = prepared.binder().bind("age", 10);
+        var second = prepared.binder().bind("age", 20);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first.select().condition()).get().isEqualTo(CriteriaCondition.eq("age", 10));
+            soft.assertThat(second.select().condition()).get().isEqualTo(CriteriaCondition.eq("age", 20));
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsMissing() {
+        var prepared = parser.prepareQuery("FROM God WHERE age = :age", null, CommunicationObserverParser.EMPTY);
+        assertThatThrownBy(() -> prepared.binder().select())
+                .isInstanceOf(QueryException.class)
+                .hasMessageContaining("age");
+    }
+
+    @Test
+    void shouldReturnErrorWhenTypeIsWrong() {
+        var prepared = parser.prepareQuery("FROM God", null, CommunicationObserverParser.EMPTY);
+        assertThatThrownBy(() -> prepared.binder().delete()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldReuseQueryWithoutParameter() {
+        var prepared = parser.prepareQuery("FROM God ORDER BY name DESC", null, CommunicationObserverParser.EMPTY);
+        var query = prepared.binder().select();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(prepared.parameters()).isEmpty();
+            soft.assertThat(prepared.binder().select()).isSameAs(query);
+            soft.assertThat(query.condition()).isEmpty();
+            soft.assertThat(query.sorts()).hasSize(1);
+        });
+    }
+
+    @Test
+    void shouldPrepareDelete() {
+        var prepared = parser.prepareQuery("DELETE FROM God WHERE age BETWEEN :min AND :max", null,
+                CommunicationObserverParser.EMPTY);
+        var query = prepared.binder().bind("min", 10).bind("max", 20).delete();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(query.name()).isEqualTo("God");
+            soft.assertThat(query.condition()).get().extracting(CriteriaCondition::condition)
+                    .isEqualTo(Condition.BETWEEN);
+            soft.assertThat(query.condition()).get().isEqualTo(CriteriaCondition.between("age", List.of(Value.of(10), Value.of(20))));
+        });
+    }
+
+    @Test
+    void shouldPrepareUpdate() {
+        var prepared = parser.prepareQuery("UPDATE God SET name = :name WHERE age = :age", null,
+                CommunicationObserverParser.EMPTY);
+        var query = prepared.binder().bind("name", "Ada").bind("age", 10).update();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(query.name()).isEqualTo("God");
+            soft.assertThat(query.set()).containsExactly(Element.of("name", "Ada"));
+            soft.assertThat(query.condition()).get().isEqualTo(CriteriaCondition.eq("age", 10));
+        });
+    }
+
+    @Test
+    void shouldExecute() {
+        var manager = Mockito.mock(DatabaseManager.class);
+        Mockito.when(manager.select(Mockito.any(SelectQuery.class))).thenReturn(Stream.empty());
+        var prepared = parser.prepareQuery("FROM God WHERE age = :age", null, CommunicationObserverParser.EMPTY);
+
+        var result = prepared.binder().bind("age", 10).singleResult(manager);
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.verify(manager).select(captor.capture());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(result).isEmpty();
+            soft.assertThat(captor.getValue().condition()).get().isEqualTo(CriteriaCondition.eq("age", 10));
+        });
+    }
+
+    @Test
+    void shouldExecuteUpdate() {
+        var manager = Mockito.mock(DatabaseManager.class);
+        Mockito.when(manager.executeUpdate(Mockito.any(UpdateQuery.class))).thenReturn(2L);
+        var prepared = parser.prepareQuery("UPDATE God SET name = :name WHERE age = :age", null,
+                CommunicationObserverParser.EMPTY);
+
+        long count = prepared.binder().bind("name", "Ada").bind("age", 10).executeUpdate(manager);
+
+        ArgumentCaptor<UpdateQuery> captor = ArgumentCaptor.forClass(UpdateQuery.class);
+        Mockito.verify(manager).executeUpdate(captor.capture());
+        Mockito.verify(manager, Mockito.never()).update(Mockito.any(UpdateQuery.class));
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(count).isEqualTo(2L);
+            soft.assertThat(captor.getValue().set()).containsExactly(Element.of("name", "Ada"));
+        });
+    }
+
+    @Test
+    void shouldCount() {
+        var manager = Mockito.mock(DatabaseManager.class);
+        Mockito.when(manager.count(Mockito.any(SelectQuery.class))).thenReturn(10L);
+        var prepared = parser.prepareQuery("SELECT COUNT(THIS) FROM God WHERE age = :age", null,
+                CommunicationObserverParser.EMPTY);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(prepared.isCount()).isTrue();
+            soft.assertThat(prepared.binder().bind("age", 10).count(manager)).isEqualTo(10L);
+        });
+    }
+}
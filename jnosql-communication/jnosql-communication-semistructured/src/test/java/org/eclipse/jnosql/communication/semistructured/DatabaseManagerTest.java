@@ -26,6 +26,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -544,23 +545,163 @@ class DatabaseManagerTest {
         var entity = CommunicationEntity.of("person");
         entity.add("name", "Poliana");
         Mockito.when(databaseManager.select(select)).thenReturn(Stream.of(entity));
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
 
-        databaseManager.update(updateQuery);
+        List<CommunicationEntity> updated = new ArrayList<>();
+        databaseManager.update(updateQuery).forEach(updated::add);
 
-        ArgumentCaptor<CommunicationEntity> captor = ArgumentCaptor.forClass(CommunicationEntity.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<CommunicationEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
         Mockito.verify(databaseManager).update(captor.capture());
 
-        CommunicationEntity communication = captor.getValue();
+        CommunicationEntity communication = captor.getValue().iterator().next();
 
         SoftAssertions.assertSoftly(soft ->{
             soft.assertThat(communication.find("name").orElseThrow().get()).isEqualTo("Ada");
             soft.assertThat(communication.find("age").orElseThrow().get()).isEqualTo(10);
             soft.assertThat(communication.name()).isEqualTo("person");
+            soft.assertThat(updated).containsExactly(communication);
         });
 
 
     }
 
+    @Test
+    void shouldUpdateInChunks(){
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        Mockito.doReturn(2).when(databaseManager).updateChunkSize();
+        Stream<CommunicationEntity> entities = Stream.iterate(0, i -> i + 1)
+                .limit(5)
+                .map(i -> {
+                    var entity = CommunicationEntity.of("person");
+                    entity.add("id", i);
+                    return entity;
+                });
+        Mockito.when(databaseManager.select(updateQuery.toSelectQuery())).thenReturn(entities);
+        List<Integer> sizes = new ArrayList<>();
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenAnswer(invocation -> {
+                    List<CommunicationEntity> chunk = invocation.getArgument(0);
+                    sizes.add(chunk.size());
+                    return chunk;
+                });
+
+        long count = databaseManager.executeUpdate(updateQuery);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(count).isEqualTo(5L);
+            soft.assertThat(sizes).containsExactly(2, 2, 1);
+            soft.assertThat(databaseManager.supportsUpdateQuery()).isFalse();
+        });
+        Mockito.verify(databaseManager, Mockito.never()).update(Mockito.any(CommunicationEntity.class));
+    }
+
+    @Test
+    void shouldUpdateOneChunkAtATimeAsTheUpdatedEntitiesAreRead(){
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        Mockito.doReturn(2).when(databaseManager).updateChunkSize();
+        List<Integer> read = new ArrayList<>();
+        Stream<CommunicationEntity> entities = Stream.iterate(0, i -> i + 1)
+                .limit(5)
+                .map(i -> {
+                    read.add(i);
+                    var entity = CommunicationEntity.of("person");
+                    entity.add("id", i);
+                    return entity;
+                });
+        Mockito.when(databaseManager.select(updateQuery.toSelectQuery())).thenReturn(entities);
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        Iterable<CommunicationEntity> updated = databaseManager.update(updateQuery);
+        Mockito.verify(databaseManager, Mockito.never()).select(Mockito.any(SelectQuery.class));
+
+        List<Integer> held = new ArrayList<>();
+        int returned = 0;
+        for (CommunicationEntity entity : updated) {
+            returned++;
+            held.add(read.size() - returned + 1);
+        }
+        int count = returned;
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(count).isEqualTo(5);
+            soft.assertThat(held).allMatch(size -> size <= 2);
+            soft.assertThatThrownBy(updated::iterator).isInstanceOf(IllegalStateException.class);
+        });
+        Mockito.verify(databaseManager, Mockito.times(3)).update(Mockito.<Iterable<CommunicationEntity>>any());
+    }
+
+    @Test
+    void shouldUpdateInChunksOfOneHundredByDefault(){
+        Assertions.assertThat(databaseManager.updateChunkSize()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldReturnErrorWhenChunkSizeIsInvalid(){
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        Mockito.doReturn(0).when(databaseManager).updateChunkSize();
+
+        Assertions.assertThatThrownBy(() -> databaseManager.executeUpdate(updateQuery))
+                .isInstanceOf(IllegalArgumentException.class);
+        Mockito.verify(databaseManager, Mockito.never()).select(Mockito.any(SelectQuery.class));
+    }
+
+    @Test
+    void shouldExecuteUpdateInDatabaseWhenItSupportsUpdateQuery(){
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        var entity = CommunicationEntity.of("person");
+        Mockito.doReturn(true).when(databaseManager).supportsUpdateQuery();
+        Mockito.doReturn(List.of(entity, entity)).when(databaseManager).update(updateQuery);
+
+        long count = databaseManager.executeUpdate(updateQuery);
+
+        Assertions.assertThat(count).isEqualTo(2L);
+        Mockito.verify(databaseManager, Mockito.never()).select(Mockito.any(SelectQuery.class));
+    }
+
+    @Test
+    void shouldNotUpdateWhenThereIsNoEntity(){
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        Mockito.when(databaseManager.select(updateQuery.toSelectQuery())).thenReturn(Stream.empty());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(databaseManager.executeUpdate(updateQuery)).isZero();
+            soft.assertThatThrownBy(() -> databaseManager.executeUpdate(null))
+                    .isInstanceOf(NullPointerException.class);
+        });
+        Mockito.verify(databaseManager, Mockito.never()).update(Mockito.<Iterable<CommunicationEntity>>any());
+    }
+
+
+    @Test
+    void shouldNotSupportUpsertByDefault() {
+        var entity = CommunicationEntity.of("person");
+        assertSoftly(soft -> {
+            soft.assertThat(databaseManager.supportsUpsert()).isFalse();
+            soft.assertThatThrownBy(() -> databaseManager.upsert(entity))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            soft.assertThatThrownBy(() -> databaseManager.upsert((CommunicationEntity) null))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> databaseManager.upsert((Iterable<CommunicationEntity>) null))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @Test
+    void shouldUpsertEachEntityByDefault() {
+        var ada = CommunicationEntity.of("person");
+        ada.add("name", "Ada");
+        var poliana = CommunicationEntity.of("person");
+        poliana.add("name", "Poliana");
+        Mockito.doAnswer(invocation -> invocation.getArgument(0))
+                .when(databaseManager).upsert(Mockito.any(CommunicationEntity.class));
+
+        Iterable<CommunicationEntity> entities = databaseManager.upsert(List.of(ada, poliana));
+
+        Assertions.assertThat(entities).containsExactly(ada, poliana);
+        Mockito.verify(databaseManager, Mockito.times(2)).upsert(Mockito.any(CommunicationEntity.class));
+    }
 
     private Stream<CommunicationEntity> stream() {
         var entity = CommunicationEntity.of("name");
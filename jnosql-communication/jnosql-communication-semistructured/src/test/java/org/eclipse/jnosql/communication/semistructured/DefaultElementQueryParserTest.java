@@ -11,6 +11,7 @@
 package org.eclipse.jnosql.communication.semistructured;
 
 import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.query.data.QueryPlanCache;
 import jakarta.data.exceptions.NonUniqueResultException;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -197,4 +198,28 @@ class DefaultElementQueryParserTest {
        assertThrows(NonUniqueResultException.class, prepare::singleResult);
     }
 
+    @Test
+    void shouldReuseParsedQuery() {
+        var cacheParser = new QueryParser(QueryPlanCache.of());
+        Mockito.when(manager.select(Mockito.any(SelectQuery.class))).thenReturn(Stream.empty());
+
+        cacheParser.prepare("FROM God WHERE age = :age", null, manager, CommunicationObserverParser.EMPTY)
+                .bind("age", 12).result();
+        cacheParser.prepare("FROM God WHERE age = :age", null, manager, CommunicationObserverParser.EMPTY)
+                .bind("age", 20).result();
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.verify(manager, Mockito.times(2)).select(captor.capture());
+        assertEquals(12, captor.getAllValues().get(0).condition().orElseThrow().element().get());
+        assertEquals(20, captor.getAllValues().get(1).condition().orElseThrow().element().get());
+        assertEquals(1L, cacheParser.cache().misses());
+        assertEquals(1L, cacheParser.cache().hits());
+    }
+
+    @Test
+    void shouldShareTheDefaultCache() {
+        assertTrue(QueryParser.shared().cache() == QueryPlanCache.shared());
+        assertTrue(new QueryParser().cache() == QueryPlanCache.shared());
+    }
+
 }
@@ -49,6 +49,16 @@ class ElementTest {
         assertEquals(DEFAULT_VALUE, element.value());
     }
 
+    @Test
+    void shouldReturnPrimitives() {
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(Element.of("age", 12).getInt()).isEqualTo(12);
+            softly.assertThat(Element.of("age", "12").getLong()).isEqualTo(12L);
+            softly.assertThat(Element.of("price", 1.5D).getDouble()).isEqualTo(1.5D);
+            softly.assertThat(Element.of("active", true).getBoolean()).isTrue();
+        });
+    }
+
     @Test
     void shouldBeEquals() {
         assertEquals(Element.of("name", DEFAULT_VALUE), Element.of("name", DEFAULT_VALUE));
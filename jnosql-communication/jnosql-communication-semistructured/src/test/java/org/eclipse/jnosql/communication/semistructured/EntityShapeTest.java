@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityShapeTest {
+
+    private final EntityShape shape = EntityShape.of("Person", List.of("_id", "name", "age"));
+
+    @Test
+    void shouldReturnErrorWhenParametersAreNull() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> EntityShape.of(null, List.of())).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> EntityShape.of("Person", null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> shape.entity((Object[]) null)).isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsDuplicatedName() {
+        assertThatThrownBy(() -> EntityShape.of("Person", List.of("name", "name")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenValuesDoNotMatchTheShape() {
+        assertThatThrownBy(() -> shape.entity(10L, "Ada"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCreateEntity() {
+        CommunicationEntity entity = shape.entity(10L, Value.of("Ada"), null);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(shape.name()).isEqualTo("Person");
+            soft.assertThat(shape.elementNames()).containsExactly("_id", "name", "age");
+            soft.assertThat(entity.name()).isEqualTo("Person");
+            soft.assertThat(entity.size()).isEqualTo(3);
+            soft.assertThat(entity.find("_id", Long.class)).contains(10L);
+            soft.assertThat(entity.find("name", String.class)).contains("Ada");
+            soft.assertThat(entity.find("age").orElseThrow().value().isNull()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldCreateEmptyEntity() {
+        CommunicationEntity entity = shape.entity();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity.name()).isEqualTo("Person");
+            soft.assertThat(entity.isEmpty()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldCopyValues() {
+        Object[] values = {10L, "Ada", 36};
+        CommunicationEntity entity = shape.entity(values);
+        values[1] = "Grace";
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity.find("name", String.class)).contains("Ada");
+        });
+    }
+}
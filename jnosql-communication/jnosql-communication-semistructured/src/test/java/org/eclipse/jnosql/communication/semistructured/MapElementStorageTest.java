@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MapElementStorageTest {
+
+    @Test
+    void shouldReturnErrorWhenParametersAreNull() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> CommunicationEntity.view(null, Map.of()))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> CommunicationEntity.view("Person", null))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @Test
+    void shouldBeEqualsToElementsOfMap() {
+        Map<String, Object> document = document();
+        CommunicationEntity entity = CommunicationEntity.view("Person", document);
+        CommunicationEntity expected = CommunicationEntity.of("Person", Elements.of(document));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity).isEqualTo(expected).hasSameHashCodeAs(expected);
+            soft.assertThat(expected).isEqualTo(entity);
+            soft.assertThat(entity.size()).isEqualTo(expected.size());
+            soft.assertThat(entity.toMap()).isEqualTo(expected.toMap());
+            soft.assertThat(entity.elements()).containsExactlyInAnyOrderElementsOf(expected.elements());
+            soft.assertThat(entity.values()).containsExactlyInAnyOrderElementsOf(expected.values());
+            soft.assertThat(entity.elementNames()).isEqualTo(expected.elementNames());
+        });
+    }
+
+    @Test
+    void shouldDecodeOnlyTheElementsItReads() {
+        Map<String, Object> document = new HashMap<>(document());
+        document.put("broken", (Iterable<Object>) () -> {
+            throw new IllegalStateException("It should not be decoded");
+        });
+        CommunicationEntity entity = CommunicationEntity.view("Person", document);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity.find("name", String.class)).contains("Ada");
+            soft.assertThat(entity.find("age", Integer.class)).contains(36);
+            soft.assertThat(entity.find("address")).isPresent();
+            soft.assertThat(entity.find("phones", new TypeReference<List<String>>() {
+            })).contains(List.of("123", "456"));
+            soft.assertThat(entity.find("unknown")).isEmpty();
+            soft.assertThat(entity.find("nickname")).isEmpty();
+            soft.assertThat(entity.contains("broken")).isTrue();
+            soft.assertThat(entity.contains("nickname")).isFalse();
+            soft.assertThat(entity.size()).isEqualTo(6);
+            soft.assertThat(entity.elements()).hasSize(6);
+        });
+        assertThatThrownBy(() -> entity.elements().forEach(Element::get))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldDecodeEachElementOnce() {
+        CommunicationEntity entity = CommunicationEntity.view("Person", document());
+        Element address = entity.find("address").orElseThrow();
+        Element job = entity.elements().stream().filter(e -> e.name().equals("job")).findFirst().orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity.elements()).filteredOn(e -> e.name().equals("address"))
+                    .singleElement().isSameAs(address);
+            soft.assertThat(entity.find("job")).get().isSameAs(job);
+        });
+    }
+
+    @Test
+    void shouldReturnNamesWithoutDecoding() {
+        Map<String, Object> document = new HashMap<>(document());
+        document.put("broken", (Iterable<Object>) () -> {
+            throw new IllegalStateException("It should not be decoded");
+        });
+        CommunicationEntity entity = CommunicationEntity.view("Person", document);
+
+        assertThat(entity.elementNames()).containsExactlyInAnyOrder("name", "age", "phones", "address", "job",
+                "broken");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDecodeSubDocuments() {
+        CommunicationEntity entity = CommunicationEntity.view("Person", document());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat((List<Object>) entity.find("address").orElseThrow().get())
+                    .containsExactlyInAnyOrder(Element.of("city", "London"), Element.of("street", "Baker"));
+            soft.assertThat(entity.find("job").orElseThrow().get()).isEqualTo(Element.of("title", "Engineer"));
+        });
+    }
+
+    @Test
+    void shouldChangeWithoutChangingTheMap() {
+        Map<String, Object> document = document();
+        CommunicationEntity entity = CommunicationEntity.view("Person", document);
+        entity.find("name");
+        entity.add("city", "London");
+        entity.remove("age");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity.size()).isEqualTo(5);
+            soft.assertThat(entity.find("city", String.class)).contains("London");
+            soft.assertThat(entity.find("age")).isEmpty();
+            soft.assertThat(entity.find("name", String.class)).contains("Ada");
+            soft.assertThat(document).containsKey("age").doesNotContainKey("city");
+        });
+    }
+
+    @Test
+    void shouldCopyAndClear() {
+        Map<String, Object> document = document();
+        CommunicationEntity entity = CommunicationEntity.view("Person", document);
+        CommunicationEntity copy = entity.copy();
+        entity.clear();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity.isEmpty()).isTrue();
+            soft.assertThat(copy.size()).isEqualTo(5);
+            soft.assertThat(copy.find("name", String.class)).contains("Ada");
+            soft.assertThat(document).hasSize(6);
+        });
+    }
+
+    private static Map<String, Object> document() {
+        Map<String, Object> document = new HashMap<>();
+        document.put("name", "Ada");
+        document.put("age", 36);
+        document.put("nickname", null);
+        document.put("phones", List.of("123", "456"));
+        document.put("address", Map.of("city", "London", "street", "Baker"));
+        document.put("job", Map.of("title", "Engineer"));
+        return document;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShapedElementStorageTest {
+
+    private final EntityShape shape = EntityShape.of("Person", List.of("_id", "name", "age", "phones"));
+
+    @Test
+    void shouldBeEqualsToDefaultEntity() {
+        CommunicationEntity entity = shape.entity(10L, "Ada", 36, List.of("123"));
+        CommunicationEntity expected = CommunicationEntity.of("Person", List.of(Element.of("_id", 10L),
+                Element.of("name", "Ada"), Element.of("age", 36), Element.of("phones", List.of("123"))));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity).isEqualTo(expected).hasSameHashCodeAs(expected);
+            soft.assertThat(expected).isEqualTo(entity);
+            soft.assertThat(entity.toMap()).isEqualTo(expected.toMap());
+            soft.assertThat(entity.elements()).containsExactlyInAnyOrderElementsOf(expected.elements());
+            soft.assertThat(entity.values()).containsExactlyInAnyOrderElementsOf(expected.values());
+            soft.assertThat(entity.elementNames()).containsExactly("_id", "name", "age", "phones");
+        });
+    }
+
+    @Test
+    void shouldNotBeEqualsWhenElementsAreDifferent() {
+        CommunicationEntity entity = shape.entity(10L, "Ada", 36, List.of("123"));
+        CommunicationEntity other = CommunicationEntity.of("Person", List.of(Element.of("_id", 10L),
+                Element.of("name", "Ada"), Element.of("age", 37), Element.of("phones", List.of("123"))));
+        CommunicationEntity smaller = shape.entity(10L, "Ada", 36, List.of("123"));
+        smaller.remove("phones");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity).isNotEqualTo(other);
+            soft.assertThat(other).isNotEqualTo(entity);
+            soft.assertThat(entity).isNotEqualTo(smaller);
+            soft.assertThat(smaller).isNotEqualTo(entity);
+        });
+    }
+
+    @Test
+    void shouldFindElements() {
+        CommunicationEntity entity = shape.entity(10L, "Ada", "36", List.of("123"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity.find("_id")).contains(Element.of("_id", 10L));
+            soft.assertThat(entity.find("age", Integer.class)).contains(36);
+            soft.assertThat(entity.find("phones", new TypeReference<List<String>>() {
+            })).contains(List.of("123"));
+            soft.assertThat(entity.find("unknown")).isEmpty();
+            soft.assertThat(entity.find("unknown", String.class)).isEmpty();
+            soft.assertThat(entity.contains("name")).isTrue();
+            soft.assertThat(entity.contains("unknown")).isFalse();
+        });
+    }
+
+    @Test
+    void shouldAddAndRemoveElements() {
+        CommunicationEntity entity = shape.entity();
+        entity.add("name", "Ada");
+        entity.add(Element.of("_id", 10L));
+        entity.add("age", Value.of(36));
+        entity.addNull("phones");
+        entity.add("city", "London");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity.size()).isEqualTo(5);
+            soft.assertThat(entity.find("city", String.class)).contains("London");
+            soft.assertThat(entity.find("phones").orElseThrow().value().isNull()).isTrue();
+            soft.assertThat(entity.remove("name")).isTrue();
+            soft.assertThat(entity.remove("name")).isFalse();
+            soft.assertThat(entity.remove("city")).isTrue();
+            soft.assertThat(entity.remove("city")).isFalse();
+            soft.assertThat(entity.size()).isEqualTo(3);
+            soft.assertThat(entity.elementNames()).containsExactly("_id", "age", "phones");
+        });
+    }
+
+    @Test
+    void shouldKeepValueOfValue() {
+        CommunicationEntity entity = shape.entity();
+        CommunicationEntity expected = CommunicationEntity.of("Person");
+        Element subElement = Element.of("street", "Baker");
+        entity.add("name", Value.of("Ada"));
+        expected.add("name", (Object) Value.of("Ada"));
+        entity.add("age", (Object) subElement);
+        expected.add("age", (Object) subElement);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity.find("name").orElseThrow().get()).isEqualTo("Ada");
+            soft.assertThat(entity.find("age").orElseThrow().get()).isEqualTo(subElement);
+            soft.assertThat(entity.toMap()).containsEntry("age", Map.of("street", "Baker"));
+            soft.assertThat(expected.find("age")).isEqualTo(entity.find("age"));
+        });
+    }
+
+    @Test
+    void shouldCopy() {
+        CommunicationEntity entity = shape.entity(10L, "Ada", 36, List.of("123"));
+        entity.add("city", "London");
+        CommunicationEntity copy = entity.copy();
+        copy.remove("name");
+        copy.remove("city");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity.size()).isEqualTo(5);
+            soft.assertThat(copy.size()).isEqualTo(3);
+            soft.assertThat(entity.find("name", String.class)).contains("Ada");
+        });
+    }
+
+    @Test
+    void shouldClear() {
+        CommunicationEntity entity = shape.entity(10L, "Ada", 36, List.of("123"));
+        entity.add("city", "London");
+        entity.clear();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity.isEmpty()).isTrue();
+            soft.assertThat(entity.elements()).isEmpty();
+            soft.assertThat(entity.values()).isEmpty();
+            soft.assertThat(entity).isEqualTo(CommunicationEntity.of("Person"));
+        });
+    }
+
+    @Test
+    void shouldReturnUnmodifiableElements() {
+        CommunicationEntity entity = shape.entity(10L, "Ada", 36, List.of("123"));
+        assertThatThrownBy(() -> entity.elements().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(entity.toString()).contains("Person");
+    }
+}
@@ -22,6 +22,9 @@ import org.mockito.Mockito;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.eq;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -336,6 +339,61 @@ class UpdateQueryParserTest {
         assertThrows(QueryException.class, prepare::result);
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"UPDATE entity SET age = 10 WHERE age = :age"})
+    void shouldExecuteUpdateWithoutReadingEntities(String query) {
+        var captor = ArgumentCaptor.forClass(UpdateQuery.class);
+        Mockito.when(manager.executeUpdate(Mockito.any(UpdateQuery.class))).thenReturn(3L);
+
+        CommunicationPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.bind("age", 12);
+        long count = prepare.executeUpdate();
+
+        Mockito.verify(manager).executeUpdate(captor.capture());
+        Mockito.verify(manager, Mockito.never()).update(Mockito.any(UpdateQuery.class));
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(prepare.isUpdate()).isTrue();
+            soft.assertThat(count).isEqualTo(3L);
+            soft.assertThat(captor.getValue().condition()).get()
+                    .extracting(c -> c.element().get()).isEqualTo(12);
+        });
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"UPDATE entity SET age = 10"})
+    void shouldHoldAtMostAChunkOfEntities(String query) {
+        var chunked = Mockito.mock(DatabaseManager.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doReturn(3).when(chunked).updateChunkSize();
+        AtomicInteger read = new AtomicInteger();
+        Stream<CommunicationEntity> entities = IntStream.range(0, 10).mapToObj(i -> {
+            read.incrementAndGet();
+            var entity = CommunicationEntity.of("entity");
+            entity.add("id", i);
+            return entity;
+        });
+        Mockito.doReturn(entities).when(chunked).select(Mockito.any(SelectQuery.class));
+        Mockito.doAnswer(invocation -> invocation.getArgument(0))
+                .when(chunked).update(Mockito.<Iterable<CommunicationEntity>>any());
+
+        AtomicInteger returned = new AtomicInteger();
+        List<Integer> held = parser.query(query, chunked, observer)
+                .map(entity -> read.get() - returned.incrementAndGet() + 1)
+                .toList();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(held).hasSize(10).allMatch(size -> size <= 3);
+            soft.assertThat(read.get()).isEqualTo(10);
+        });
+        Mockito.verify(chunked, Mockito.times(4)).update(Mockito.<Iterable<CommunicationEntity>>any());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"UPDATE entity SET age = 10 WHERE age = :age"})
+    void shouldReturnErrorWhenExecuteUpdateHasParamsLeft(String query) {
+        CommunicationPreparedStatement prepare = parser.prepare(query, manager, observer);
+        assertThrows(QueryException.class, prepare::executeUpdate);
+    }
+
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"UPDATE entity SET age = 10 WHERE age = :age"})
     void shouldExecutePrepareStatement(String query) {
@@ -0,0 +1,354 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.communication.semistructured.DeleteQuery.delete;
+import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class WriteBehindDatabaseManagerTest {
+
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    private DatabaseManager manager;
+
+    private WriteBehindDatabaseManager writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        manager = Mockito.mock(DatabaseManager.class);
+        Mockito.when(manager.name()).thenReturn("database");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writeBehind != null) {
+            writeBehind.close();
+        }
+    }
+
+    @Test
+    void shouldReturnErrorWhenParametersAreInvalid() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> WriteBehindDatabaseManager.of(null, 10, HOUR, 10))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> WriteBehindDatabaseManager.of(manager, 10, null, 10))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> WriteBehindDatabaseManager.of(manager, 0, HOUR, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+            soft.assertThatThrownBy(() -> WriteBehindDatabaseManager.of(manager, 10, Duration.ZERO, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+            soft.assertThatThrownBy(() -> WriteBehindDatabaseManager.of(manager, 10, HOUR, 5))
+                    .isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+
+    @Test
+    void shouldKeepWritesUntilFlush() {
+        writeBehind = WriteBehindDatabaseManager.of(manager, 10, HOUR, 100);
+        var ada = person(1L, "Ada");
+        var grace = person(2L, "Grace");
+
+        var result = writeBehind.insert(ada);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(result).isSameAs(ada);
+            soft.assertThat(writeBehind.pending()).isEqualTo(1);
+        });
+        verify(manager, never()).insert(Mockito.<Iterable<CommunicationEntity>>any());
+
+        writeBehind.insert(grace);
+        writeBehind.flush();
+
+        verify(manager).insert(List.of(ada, grace));
+        assertThat(writeBehind.pending()).isZero();
+    }
+
+    @Test
+    void shouldSendWhenBatchIsFull() {
+        writeBehind = WriteBehindDatabaseManager.of(manager, 2, HOUR, 100);
+        var ada = person(1L, "Ada");
+        var grace = person(2L, "Grace");
+
+        writeBehind.update(List.of(ada, grace));
+
+        verify(manager, timeout(5_000)).update(List.of(ada, grace));
+    }
+
+    @Test
+    void shouldSendAfterMaxDelay() {
+        writeBehind = WriteBehindDatabaseManager.of(manager, 100, Duration.ofMillis(20), 100);
+        var ada = person(1L, "Ada");
+
+        writeBehind.insert(ada);
+
+        verify(manager, timeout(5_000)).insert(List.of(ada));
+    }
+
+    @Test
+    void shouldKeepOrderAndGroupRuns() {
+        writeBehind = WriteBehindDatabaseManager.of(manager, 10, HOUR, 100);
+        var ada = person(1L, "Ada");
+        var grace = person(2L, "Grace");
+        var alan = person(3L, "Alan");
+        Duration day = Duration.ofDays(1);
+
+        writeBehind.insert(ada);
+        writeBehind.insert(grace, day);
+        writeBehind.insert(alan, day);
+        writeBehind.update(ada);
+        writeBehind.delete(delete().from("Person").where("_id").eq(2L).build());
+        writeBehind.delete(delete().from("Person").where("_id").eq(3L).build());
+        writeBehind.flush();
+
+        InOrder order = Mockito.inOrder(manager);
+        order.verify(manager).insert(List.of(ada));
+        order.verify(manager).insert(List.of(grace, alan), day);
+        order.verify(manager).update(List.of(ada));
+        order.verify(manager).delete(delete().from("Person").where("_id").in(List.of(2L, 3L)).build());
+    }
+
+    @Test
+    void shouldSplitRunsInBatches() {
+        writeBehind = WriteBehindDatabaseManager.of(manager, 2, HOUR, 100);
+        List<CommunicationEntity> people = Stream.of(1L, 2L, 3L).map(id -> person(id, "Name")).toList();
+        var query = delete().from("Person").where("_id").eq(1L).build();
+
+        writeBehind.insert(people);
+        writeBehind.delete(query);
+        writeBehind.flush();
+
+        InOrder order = Mockito.inOrder(manager);
+        order.verify(manager).insert(people.subList(0, 2));
+        order.verify(manager).insert(people.subList(2, 3));
+        order.verify(manager).delete(query);
+    }
+
+    @Test
+    void shouldFlushBeforeReading() {
+        writeBehind = WriteBehindDatabaseManager.of(manager, 10, HOUR, 100);
+        var ada = person(1L, "Ada");
+        var query = select().from("Person").build();
+        Mockito.when(manager.select(query)).thenReturn(Stream.of(ada));
+
+        writeBehind.insert(ada);
+        List<CommunicationEntity> entities = writeBehind.select(query).toList();
+
+        InOrder order = Mockito.inOrder(manager);
+        order.verify(manager).insert(List.of(ada));
+        order.verify(manager).select(query);
+        assertThat(entities).containsExactly(ada);
+    }
+
+    @Test
+    void shouldFlushOnlyTheEntityNameBeforeReading() {
+        writeBehind = WriteBehindDatabaseManager.of(manager, 10, HOUR, 100);
+        var ada = person(1L, "Ada");
+        var book = CommunicationEntity.of("Book");
+        book.add("_id", 10L);
+
+        writeBehind.insert(ada);
+        writeBehind.insert(book);
+        writeBehind.count("Book");
+
+        verify(manager).insert(List.of(book));
+        verify(manager, never()).insert(List.of(ada));
+        assertThat(writeBehind.pending()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDeleteRightAwayWhenItIsNotById() {
+        writeBehind = WriteBehindDatabaseManager.of(manager, 10, HOUR, 100);
+        var ada = person(1L, "Ada");
+        var query = delete().from("Person").where("age").gt(10).build();
+
+        writeBehind.insert(ada);
+        writeBehind.delete(query);
+
+        InOrder order = Mockito.inOrder(manager);
+        order.verify(manager).insert(List.of(ada));
+        order.verify(manager).delete(query);
+        assertThat(writeBehind.pending()).isZero();
+    }
+
+    @Test
+    void shouldSendWritesBeforeUpsert() {
+        writeBehind = WriteBehindDatabaseManager.of(manager, 10, HOUR, 100);
+        var ada = person(1L, "Ada");
+        Mockito.when(manager.supportsUpsert()).thenReturn(true);
+
+        writeBehind.insert(ada);
+        writeBehind.upsert(ada);
+
+        InOrder order = Mockito.inOrder(manager);
+        order.verify(manager).insert(List.of(ada));
+        order.verify(manager).upsert(ada);
+        assertThat(writeBehind.supportsUpsert()).isTrue();
+    }
+
+    @Test
+    void shouldSendWritesBeforeExecuteUpdate() {
+        writeBehind = WriteBehindDatabaseManager.of(manager, 10, HOUR, 100);
+        var ada = person(1L, "Ada");
+        var query = new DefaultUpdateQuery("Person", List.of(Element.of("name", "Grace")), null);
+        Mockito.when(manager.executeUpdate(query)).thenReturn(1L);
+
+        writeBehind.insert(ada);
+        long count = writeBehind.executeUpdate(query);
+
+        InOrder order = Mockito.inOrder(manager);
+        order.verify(manager).insert(List.of(ada));
+        order.verify(manager).executeUpdate(query);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(count).isEqualTo(1L);
+            soft.assertThat(writeBehind.supportsUpdateQuery()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldSendWritesAndCloseManager() {
+        var closing = WriteBehindDatabaseManager.of(manager, 10, HOUR, 100);
+        var ada = person(1L, "Ada");
+
+        closing.insert(ada);
+        closing.close();
+        closing.close();
+
+        InOrder order = Mockito.inOrder(manager);
+        order.verify(manager).insert(List.of(ada));
+        order.verify(manager).close();
+        assertThrows(IllegalStateException.class, () -> closing.insert(ada));
+    }
+
+    @Test
+    void shouldReportBackgroundFailure() throws InterruptedException {
+        writeBehind = WriteBehindDatabaseManager.of(manager, 1, HOUR, 100);
+        var ada = person(1L, "Ada");
+        Mockito.when(manager.insert(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenThrow(new IllegalStateException("database is down"));
+
+        writeBehind.insert(ada);
+        awaitNoPending();
+
+        var exception = assertThrows(CommunicationException.class, () -> writeBehind.flush());
+        assertThat(exception).hasCauseInstanceOf(IllegalStateException.class);
+        writeBehind.flush();
+    }
+
+    @Test
+    void shouldSendTheOtherBatchesWhenOneFails() {
+        writeBehind = WriteBehindDatabaseManager.of(manager, 10, HOUR, 100);
+        var ada = person(1L, "Ada");
+        var grace = person(2L, "Grace");
+        var book = CommunicationEntity.of("Book");
+        book.add("_id", 10L);
+        var failure = new IllegalStateException("database is down");
+        Mockito.when(manager.insert(List.of(ada))).thenThrow(failure);
+        Mockito.when(manager.insert(List.of(book))).thenThrow(new IllegalArgumentException("invalid book"));
+
+        writeBehind.insert(ada);
+        writeBehind.update(grace);
+        writeBehind.insert(book);
+
+        var exception = assertThrows(CommunicationException.class, () -> writeBehind.flush());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(exception).hasCause(failure);
+            soft.assertThat(failure.getSuppressed()).hasSize(1)
+                    .hasOnlyElementsOfType(IllegalArgumentException.class);
+            soft.assertThat(writeBehind.pending()).isZero();
+        });
+        verify(manager).update(List.of(grace));
+        verify(manager).insert(List.of(book));
+        writeBehind.flush();
+    }
+
+    @Test
+    void shouldWrapTheFailureOfTheWritesBeforeReading() {
+        writeBehind = WriteBehindDatabaseManager.of(manager, 10, HOUR, 100);
+        var ada = person(1L, "Ada");
+        Mockito.when(manager.insert(List.of(ada))).thenThrow(new IllegalStateException("database is down"));
+
+        writeBehind.insert(ada);
+
+        var exception = assertThrows(CommunicationException.class, () -> writeBehind.count("Person"));
+        assertThat(exception).hasCauseInstanceOf(IllegalStateException.class);
+        verify(manager, never()).count("Person");
+    }
+
+    @Test
+    void shouldBlockWhenThereIsNoRoom() throws InterruptedException {
+        writeBehind = WriteBehindDatabaseManager.of(manager, 2, HOUR, 2);
+        var sending = new CountDownLatch(1);
+        var database = new CountDownLatch(1);
+        Mockito.when(manager.insert(Mockito.<Iterable<CommunicationEntity>>any())).thenAnswer(invocation -> {
+            sending.countDown();
+            database.await();
+            return invocation.getArgument(0);
+        });
+
+        writeBehind.insert(person(1L, "Ada"));
+        writeBehind.insert(person(2L, "Grace"));
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        var writer = new Thread(() -> writeBehind.insert(person(3L, "Alan")));
+        writer.start();
+        writer.join(100);
+        assertThat(writer.isAlive()).as("the writer waits for room").isTrue();
+
+        database.countDown();
+        writer.join(5_000);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(writer.isAlive()).isFalse();
+            soft.assertThat(writeBehind.pending()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldDelegateName() {
+        writeBehind = WriteBehindDatabaseManager.of(manager, 10, HOUR, 100);
+        assertThat(writeBehind.name()).isEqualTo("database");
+        verify(manager, never()).insert(any(CommunicationEntity.class));
+    }
+
+    private void awaitNoPending() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (writeBehind.pending() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static CommunicationEntity person(long id, String name) {
+        var entity = CommunicationEntity.of("Person");
+        entity.add("_id", id);
+        entity.add("name", name);
+        return entity;
+    }
+}
@@ -28,6 +28,12 @@ import java.util.Set;
  */
 public interface ClassScanner {
 
+    /**
+     * The resource of the class index written at build time, where the key is the class binary name and the value
+     * is its kind: {@code entity}, {@code embeddable} or {@code repository}.
+     */
+    String CLASS_INDEX = "META-INF/jnosql/classes.properties";
+
     /**
      * Returns a set of classes that are annotated with the {@link jakarta.nosql.Entity} annotation.
      *
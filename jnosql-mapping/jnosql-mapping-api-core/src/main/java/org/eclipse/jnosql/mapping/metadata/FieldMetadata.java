@@ -61,6 +61,20 @@ public interface FieldMetadata extends FieldParameterMetadata {
      */
     Object value(Value value);
 
+    /**
+     * Converts the {@link Value} to the field type and writes it through the bean,
+     * the same as {@code write(bean, value(value))}.
+     * A primitive field reads the value through the primitive accessors of {@link Value},
+     * such as {@link Value#getInt()}, so it is written without boxing.
+     *
+     * @param bean  the bean
+     * @param value the value {@link Value}
+     * @throws NullPointerException when there is a null parameter
+     */
+    default void writeValue(Object bean, Value value) {
+        write(bean, value(value));
+    }
+
     /**
      * Returns true if the field is annotated with {@link Id}.
      *
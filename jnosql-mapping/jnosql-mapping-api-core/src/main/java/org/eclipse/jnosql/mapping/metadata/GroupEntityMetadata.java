@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.metadata;
 
 import java.util.Map;
+import java.util.Set;
 
 /**
  * This interface represents metadata for grouped entities in the context of a data mapping framework.
@@ -39,4 +40,14 @@ public interface GroupEntityMetadata {
      * @return A map containing Java classes and their corresponding metadata.
      */
     Map<Class<?>, EntityMetadata> classes();
+
+    /**
+     * Returns the entity and embeddable classes whose {@link EntityMetadata} was not created yet,
+     * so it is created on the first use instead of at the startup.
+     *
+     * @return the classes without metadata yet, by default an empty set
+     */
+    default Set<Class<?>> lazyClasses() {
+        return Set.of();
+    }
 }
\ No newline at end of file
@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.core;
 
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.inject.spi.Bean;
@@ -24,19 +25,26 @@ import jakarta.nosql.AttributeConverter;
 import org.eclipse.jnosql.mapping.metadata.FieldParameterMetadata;
 
 import java.util.Iterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * The {@link jakarta.nosql.Convert} collection, this instance will generate/create an instance.
+ * It resolves each converter once and keeps the instance: a normal scoped bean through its client proxy, shared by
+ * every field with the same converter type, while a {@link jakarta.enterprise.context.Dependent} bean, destroyed with
+ * this collection, and a converter out of the CDI context, created by its constructor, have one instance per field.
  */
 @ApplicationScoped
 public class Converters {
 
     private static final Logger LOGGER = Logger.getLogger(Converters.class.getName());
 
+    private final Map<Object, ConverterInstance> instances = new ConcurrentHashMap<>();
+
     @Inject
     private BeanManager beanManager;
 
@@ -54,7 +62,11 @@ public class Converters {
         return getInstance(metadata);
     }
 
-
+    @PreDestroy
+    void destroy() {
+        instances.values().forEach(ConverterInstance::release);
+        instances.clear();
+    }
 
     @SuppressWarnings("unchecked")
     private <T> T getInstance(FieldParameterMetadata metadata) {
@@ -62,17 +74,37 @@ public class Converters {
                 .orElseThrow(() -> new NoSuchElementException("There is not converter to the field: "
                         + metadata.name() + " in the Field: " + metadata.type()));
 
+        ConverterInstance instance = instances.get(type);
+        if (instance == null) {
+            instance = instances.get(new FieldKey(metadata));
+        }
+        if (instance == null) {
+            ConverterInstance created = create(type, metadata);
+            Object key = created.shared() ? type : new FieldKey(metadata);
+            instance = instances.putIfAbsent(key, created);
+            if (instance == null) {
+                instance = created;
+            } else {
+                created.release();
+            }
+        }
+        return (T) instance.converter();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ConverterInstance create(Class<T> type, FieldParameterMetadata metadata) {
         Iterator<Bean<?>> iterator = beanManager.getBeans(type).iterator();
         if (iterator.hasNext()) {
             Bean<T> bean = (Bean<T>) iterator.next();
             CreationalContext<T> ctx = beanManager.createCreationalContext(bean);
-            return (T) beanManager.getReference(bean, type, ctx);
+            Object converter = beanManager.getReference(bean, type, ctx);
+            return new ConverterInstance(converter, ctx, beanManager.isNormalScope(bean.getScope()));
         } else {
             LOGGER.log(Level.FINE, "The converter type: " + type + " not found on CDI context, creating by constructor");
-            return (T) metadata.newConverter() .orElseThrow(() -> new NoSuchElementException("There is not converter to the field: "
+            Object converter = metadata.newConverter().orElseThrow(() -> new NoSuchElementException("There is not converter to the field: "
                     + metadata.name() + " in the Field: " + metadata.type()));
+            return new ConverterInstance(converter, null, false);
         }
-
     }
 
 
@@ -80,6 +112,32 @@ public class Converters {
     public String toString() {
         return "DefaultConverters{" +
                 "beanManager=" + beanManager +
+                ", converters=" + instances.keySet() +
                 '}';
     }
+
+    private record ConverterInstance(Object converter, CreationalContext<?> context, boolean shared) {
+
+        void release() {
+            if (context != null) {
+                context.release();
+            }
+        }
+    }
+
+    /**
+     * Identifies the instance of a field, since two fields might have equal metadata.
+     */
+    private record FieldKey(FieldParameterMetadata metadata) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof FieldKey that && metadata == that.metadata;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(metadata);
+        }
+    }
 }
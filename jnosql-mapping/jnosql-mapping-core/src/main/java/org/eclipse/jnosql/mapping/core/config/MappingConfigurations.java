@@ -55,7 +55,27 @@ public enum MappingConfigurations implements Supplier<String> {
     /**
      * Activate the automatic transaction at Graph database. By default it is true.
      */
-    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic");
+    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic"),
+    /**
+     * Activate the conversion plan per entity at the semi-structured entity converter. By default it is false.
+     */
+    ENTITY_CONVERTER_PLAN("jnosql.entity.converter.plan"),
+    /**
+     * Define how the entity metadata is created at the startup: {@code eager}, the default, creates it in sequence;
+     * {@code parallel} creates it on the common fork-join pool; and {@code lazy} creates it on the first use.
+     */
+    ENTITY_METADATA_MODE("jnosql.entity.metadata.mode"),
+    /**
+     * Define the maximum number of entities the template sends at once to the database manager
+     * on the operations with several entities. By default it is 100, and a value lower than one sends
+     * all the entities at once.
+     */
+    BATCH_SIZE("jnosql.batch.size"),
+    /**
+     * Define the maximum number of ids at a single {@code IN} condition when the template finds or deletes
+     * entities by several ids. By default it is 100, and a value lower than one sends all the ids at once.
+     */
+    IN_CLAUSE_SIZE("jnosql.query.in.size");
 
 
     private final String value;
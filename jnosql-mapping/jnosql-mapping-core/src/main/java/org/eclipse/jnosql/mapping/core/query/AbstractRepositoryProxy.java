@@ -22,6 +22,8 @@ import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.eclipse.jnosql.mapping.core.query.AnnotationOperation.DELETE;
 import static org.eclipse.jnosql.mapping.core.query.AnnotationOperation.INSERT;
@@ -31,12 +33,16 @@ import static org.eclipse.jnosql.mapping.core.query.AnnotationOperation.UPDATE;
 /**
  * Abstract class that serves as a proxy for repository interfaces.
  * It implements the InvocationHandler interface to handle method invocations.
+ * The {@link RepositoryType} of each method is resolved on the first invocation and kept by the proxy,
+ * so the following invocations skip the annotation and CDI lookups.
  *
  * @param <T> The type of the entity managed by the repository.
  * @param <K> The type of the entity's ID.
  */
 public abstract class AbstractRepositoryProxy<T, K> implements InvocationHandler {
 
+    private final Map<Method, RepositoryType> types = new ConcurrentHashMap<>();
+
     /**
      * Retrieves the underlying repository associated with this proxy.
      *
@@ -142,7 +148,7 @@ public abstract class AbstractRepositoryProxy<T, K> implements InvocationHandler
     @Override
     public Object invoke(Object instance, Method method, Object[] params) throws Throwable {
 
-        RepositoryType type = RepositoryType.of(method, repositoryType());
+        RepositoryType type = types.computeIfAbsent(method, m -> RepositoryType.of(m, repositoryType()));
 
         switch (type) {
             case DEFAULT -> {
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.query;
+
+import jakarta.data.exceptions.MappingException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Creates the repository instances. When the {@code jnosql-mapping-processor} has generated an implementation of the
+ * repository interface at build time, it creates this implementation, which calls the {@link AbstractRepository}
+ * methods directly and sends the other methods to the {@link AbstractRepositoryProxy}.
+ * Otherwise, it creates a {@link Proxy} of the repository interface.
+ * <p>
+ * The generated implementation is a class at the same package of the repository, named by the repository binary name
+ * and the {@link #SUFFIX}, with a public constructor that takes an {@link AbstractRepository} and an
+ * {@link InvocationHandler}.
+ */
+public final class GeneratedRepositories {
+
+    /**
+     * The suffix of the generated repository implementations, for example {@code PersonRepository_JNoSQL}.
+     */
+    public static final String SUFFIX = "_JNoSQL";
+
+    private static final ClassValue<Optional<Constructor<?>>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(Class<?> type) {
+            return constructor(type);
+        }
+    };
+
+    private GeneratedRepositories() {
+    }
+
+    /**
+     * Creates an instance of the repository interface.
+     *
+     * @param type    the repository interface
+     * @param handler the repository proxy
+     * @param <T>     the repository type
+     * @return the generated implementation when there is one, otherwise a {@link Proxy}
+     * @throws NullPointerException when either type or handler is null
+     * @throws MappingException     when the generated implementation cannot be created
+     */
+    public static <T> T newInstance(Class<T> type, AbstractRepositoryProxy<?, ?> handler) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(handler, "handler is required");
+        Optional<Constructor<?>> constructor = CONSTRUCTORS.get(type);
+        if (constructor.isPresent()) {
+            try {
+                return type.cast(constructor.get().newInstance(handler.repository(), handler));
+            } catch (ReflectiveOperationException exception) {
+                throw new MappingException("There is an issue to create the generated repository of " + type.getName(),
+                        exception);
+            }
+        }
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, handler));
+    }
+
+    private static Optional<Constructor<?>> constructor(Class<?> type) {
+        try {
+            Class<?> implementation = Class.forName(type.getName() + SUFFIX, false, type.getClassLoader());
+            if (!type.isAssignableFrom(implementation)) {
+                return Optional.empty();
+            }
+            return Optional.of(implementation.getConstructor(AbstractRepository.class, InvocationHandler.class));
+        } catch (ClassNotFoundException | NoSuchMethodException exception) {
+            return Optional.empty();
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.lang.reflect.Parameter;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utilitarian class to {@link Param anotation}
@@ -33,56 +34,36 @@ public enum RepositoryReflectionUtils {
 
     INSTANCE;
 
+    private final ClassValue<Map<Method, String[][]>> params = new MethodNames();
+
+    private final ClassValue<Map<Method, String[][]>> by = new MethodNames();
+
     /**
-     * Converts values at arg at a {@link Map}
+     * Converts values at arg at a {@link Map}.
+     * The names of each parameter are read once per method, and kept per declaring class,
+     * so they go away with the repository class.
      *
      * @param method the method that has the {@link Param} info
      * @param args   the arguments from the method
      * @return the {@link Map} from method and its arguments
      */
     public Map<String, Object> getParams(Method method, Object[] args) {
-        Map<String, Object> params = new HashMap<>();
-
-        Parameter[] parameters = method.getParameters();
-        int queryIndex = 1;
-        for (int index = 0; index < parameters.length; index++) {
-            Parameter parameter = parameters[index];
-            boolean isNotSpecialParameter = SpecialParameters.isNotSpecialParameter(parameter.getType());
-            Param param = parameter.getAnnotation(Param.class);
-            if (Objects.nonNull(param)) {
-                params.put(param.value(), args[index]);
-            } else if (isNotSpecialParameter) {
-                if (parameter.isNamePresent()) {
-                    params.put(parameter.getName(), args[index]);
-                }
-                params.put("?" + queryIndex++, args[index]);
-            }
-        }
-        return params;
+        return bind(params.get(method.getDeclaringClass())
+                .computeIfAbsent(method, RepositoryReflectionUtils::paramNames), args);
     }
 
     /**
-     * Converts values at arg at a {@link Map}
+     * Converts values at arg at a {@link Map}.
+     * The names of each parameter are read once per method, and kept per declaring class,
+     * so they go away with the repository class.
      *
      * @param method the method that has the {@link By} info
      * @param args   the arguments from the method
      * @return the {@link Map} from method and its arguments
      */
     public Map<String, Object> getBy(Method method, Object[] args) {
-        Map<String, Object> params = new HashMap<>();
-
-        Parameter[] parameters = method.getParameters();
-        for (int index = 0; index < parameters.length; index++) {
-            Parameter parameter = parameters[index];
-            boolean isNotSpecialParameter = SpecialParameters.isNotSpecialParameter(parameter.getType());
-            By by = parameter.getAnnotation(By.class);
-            if (Objects.nonNull(by)) {
-                params.put(by.value(), args[index]);
-            } else if(parameter.isNamePresent() && isNotSpecialParameter) {
-                params.put(parameter.getName(), args[index]);
-            }
-        }
-        return params;
+        return bind(by.get(method.getDeclaringClass())
+                .computeIfAbsent(method, RepositoryReflectionUtils::byNames), args);
     }
 
 
@@ -96,7 +77,59 @@ public enum RepositoryReflectionUtils {
         return method.getAnnotation(Query.class).value();
     }
 
+    private static Map<String, Object> bind(String[][] names, Object[] args) {
+        Map<String, Object> values = new HashMap<>();
+        for (int index = 0; index < names.length; index++) {
+            for (String name : names[index]) {
+                values.put(name, args[index]);
+            }
+        }
+        return values;
+    }
 
+    private static String[][] paramNames(Method method) {
+        Parameter[] parameters = method.getParameters();
+        String[][] names = new String[parameters.length][];
+        int queryIndex = 1;
+        for (int index = 0; index < parameters.length; index++) {
+            Parameter parameter = parameters[index];
+            boolean isNotSpecialParameter = SpecialParameters.isNotSpecialParameter(parameter.getType());
+            Param param = parameter.getAnnotation(Param.class);
+            if (Objects.nonNull(param)) {
+                names[index] = new String[]{param.value()};
+            } else if (isNotSpecialParameter) {
+                String position = "?" + queryIndex++;
+                names[index] = parameter.isNamePresent() ? new String[]{parameter.getName(), position}
+                        : new String[]{position};
+            } else {
+                names[index] = new String[0];
+            }
+        }
+        return names;
+    }
 
+    private static String[][] byNames(Method method) {
+        Parameter[] parameters = method.getParameters();
+        String[][] names = new String[parameters.length][];
+        for (int index = 0; index < parameters.length; index++) {
+            Parameter parameter = parameters[index];
+            boolean isNotSpecialParameter = SpecialParameters.isNotSpecialParameter(parameter.getType());
+            By by = parameter.getAnnotation(By.class);
+            if (Objects.nonNull(by)) {
+                names[index] = new String[]{by.value()};
+            } else if (parameter.isNamePresent() && isNotSpecialParameter) {
+                names[index] = new String[]{parameter.getName()};
+            } else {
+                names[index] = new String[0];
+            }
+        }
+        return names;
+    }
 
+    private static final class MethodNames extends ClassValue<Map<Method, String[][]>> {
+        @Override
+        protected Map<Method, String[][]> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    }
 }
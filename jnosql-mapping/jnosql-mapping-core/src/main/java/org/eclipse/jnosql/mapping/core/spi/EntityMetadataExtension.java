@@ -20,19 +20,30 @@ import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.spi.BeforeBeanDiscovery;
 import jakarta.enterprise.inject.spi.Extension;
 import jakarta.nosql.Entity;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.metadata.ClassConverter;
 import org.eclipse.jnosql.mapping.metadata.ClassScanner;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.GroupEntityMetadata;
 
+import java.util.Arrays;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This class is a CDI extension to load all class that has {@link Entity} annotation.
  * This extension will load all Classes and put in a map.
- * Where the key is {@link Class#getName()} and the value is {@link EntityMetadata}
+ * Where the key is {@link Class#getName()} and the value is {@link EntityMetadata}.
+ * The {@code jnosql.entity.metadata.mode} property defines whether it creates the metadata in sequence, in parallel
+ * or only registers the classes, so {@link org.eclipse.jnosql.mapping.metadata.EntitiesMetadata} creates
+ * the metadata on the first use.
  */
 @ApplicationScoped
 public class EntityMetadataExtension implements Extension, GroupEntityMetadata {
@@ -42,6 +53,8 @@ public class EntityMetadataExtension implements Extension, GroupEntityMetadata {
 
     private final Map<Class<?>, EntityMetadata> classes = new ConcurrentHashMap<>();
 
+    private final Set<Class<?>> lazyClasses = ConcurrentHashMap.newKeySet();
+
     private final ClassConverter converter;
 
     {
@@ -51,29 +64,44 @@ public class EntityMetadataExtension implements Extension, GroupEntityMetadata {
     public void afterBeanDiscovery(@Observes BeforeBeanDiscovery event) {
         LOGGER.fine("Starting the scanning process for Entity and Embeddable annotations: ");
 
+        long start = System.nanoTime();
         ClassScanner scanner = ClassScanner.load();
+        Mode mode = mode();
+        switch (mode) {
+            case LAZY -> {
+                lazyClasses.addAll(scanner.entities());
+                lazyClasses.addAll(scanner.embeddables());
+            }
+            case PARALLEL -> {
+                processEntities(scanner.entities().parallelStream());
+                processEmbeddables(scanner.embeddables().parallelStream());
+            }
+            default -> {
+                processEntities(scanner.entities().stream());
+                processEmbeddables(scanner.embeddables().stream());
+            }
+        }
 
-        processEntities(scanner);
-        processEmbeddables(scanner);
-
-        LOGGER.fine("Finishing the scanning with total of " + classes.size() + " scanned.");
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LOGGER.fine(String.format("Finishing the scanning on the %s mode with total of %d scanned and %d lazy in %d ms",
+                mode.name().toLowerCase(Locale.US), classes.size(), lazyClasses.size(), elapsed));
     }
 
-    private void processEntities(ClassScanner scanner) {
-        for (Class<?> entity : scanner.entities()) {
+    private void processEntities(Stream<Class<?>> entities) {
+        entities.forEach(entity -> {
             EntityMetadata entityMetadata = convertToEntityMetadata(entity);
             if (entityMetadata.hasEntityName()) {
                 mappings.put(entityMetadata.name(), entityMetadata);
             }
             classes.put(entity, entityMetadata);
-        }
+        });
     }
 
-    private void processEmbeddables(ClassScanner scanner) {
-        for (Class<?> embeddable : scanner.embeddables()) {
+    private void processEmbeddables(Stream<Class<?>> embeddables) {
+        embeddables.forEach(embeddable -> {
             EntityMetadata entityMetadata = convertToEntityMetadata(embeddable);
             classes.put(embeddable, entityMetadata);
-        }
+        });
     }
 
     private EntityMetadata convertToEntityMetadata(Class<?> entityClass) {
@@ -90,11 +118,38 @@ public class EntityMetadataExtension implements Extension, GroupEntityMetadata {
         return classes;
     }
 
+    @Override
+    public Set<Class<?>> lazyClasses() {
+        return lazyClasses;
+    }
+
+    private static Mode mode() {
+        return MicroProfileSettings.INSTANCE.get(MappingConfigurations.ENTITY_METADATA_MODE, String.class)
+                .map(EntityMetadataExtension::mode)
+                .orElse(Mode.EAGER);
+    }
+
+    private static Mode mode(String value) {
+        try {
+            return Mode.valueOf(value.trim().toUpperCase(Locale.US));
+        } catch (IllegalArgumentException exception) {
+            String modes = Arrays.stream(Mode.values()).map(m -> m.name().toLowerCase(Locale.US))
+                    .collect(Collectors.joining(", "));
+            throw new IllegalArgumentException("The property " + MappingConfigurations.ENTITY_METADATA_MODE.get()
+                    + " has the invalid value " + value + ", the accepted values are: " + modes, exception);
+        }
+    }
+
     @Override
     public String toString() {
         return "EntityMetadataExtension{" + "classConverter=" + converter +
                 ", mappings-size=" + mappings.size() +
                 ", classes=" + classes +
+                ", lazyClasses=" + lazyClasses +
                 '}';
     }
+
+    private enum Mode {
+        EAGER, PARALLEL, LAZY
+    }
 }
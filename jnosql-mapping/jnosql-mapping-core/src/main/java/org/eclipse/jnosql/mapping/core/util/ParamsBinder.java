@@ -22,19 +22,21 @@ import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.function.BiConsumer;
 
 /**
  * A Binder class, that will apply values in the {@link Params} instance to a dynamic query.
  */
 public class ParamsBinder {
 
-    private final EntityMetadata mapping;
-
     private final Converters converters;
 
+    private final Map<String, FieldMetadata> fields = new HashMap<>();
+
     /**
      * Creates a ParamsBinder instance
      *
@@ -43,8 +45,9 @@ public class ParamsBinder {
      * @throws NullPointerException when there is null parameter
      */
     public ParamsBinder(EntityMetadata mapping, Converters converters) {
-        this.mapping = Objects.requireNonNull(mapping, "mapping is required");
+        Objects.requireNonNull(mapping, "mapping is required");
         this.converters = Objects.requireNonNull(converters, "converters is required");
+        mapping.fields().forEach(field -> this.fields.putIfAbsent(field.name(), field));
     }
 
     /**
@@ -56,12 +59,28 @@ public class ParamsBinder {
      * @throws NullPointerException when there is null parameter
      */
     public void bind(Params params, Object[] args, Method method) {
-
         Objects.requireNonNull(params, "params is required");
+        bind(params.getParametersNames(), args, method, params::bind);
+    }
+
+    /**
+     * Converts the args to the parameters of a query and sends each name and value to the binder,
+     * the n-th name receives the n-th argument.
+     *
+     * @param names  the parameter names in the order they appear at the query
+     * @param args   the args
+     * @param method the method
+     * @param binder the consumer that receives each parameter name and its value
+     * @throws NullPointerException  when there is null parameter
+     * @throws DynamicQueryException when there are more parameters than args
+     */
+    public void bind(List<String> names, Object[] args, Method method, BiConsumer<String, Object> binder) {
+
+        Objects.requireNonNull(names, "names is required");
         Objects.requireNonNull(args, "args is required");
         Objects.requireNonNull(method, "method is required");
+        Objects.requireNonNull(binder, "binder is required");
 
-        List<String> names = params.getParametersNames();
         if (names.size() > args.length) {
             throw new DynamicQueryException("The number of parameters in a query is bigger than the number of " +
                     "parameters in the method: " + method);
@@ -70,11 +89,10 @@ public class ParamsBinder {
             String name = names.get(index);
             int lastIndex = name.lastIndexOf('_') == -1 ? name.length() : name.lastIndexOf('_');
             String fieldName = name.substring(0, lastIndex);
-            Optional<FieldMetadata> field = this.mapping.fields().stream()
-                    .filter(f -> f.name().equals(fieldName)).findFirst();
+            FieldMetadata field = this.fields.get(fieldName);
 
-            Object value = getValue(args, index, field.orElse(null));
-            params.bind(name, value);
+            Object value = getValue(args, index, field);
+            binder.accept(name, value);
         }
     }
 
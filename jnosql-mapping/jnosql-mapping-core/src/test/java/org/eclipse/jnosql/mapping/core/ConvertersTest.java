@@ -17,6 +17,7 @@ package org.eclipse.jnosql.mapping.core;
 import jakarta.inject.Inject;
 import jakarta.nosql.AttributeConverter;
 import jakarta.nosql.Convert;
+import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
 import org.jboss.weld.junit5.auto.AddExtensions;
@@ -78,9 +79,73 @@ class ConvertersTest {
         Assertions.assertEquals("Text", text);
     }
 
+    @Test
+    void shouldReturnSameInstance() {
+        FieldMetadata field = field(MyConverter.class, new MyConverter());
+        FieldMetadata other = field(MyConverter.class, new MyConverter());
+
+        AttributeConverter<String, String> converter = converters.get(field);
+        assertThat(converters.<String, String>get(other)).isSameAs(converter);
+    }
+
+    @Test
+    void shouldReturnSameInstanceNotUsingInjections() {
+        FieldMetadata field = field(VetedConverter.class, new VetedConverter());
+        AttributeConverter<String, String> converter = converters.get(field);
+
+        assertThat(converters.<String, String>get(field)).isSameAs(converter);
+        Mockito.verify(field, Mockito.times(1)).newConverter();
+    }
+
+    @Test
+    void shouldDestroyDependentConverter() {
+        FieldMetadata field = field(DependentConverter.class, new DependentConverter());
+        AttributeConverter<String, String> converter = converters.get(field);
+        int destroyed = DependentConverter.DESTROYED.get();
+
+        assertThat(converters.<String, String>get(field)).isSameAs(converter);
+        converters.destroy();
+        assertThat(DependentConverter.DESTROYED.get()).isEqualTo(destroyed + 1);
+    }
+
+    @Test
+    void shouldReturnDependentInstancePerField() {
+        FieldMetadata field = field(DependentConverter.class, new DependentConverter());
+        FieldMetadata other = field(DependentConverter.class, new DependentConverter());
+        AttributeConverter<String, String> converter = converters.get(field);
+        int destroyed = DependentConverter.DESTROYED.get();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(converters.<String, String>get(field)).isSameAs(converter);
+            soft.assertThat(converters.<String, String>get(other)).isNotSameAs(converter);
+        });
+        converters.destroy();
+        assertThat(DependentConverter.DESTROYED.get()).isEqualTo(destroyed + 2);
+    }
+
+    @Test
+    void shouldReturnInstancePerFieldNotUsingInjections() {
+        FieldMetadata field = field(VetedConverter.class, new VetedConverter());
+        FieldMetadata other = field(VetedConverter.class, new VetedConverter());
+
+        AttributeConverter<String, String> converter = converters.get(field);
+        assertThat(converters.<String, String>get(other)).isNotSameAs(converter);
+    }
+
     @Test
     void shouldGetToString(){
         assertThat(this.converters.toString()).isNotNull().isNotBlank().isNotEmpty();
     }
 
-}
\ No newline at end of file
+    @SuppressWarnings("unchecked")
+    private FieldMetadata field(Class<?> type, AttributeConverter<?, ?> instance) {
+        FieldMetadata fieldMetadata = Mockito.mock(FieldMetadata.class);
+        Optional<?> converter = Optional.of(type);
+        Optional<?> newInstance = Optional.of(instance);
+        Mockito.when(fieldMetadata.converter())
+                .thenReturn((Optional<Class<AttributeConverter<Object, Object>>>) converter);
+        Mockito.lenient().when(fieldMetadata.newConverter())
+                .thenReturn((Optional<AttributeConverter<Object, Object>>) newInstance);
+        return fieldMetadata;
+    }
+}
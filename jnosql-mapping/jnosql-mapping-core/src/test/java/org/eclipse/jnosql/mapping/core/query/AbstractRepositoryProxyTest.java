@@ -24,6 +24,7 @@ import org.mockito.Mockito;
 
 import java.lang.reflect.Method;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -101,4 +102,22 @@ class AbstractRepositoryProxyTest {
         });
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldResolveRepositoryTypeOnce() throws Throwable {
+        var calls = new AtomicInteger();
+        var countingProxy = new TestRepositoryProxy() {
+            @Override
+            protected Class<?> repositoryType() {
+                calls.incrementAndGet();
+                return super.repositoryType();
+            }
+        };
+        Method method = TestRepository.class.getMethod("countBy");
+        countingProxy.invoke(countingProxy, method, new Object[]{});
+        Object result = countingProxy.invoke(countingProxy, method, new Object[]{});
+
+        assertEquals("executeCountByQuery", result);
+        assertEquals(1, calls.get());
+    }
+
+}
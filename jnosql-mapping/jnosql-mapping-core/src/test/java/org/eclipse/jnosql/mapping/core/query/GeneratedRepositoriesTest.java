@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.query;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+class GeneratedRepositoriesTest {
+
+    @Test
+    void shouldCreateGeneratedRepository() {
+        AbstractRepositoryProxy<TestEntity, UUID> handler = Mockito.mock(AbstractRepositoryProxy.class);
+        AbstractRepository<TestEntity, UUID> repository = Mockito.mock(AbstractRepository.class);
+        when(handler.repository()).thenReturn(repository);
+
+        EntityRepository instance = GeneratedRepositories.newInstance(EntityRepository.class, handler);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(instance).isInstanceOf(EntityRepository_JNoSQL.class);
+            soft.assertThat(((EntityRepository_JNoSQL) instance).repository).isSameAs(repository);
+            soft.assertThat(((EntityRepository_JNoSQL) instance).handler).isSameAs(handler);
+        });
+    }
+
+    @Test
+    void shouldCreateProxyWhenThereIsNoGeneratedRepository() {
+        var handler = new TestRepositoryProxy();
+        var instance = GeneratedRepositories.newInstance(TestRepository.class, handler);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Proxy.isProxyClass(instance.getClass())).isTrue();
+            soft.assertThat(instance.toString()).isEqualTo(handler.toString());
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatThrownBy(() -> GeneratedRepositories.newInstance(null, new TestRepositoryProxy()))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> GeneratedRepositories.newInstance(TestRepository.class, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    interface EntityRepository {
+    }
+
+    static final class EntityRepository_JNoSQL implements EntityRepository {
+
+        final AbstractRepository<TestEntity, UUID> repository;
+
+        final InvocationHandler handler;
+
+        public EntityRepository_JNoSQL(AbstractRepository<TestEntity, UUID> repository, InvocationHandler handler) {
+            this.repository = repository;
+            this.handler = handler;
+        }
+    }
+}
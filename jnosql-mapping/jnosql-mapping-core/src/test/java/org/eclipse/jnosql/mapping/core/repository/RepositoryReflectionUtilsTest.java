@@ -56,6 +56,17 @@ class RepositoryReflectionUtilsTest {
 
     }
 
+    @Test
+    void shouldBindNewArgsOnSameMethod() {
+        Method method = Arrays.stream(PersonRepository.class.getDeclaredMethods()).filter(m -> m.getName().equals("query"))
+                .findFirst().orElseThrow();
+        Map<String, Object> first = RepositoryReflectionUtils.INSTANCE.getParams(method, new Object[]{"Ada", Sort.asc("")});
+        Map<String, Object> second = RepositoryReflectionUtils.INSTANCE.getParams(method, new Object[]{"Poliana", Sort.asc("")});
+
+        assertThat(first).containsEntry("name", "Ada");
+        assertThat(second).hasSize(1).containsEntry("name", "Poliana");
+    }
+
     @Test
     void shouldQuery() {
         Method method = Arrays.stream(PersonRepository.class.getDeclaredMethods()).filter(m -> m.getName().equals("query"))
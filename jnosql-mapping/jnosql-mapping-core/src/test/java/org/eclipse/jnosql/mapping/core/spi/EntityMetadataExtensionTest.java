@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.spi;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.entities.Job;
+import org.eclipse.jnosql.mapping.core.entities.Person;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityMetadataExtensionTest {
+
+    @AfterEach
+    void afterEach() {
+        System.clearProperty(MappingConfigurations.ENTITY_METADATA_MODE.get());
+    }
+
+    @Test
+    void shouldCreateMetadataOnEagerMode() {
+        var extension = new EntityMetadataExtension();
+        extension.afterBeanDiscovery(null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(extension.classes()).containsKeys(Person.class, Job.class);
+            soft.assertThat(extension.mappings()).containsKey("Person");
+            soft.assertThat(extension.lazyClasses()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldCreateMetadataOnParallelMode() {
+        var eager = new EntityMetadataExtension();
+        eager.afterBeanDiscovery(null);
+
+        System.setProperty(MappingConfigurations.ENTITY_METADATA_MODE.get(), "parallel");
+        var extension = new EntityMetadataExtension();
+        extension.afterBeanDiscovery(null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(extension.classes()).containsOnlyKeys(eager.classes().keySet());
+            soft.assertThat(extension.mappings()).containsOnlyKeys(eager.mappings().keySet());
+            soft.assertThat(extension.classes().get(Person.class).fieldsName())
+                    .containsExactlyElementsOf(eager.classes().get(Person.class).fieldsName());
+            soft.assertThat(extension.lazyClasses()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldRegisterClassesOnLazyMode() {
+        System.setProperty(MappingConfigurations.ENTITY_METADATA_MODE.get(), "lazy");
+        var extension = new EntityMetadataExtension();
+        extension.afterBeanDiscovery(null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(extension.classes()).isEmpty();
+            soft.assertThat(extension.mappings()).isEmpty();
+            soft.assertThat(extension.lazyClasses()).contains(Person.class, Job.class);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenModeIsInvalid() {
+        System.setProperty(MappingConfigurations.ENTITY_METADATA_MODE.get(), "fast");
+        var extension = new EntityMetadataExtension();
+
+        assertThatThrownBy(() -> extension.afterBeanDiscovery(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("jnosql.entity.metadata.mode")
+                .hasMessageContaining("fast")
+                .hasMessageContaining("eager, parallel, lazy");
+    }
+}
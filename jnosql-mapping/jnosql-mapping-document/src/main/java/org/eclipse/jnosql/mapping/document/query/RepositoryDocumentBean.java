@@ -17,6 +17,7 @@ package org.eclipse.jnosql.mapping.document.query;
 import jakarta.data.repository.DataRepository;
 import jakarta.enterprise.context.spi.CreationalContext;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.query.GeneratedRepositories;
 import org.eclipse.jnosql.mapping.DatabaseQualifier;
 import org.eclipse.jnosql.mapping.DatabaseType;
 import org.eclipse.jnosql.mapping.document.DocumentTemplate;
@@ -26,7 +27,6 @@ import org.eclipse.jnosql.mapping.core.util.AnnotationLiteralUtil;
 import org.eclipse.jnosql.mapping.semistructured.query.SemiStructuredRepositoryProxy;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashSet;
@@ -81,7 +81,6 @@ public class RepositoryDocumentBean<T extends DataRepository<T, ?>> extends Abst
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public T create(CreationalContext<T> context) {
         EntitiesMetadata entities = getInstance(EntitiesMetadata.class);
         var template = provider.isEmpty() ? getInstance(DocumentTemplate.class) :
@@ -91,9 +90,7 @@ public class RepositoryDocumentBean<T extends DataRepository<T, ?>> extends Abst
 
         var handler = new SemiStructuredRepositoryProxy<>(template,
                 entities, type, converters);
-        return (T) Proxy.newProxyInstance(type.getClassLoader(),
-                new Class[]{type},
-                handler);
+        return GeneratedRepositories.newInstance(type, handler);
     }
 
 
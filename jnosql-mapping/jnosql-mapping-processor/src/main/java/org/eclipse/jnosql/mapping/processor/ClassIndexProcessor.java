@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An annotation processor that writes the index of the entities, the embeddables and the repositories at
+ * {@value ClassScanner#CLASS_INDEX}, where the key is the class binary name and the value is its kind:
+ * {@code entity}, {@code embeddable} or {@code repository}.
+ * At runtime, the class scanner reads this index instead of scanning the whole classpath.
+ * <p>
+ * On an incremental build, the processor keeps the classes of the previous index that still exist,
+ * so the index covers the classes that were not compiled again.
+ */
+@SupportedAnnotationTypes({ClassIndexProcessor.ENTITY, ClassIndexProcessor.EMBEDDABLE,
+        RepositoryQueryProcessor.REPOSITORY})
+public class ClassIndexProcessor extends AbstractProcessor {
+
+    static final String RESOURCE = ClassScanner.CLASS_INDEX;
+
+    static final String ENTITY = "jakarta.nosql.Entity";
+
+    static final String EMBEDDABLE = "jakarta.nosql.Embeddable";
+
+    private final Map<String, String> classes = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        var elements = processingEnv.getElementUtils();
+        for (TypeElement annotation : annotations) {
+            String kind = kind(annotation.getQualifiedName().toString());
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement type) {
+                    classes.put(elements.getBinaryName(type).toString(), kind);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !classes.isEmpty()) {
+            previous().forEach(classes::putIfAbsent);
+            write();
+        }
+        return false;
+    }
+
+    private String kind(String annotation) {
+        return switch (annotation) {
+            case ENTITY -> "entity";
+            case EMBEDDABLE -> "embeddable";
+            case RepositoryQueryProcessor.REPOSITORY -> "repository";
+            default -> "";
+        };
+    }
+
+    private Map<String, String> previous() {
+        Map<String, String> previous = new TreeMap<>();
+        try {
+            FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", RESOURCE);
+            var properties = new Properties();
+            try (Reader reader = resource.openReader(true)) {
+                properties.load(reader);
+            }
+            var elements = processingEnv.getElementUtils();
+            properties.forEach((name, kind) -> {
+                TypeElement type = elements.getTypeElement(name.toString().replace('$', '.'));
+                if (type != null && type.getAnnotationMirrors().stream()
+                        .map(a -> ((TypeElement) a.getAnnotationType().asElement()).getQualifiedName().toString())
+                        .map(this::kind).anyMatch(kind::equals)) {
+                    previous.put(name.toString(), kind.toString());
+                }
+            });
+        } catch (IOException | IllegalArgumentException exception) {
+            return previous;
+        }
+        return previous;
+    }
+
+    private void write() {
+        try (Writer writer = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", RESOURCE).openWriter()) {
+            var separator = System.lineSeparator();
+            writer.write("#Classes indexed by " + ClassIndexProcessor.class.getName() + separator);
+            for (Map.Entry<String, String> entry : classes.entrySet()) {
+                writer.write(entry.getKey() + '=' + entry.getValue() + separator);
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "There is an issue to write the class index: " + exception.getMessage());
+        }
+    }
+}
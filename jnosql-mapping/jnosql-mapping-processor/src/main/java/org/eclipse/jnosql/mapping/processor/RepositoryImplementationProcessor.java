@@ -0,0 +1,328 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.IntersectionType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * An annotation processor that generates an implementation of each Jakarta Data repository interface,
+ * so the repository does not need a {@link java.lang.reflect.Proxy} at runtime.
+ * The methods of {@code BasicRepository}, {@code CrudRepository} and {@code NoSQLRepository} call the
+ * {@code AbstractRepository} directly with typed parameters; the other methods, such as the query by method name
+ * and the {@code @Query} methods, go to the repository proxy with a {@link java.lang.reflect.Method} resolved once
+ * per class; the default methods are inherited from the interface.
+ * <p>
+ * The generated class is named by the repository binary name and the {@code _JNoSQL} suffix, and it is picked up by
+ * {@code GeneratedRepositories}. A repository that cannot be generated, such as a generic repository or a method that
+ * throws a checked exception, keeps the proxy. The generation is optional: it runs only when the option
+ * {@value #OPTION} is set to {@code true}, for example with {@code -Ajnosql.repository.implementation=true}.
+ */
+@SupportedAnnotationTypes(RepositoryQueryProcessor.REPOSITORY)
+@SupportedOptions(RepositoryImplementationProcessor.OPTION)
+public class RepositoryImplementationProcessor extends AbstractProcessor {
+
+    static final String OPTION = "jnosql.repository.implementation";
+
+    static final String SUFFIX = "_JNoSQL";
+
+    private static final String DATA_REPOSITORY = "jakarta.data.repository.DataRepository";
+
+    private static final Set<String> REPOSITORY_METHODS = Set.of("jakarta.data.repository.BasicRepository",
+            "jakarta.data.repository.CrudRepository", "org.eclipse.jnosql.mapping.NoSQLRepository");
+
+    private static final String ABSTRACT_REPOSITORY = "org.eclipse.jnosql.mapping.core.query.AbstractRepository";
+
+    private static final String METHODS = """
+
+                @Override
+                public boolean equals(Object other) {
+                    return this.handler.equals(other);
+                }
+
+                @Override
+                public int hashCode() {
+                    return this.handler.hashCode();
+                }
+
+                @Override
+                public String toString() {
+                    return this.handler.toString();
+                }
+
+                private Object invoke(java.lang.reflect.Method method, Object[] params) {
+                    try {
+                        return this.handler.invoke(this, method, params);
+                    } catch (RuntimeException | Error exception) {
+                        throw exception;
+                    } catch (Throwable exception) {
+                        throw new java.lang.reflect.UndeclaredThrowableException(exception);
+                    }
+                }
+
+                private static java.lang.reflect.Method method(String name, Class<?>... parameterTypes) {
+                    try {
+                        return $REPOSITORY.class.getMethod(name, parameterTypes);
+                    } catch (NoSuchMethodException exception) {
+                        throw new NoSuchMethodError(exception.getMessage());
+                    }
+                }
+            """;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!Boolean.parseBoolean(processingEnv.getOptions().get(OPTION))) {
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.INTERFACE) {
+                    generate((TypeElement) element);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement repository) {
+        if (!repository.getTypeParameters().isEmpty() || isPrivate(repository)) {
+            return;
+        }
+        Optional<DeclaredType> dataRepository = dataRepository(repository.asType());
+        if (dataRepository.isEmpty() || dataRepository.get().getTypeArguments().size() != 2) {
+            return;
+        }
+        var messager = processingEnv.getMessager();
+        try {
+            String source = source(repository, dataRepository.get());
+            String name = processingEnv.getElementUtils().getBinaryName(repository) + SUFFIX;
+            try (Writer writer = processingEnv.getFiler().createSourceFile(name, repository).openWriter()) {
+                writer.write(source);
+            }
+        } catch (UnsupportedOperationException exception) {
+            messager.printMessage(Diagnostic.Kind.NOTE, "The repository uses a proxy at runtime because: "
+                    + exception.getMessage(), repository);
+        } catch (IOException exception) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "There is an issue to write the repository implementation: "
+                    + exception.getMessage(), repository);
+        }
+    }
+
+    private String source(TypeElement repository, DeclaredType dataRepository) {
+        var elements = processingEnv.getElementUtils();
+        PackageElement packageElement = elements.getPackageOf(repository);
+        String packageName = packageElement.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(repository).toString();
+        String className = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                + SUFFIX;
+        String interfaceName = repository.getQualifiedName().toString();
+        String repositoryType = ABSTRACT_REPOSITORY + "<" + type(dataRepository.getTypeArguments().get(0)) + ", "
+                + type(dataRepository.getTypeArguments().get(1)) + ">";
+
+        var body = new StringBuilder();
+        var constants = new StringBuilder();
+        int index = 0;
+        for (ExecutableElement method : methods(repository)) {
+            var methodType = (ExecutableType) processingEnv.getTypeUtils()
+                    .asMemberOf((DeclaredType) repository.asType(), method);
+            if (!method.getThrownTypes().isEmpty()) {
+                throw new UnsupportedOperationException("the method " + method.getSimpleName()
+                        + " throws checked exceptions");
+            }
+            List<String> names = method.getParameters().stream().map(p -> p.getSimpleName().toString()).toList();
+            String arguments = String.join(", ", names);
+            body.append("\n    @Override\n    public ").append(signature(method, methodType, names)).append(" {\n");
+            TypeMirror returnType = methodType.getReturnType();
+            String prefix = returnType.getKind() == TypeKind.VOID ? "        " : "        return ";
+            String enclosing = ((TypeElement) method.getEnclosingElement()).getQualifiedName().toString();
+            if (REPOSITORY_METHODS.contains(enclosing)) {
+                body.append(prefix).append("this.repository.").append(method.getSimpleName())
+                        .append('(').append(arguments).append(");\n");
+            } else {
+                String constant = "METHOD_" + index++;
+                constants.append("    private static final java.lang.reflect.Method ").append(constant)
+                        .append(" = method(\"").append(method.getSimpleName()).append('"');
+                for (TypeMirror parameter : methodType.getParameterTypes()) {
+                    constants.append(", ").append(type(processingEnv.getTypeUtils().erasure(parameter)))
+                            .append(".class");
+                }
+                constants.append(");\n\n");
+                // the query methods still box their arguments and go through the InvocationHandler of the proxy;
+                // calling a typed query method of the repository is a follow-up of the generated implementation
+                String invoke = "invoke(" + constant + ", new Object[]{" + arguments + "})";
+                if (returnType.getKind() == TypeKind.VOID) {
+                    body.append(prefix).append(invoke).append(";\n");
+                } else if (returnType.getKind().isPrimitive()) {
+                    String boxed = processingEnv.getTypeUtils().boxedClass(processingEnv.getTypeUtils()
+                            .getPrimitiveType(returnType.getKind())).getQualifiedName().toString();
+                    body.append(prefix).append('(').append(boxed).append(") ").append(invoke).append(";\n");
+                } else {
+                    body.append(prefix).append('(').append(type(returnType)).append(") ").append(invoke).append(";\n");
+                }
+            }
+            body.append("    }\n");
+        }
+
+        var source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"")
+                .append(RepositoryImplementationProcessor.class.getName()).append("\")\n")
+                .append("@SuppressWarnings(\"unchecked\")\n")
+                .append("public final class ").append(className).append(" implements ").append(interfaceName)
+                .append(" {\n\n")
+                .append(constants)
+                .append("    private final ").append(repositoryType).append(" repository;\n\n")
+                .append("    private final java.lang.reflect.InvocationHandler handler;\n\n")
+                .append("    public ").append(className).append('(').append(ABSTRACT_REPOSITORY)
+                .append(" repository, java.lang.reflect.InvocationHandler handler) {\n")
+                .append("        this.repository = repository;\n")
+                .append("        this.handler = handler;\n")
+                .append("    }\n")
+                .append(body)
+                .append(METHODS.replace("$REPOSITORY", interfaceName))
+                .append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Returns the abstract methods of the repository, the overridden methods are replaced by the most specific ones.
+     * The methods of {@link Object} are left out, the generated class sends them to the proxy.
+     */
+    private List<ExecutableElement> methods(TypeElement repository) {
+        var elements = processingEnv.getElementUtils();
+        var types = processingEnv.getTypeUtils();
+        Map<String, ExecutableElement> methods = new LinkedHashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(repository))) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT) || isObjectMethod(method)) {
+                continue;
+            }
+            var methodType = (ExecutableType) types.asMemberOf((DeclaredType) repository.asType(), method);
+            String key = method.getSimpleName() + methodType.getParameterTypes().stream()
+                    .map(p -> types.erasure(p).toString()).collect(Collectors.joining(",", "(", ")"));
+            methods.merge(key, method, (current, candidate) ->
+                    elements.overrides(candidate, current, repository) ? candidate : current);
+        }
+        return new ArrayList<>(methods.values());
+    }
+
+    private boolean isObjectMethod(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        int parameters = method.getParameters().size();
+        return "equals".equals(name) && parameters == 1 || ("hashCode".equals(name) || "toString".equals(name))
+                && parameters == 0;
+    }
+
+    private String signature(ExecutableElement method, ExecutableType methodType, List<String> names) {
+        var signature = new StringBuilder();
+        if (!methodType.getTypeVariables().isEmpty()) {
+            signature.append(methodType.getTypeVariables().stream().map(this::typeVariable)
+                    .collect(Collectors.joining(", ", "<", "> ")));
+        }
+        signature.append(type(methodType.getReturnType())).append(' ').append(method.getSimpleName()).append('(');
+        List<? extends TypeMirror> parameters = methodType.getParameterTypes();
+        for (int index = 0; index < parameters.size(); index++) {
+            if (index > 0) {
+                signature.append(", ");
+            }
+            TypeMirror parameter = parameters.get(index);
+            if (method.isVarArgs() && index == parameters.size() - 1) {
+                signature.append(type(((ArrayType) parameter).getComponentType())).append("...");
+            } else {
+                signature.append(type(parameter));
+            }
+            signature.append(' ').append(names.get(index));
+        }
+        return signature.append(')').toString();
+    }
+
+    private String typeVariable(TypeVariable variable) {
+        TypeMirror bound = variable.getUpperBound();
+        String name = variable.asElement().getSimpleName().toString();
+        if (bound instanceof IntersectionType intersection) {
+            return name + " extends " + intersection.getBounds().stream().map(this::type)
+                    .collect(Collectors.joining(" & "));
+        }
+        String type = type(bound);
+        return "java.lang.Object".equals(type) ? name : name + " extends " + type;
+    }
+
+    /**
+     * Returns the type as it is written at the source, a type with annotations is not supported,
+     * because those annotations cannot be written in front of a qualified name.
+     */
+    private String type(TypeMirror type) {
+        String name = type.toString();
+        if (name.indexOf('@') >= 0) {
+            throw new UnsupportedOperationException("the type " + name + " has type annotations");
+        }
+        return name;
+    }
+
+    private Optional<DeclaredType> dataRepository(TypeMirror type) {
+        var types = processingEnv.getTypeUtils();
+        for (TypeMirror supertype : types.directSupertypes(type)) {
+            if (supertype instanceof DeclaredType declared) {
+                if (((TypeElement) declared.asElement()).getQualifiedName().contentEquals(DATA_REPOSITORY)) {
+                    return Optional.of(declared);
+                }
+                Optional<DeclaredType> found = dataRepository(supertype);
+                if (found.isPresent()) {
+                    return found;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean isPrivate(Element element) {
+        for (Element current = element; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
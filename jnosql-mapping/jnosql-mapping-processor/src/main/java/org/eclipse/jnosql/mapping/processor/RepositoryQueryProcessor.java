@@ -0,0 +1,192 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.query.PrecompiledQueries;
+import org.eclipse.jnosql.communication.query.PrecompiledQueries.Kind;
+import org.eclipse.jnosql.communication.query.QueryPlanCodec;
+import org.eclipse.jnosql.communication.query.data.DeleteProvider;
+import org.eclipse.jnosql.communication.query.data.SelectProvider;
+import org.eclipse.jnosql.communication.query.data.UpdateProvider;
+import org.eclipse.jnosql.communication.query.method.DeleteByMethodQueryProvider;
+import org.eclipse.jnosql.communication.query.method.SelectMethodQueryProvider;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * An annotation processor that parses the queries of the Jakarta Data repositories at build time.
+ * It reads the {@code @Query} annotations and the query by method names, such as {@code findByName} and
+ * {@code deleteByAge}, and writes their plans at {@link PrecompiledQueries#RESOURCE}.
+ * At runtime, those queries are read from the plans instead of going through the ANTLR parser.
+ * <p>
+ * A query with a syntax error fails the build. A query that the processor cannot resolve yet,
+ * such as a query with an enum from the sources being compiled, is left to the runtime parser.
+ */
+@SupportedAnnotationTypes(RepositoryQueryProcessor.REPOSITORY)
+public class RepositoryQueryProcessor extends AbstractProcessor {
+
+    static final String REPOSITORY = "jakarta.data.repository.Repository";
+
+    private static final String QUERY = "jakarta.data.repository.Query";
+
+    private static final String CURSORED_PAGE = "jakarta.data.page.CursoredPage";
+
+    private static final Set<String> OPERATION_ANNOTATIONS = Set.of("jakarta.data.repository.Find",
+            "jakarta.data.repository.Insert", "jakarta.data.repository.Save", "jakarta.data.repository.Update",
+            "jakarta.data.repository.Delete", "jakarta.data.repository.OrderBy",
+            "jakarta.data.repository.OrderBy.List");
+
+    private final Map<String, String> plans = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.INTERFACE) {
+                    ElementFilter.methodsIn(element.getEnclosedElements()).forEach(this::precompile);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !plans.isEmpty()) {
+            write();
+        }
+        return false;
+    }
+
+    private void precompile(ExecutableElement method) {
+        if (method.getModifiers().contains(Modifier.DEFAULT) || method.getModifiers().contains(Modifier.STATIC)
+                || isCursoredPage(method)) {
+            return;
+        }
+        Optional<String> query = query(method);
+        if (query.isPresent()) {
+            precompileQuery(method, query.get());
+            return;
+        }
+        if (method.getAnnotationMirrors().stream().map(this::name).anyMatch(OPERATION_ANNOTATIONS::contains)) {
+            return;
+        }
+        String name = method.getSimpleName().toString();
+        String entity = QueryPlanCodec.ENTITY_PLACEHOLDER;
+        if (name.startsWith("deleteBy")) {
+            add(method, Kind.METHOD_DELETE.key(name),
+                    () -> QueryPlanCodec.encode(new DeleteByMethodQueryProvider().apply(name, entity)));
+        } else if (!"findAll".equals(name) && (name.startsWith("find") || name.startsWith("countBy")
+                || name.startsWith("countAll") || name.startsWith("existsBy"))) {
+            add(method, Kind.METHOD_SELECT.key(name),
+                    () -> QueryPlanCodec.encode(new SelectMethodQueryProvider().apply(name, entity)));
+        }
+    }
+
+    private void precompileQuery(ExecutableElement method, String query) {
+        String type = query.stripLeading().toUpperCase(Locale.US);
+        if (type.startsWith("DELETE")) {
+            add(method, Kind.DELETE.key(query), () -> QueryPlanCodec.encode(new DeleteProvider().apply(query)));
+        } else if (type.startsWith("UPDATE")) {
+            add(method, Kind.UPDATE.key(query), () -> QueryPlanCodec.encode(new UpdateProvider().apply(query)));
+        } else {
+            add(method, Kind.SELECT.key(query), () -> QueryPlanCodec.encode(new SelectProvider()
+                    .apply(query, QueryPlanCodec.ENTITY_PLACEHOLDER)));
+        }
+    }
+
+    private void add(ExecutableElement method, String key, Supplier<String> plan) {
+        if (plans.containsKey(key)) {
+            return;
+        }
+        var messager = processingEnv.getMessager();
+        try {
+            plans.put(key, plan.get());
+        } catch (QueryException exception) {
+            if (exception.getCause() instanceof ClassNotFoundException) {
+                messager.printMessage(Diagnostic.Kind.NOTE, "The query is parsed at runtime because: "
+                        + exception.getMessage(), method);
+            } else {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Invalid query: " + exception.getMessage(), method);
+            }
+        } catch (RuntimeException exception) {
+            messager.printMessage(Diagnostic.Kind.WARNING, "The query is parsed at runtime because: "
+                    + exception.getMessage(), method);
+        }
+    }
+
+    private Optional<String> query(ExecutableElement method) {
+        for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            if (QUERY.equals(name(annotation))) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                        : annotation.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value")) {
+                        return Optional.of(entry.getValue().getValue().toString());
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean isCursoredPage(ExecutableElement method) {
+        return method.getReturnType() instanceof DeclaredType type
+                && ((TypeElement) type.asElement()).getQualifiedName().contentEquals(CURSORED_PAGE);
+    }
+
+    private String name(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private void write() {
+        var properties = new Properties();
+        properties.putAll(plans);
+        try (Writer writer = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", PrecompiledQueries.RESOURCE).openWriter()) {
+            var content = new StringWriter();
+            properties.store(content, null);
+            var separator = System.lineSeparator();
+            writer.write("#Queries parsed by " + RepositoryQueryProcessor.class.getName() + separator);
+            writer.write(content.toString().lines().filter(line -> !line.startsWith("#")).sorted()
+                    .collect(Collectors.joining(separator, "", separator)));
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "There is an issue to write the precompiled queries: " + exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+class ClassIndexProcessorTest {
+
+    @TempDir
+    Path output;
+
+    @Test
+    void shouldIndexClasses() throws IOException {
+        var diagnostics = compile(file("Person", """
+                package sample;
+
+                import jakarta.nosql.Entity;
+
+                @Entity
+                public class Person {
+
+                    @jakarta.nosql.Embeddable
+                    public static class Address {
+                    }
+                }
+                """), file("PersonRepository", """
+                package sample;
+
+                import jakarta.data.repository.Repository;
+
+                @Repository
+                public interface PersonRepository {
+                }
+                """));
+
+        var index = index();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(diagnostics.getDiagnostics()).noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR);
+            soft.assertThat(index).containsExactlyInAnyOrderEntriesOf(Map.of("sample.Person", "entity",
+                    "sample.Person$Address", "embeddable", "sample.PersonRepository", "repository"));
+        });
+    }
+
+    @Test
+    void shouldKeepPreviousClassesOnIncrementalBuild() throws IOException {
+        compile(file("Person", """
+                package sample;
+
+                @jakarta.nosql.Entity
+                public class Person {
+                }
+                """), file("Book", """
+                package sample;
+
+                @jakarta.nosql.Entity
+                public class Book {
+                }
+                """));
+
+        var diagnostics = compile(file("Movie", """
+                package sample;
+
+                @jakarta.nosql.Entity
+                public class Movie {
+                }
+                """));
+
+        var index = index();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(diagnostics.getDiagnostics()).noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR);
+            soft.assertThat(index).containsExactlyInAnyOrderEntriesOf(Map.of("sample.Person", "entity",
+                    "sample.Book", "entity", "sample.Movie", "entity"));
+        });
+    }
+
+    private Map<Object, Object> index() throws IOException {
+        var properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(output.resolve(ClassIndexProcessor.RESOURCE))) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(JavaFileObject... files) {
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        var options = List.of("-processor", ClassIndexProcessor.class.getName(),
+                "-classpath", System.getProperty("java.class.path") + java.io.File.pathSeparator + output,
+                "-d", output.toString());
+        compiler.getTask(null, null, diagnostics, options, null, List.of(files)).call();
+        return diagnostics;
+    }
+
+    private JavaFileObject file(String name, String source) {
+        return new SimpleJavaFileObject(URI.create("string:///sample/" + name + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.mapping.core.query.AbstractRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepositoryImplementationProcessorTest {
+
+    private static final String PERSON = """
+            package sample;
+
+            public class Person {
+            }
+            """;
+
+    private static final String REPOSITORY = """
+            package sample;
+
+            import jakarta.data.repository.BasicRepository;
+            import jakarta.data.repository.Query;
+            import jakarta.data.repository.Repository;
+            import java.util.List;
+
+            @Repository
+            public interface PersonRepository extends BasicRepository<Person, String> {
+
+                List<Person> findByName(String name);
+
+                long countByName(String name);
+
+                @Query("FROM Person WHERE age > :age")
+                List<Person> older(int... ages);
+
+                default long countAdams() {
+                    return countByName("Adam");
+                }
+            }
+            """;
+
+    @TempDir
+    Path output;
+
+    @Test
+    void shouldGenerateRepository() throws Exception {
+        var diagnostics = compile(List.of(), file("Person", PERSON), file("PersonRepository", REPOSITORY));
+        List<Method> methods = new ArrayList<>();
+        InvocationHandler handler = (instance, method, params) -> {
+            methods.add(method);
+            return "countByName".equals(method.getName()) ? 10L : List.of();
+        };
+        AbstractRepository<Object, String> repository = Mockito.mock(AbstractRepository.class);
+
+        try (var loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> type = loader.loadClass("sample.PersonRepository");
+            Class<?> implementation = loader.loadClass("sample.PersonRepository" + RepositoryImplementationProcessor.SUFFIX);
+            Object instance = implementation.getConstructor(AbstractRepository.class, InvocationHandler.class)
+                    .newInstance(repository, handler);
+            Object person = loader.loadClass("sample.Person").getConstructor().newInstance();
+
+            type.getMethod("save", Object.class).invoke(instance, person);
+            type.getMethod("deleteById", Object.class).invoke(instance, "id");
+            Object names = type.getMethod("findByName", String.class).invoke(instance, "Ada");
+            Object count = type.getMethod("countAdams").invoke(instance);
+            type.getMethod("older", int[].class).invoke(instance, (Object) new int[]{10});
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(diagnostics.getDiagnostics()).noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR);
+                soft.assertThat(type).isAssignableFrom(implementation);
+                soft.assertThat(names).isEqualTo(List.of());
+                soft.assertThat(count).isEqualTo(10L);
+                soft.assertThat(methods).extracting(Method::getName).containsExactly("findByName", "countByName",
+                        "older");
+                soft.assertThat(methods).extracting(Method::getDeclaringClass).containsOnly(type);
+                soft.assertThat(instance.toString()).isEqualTo(handler.toString());
+            });
+            Mockito.verify(repository).save(person);
+            Mockito.verify(repository).deleteById("id");
+        }
+    }
+
+    @Test
+    void shouldNotGenerateByDefault() {
+        var diagnostics = compile(List.of(), false, file("Person", PERSON), file("PersonRepository", REPOSITORY));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(diagnostics.getDiagnostics()).noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR);
+            soft.assertThat(Files.exists(output.resolve("sample/PersonRepository.class"))).isTrue();
+            soft.assertThat(Files.exists(output.resolve("sample/PersonRepository"
+                    + RepositoryImplementationProcessor.SUFFIX + ".class"))).isFalse();
+        });
+    }
+
+    @Test
+    void shouldNotGenerateWhenDisabled() {
+        var diagnostics = compile(List.of("-A" + RepositoryImplementationProcessor.OPTION + "=false"), false,
+                file("Person", PERSON), file("PersonRepository", REPOSITORY));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(diagnostics.getDiagnostics()).noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR);
+            soft.assertThat(Files.exists(output.resolve("sample/PersonRepository.class"))).isTrue();
+            soft.assertThat(Files.exists(output.resolve("sample/PersonRepository"
+                    + RepositoryImplementationProcessor.SUFFIX + ".class"))).isFalse();
+        });
+    }
+
+    @Test
+    void shouldKeepProxyWhenMethodThrowsCheckedException() {
+        var diagnostics = compile(List.of(), file("Person", PERSON), file("PersonRepository", """
+                package sample;
+
+                import jakarta.data.repository.BasicRepository;
+                import jakarta.data.repository.Repository;
+                import java.util.List;
+
+                @Repository
+                public interface PersonRepository extends BasicRepository<Person, String> {
+
+                    List<Person> findByName(String name) throws java.io.IOException;
+                }
+                """));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(diagnostics.getDiagnostics()).noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR);
+            soft.assertThat(diagnostics.getDiagnostics()).anyMatch(d -> d.getKind() == Diagnostic.Kind.NOTE
+                    && d.getMessage(null).contains("proxy"));
+            soft.assertThat(Files.exists(output.resolve("sample/PersonRepository"
+                    + RepositoryImplementationProcessor.SUFFIX + ".class"))).isFalse();
+        });
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(List<String> arguments, JavaFileObject... files) {
+        return compile(arguments, true, files);
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(List<String> arguments, boolean enabled, JavaFileObject... files) {
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        List<String> options = new ArrayList<>(List.of("-processor", RepositoryImplementationProcessor.class.getName(),
+                "-classpath", System.getProperty("java.class.path"), "-d", output.toString(),
+                "-s", output.toString()));
+        if (enabled) {
+            options.add("-A" + RepositoryImplementationProcessor.OPTION + "=true");
+        }
+        options.addAll(arguments);
+        compiler.getTask(null, null, diagnostics, options, null, List.of(files)).call();
+        return diagnostics;
+    }
+
+    private JavaFileObject file(String name, String source) {
+        return new SimpleJavaFileObject(URI.create("string:///sample/" + name + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+    }
+}
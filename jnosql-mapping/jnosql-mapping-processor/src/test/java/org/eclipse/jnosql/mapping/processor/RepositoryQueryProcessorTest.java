@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.query.PrecompiledQueries;
+import org.eclipse.jnosql.communication.query.PrecompiledQueries.Kind;
+import org.eclipse.jnosql.communication.query.SelectQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepositoryQueryProcessorTest {
+
+    @TempDir
+    Path output;
+
+    @Test
+    void shouldPrecompileQueries() throws IOException {
+        var diagnostics = compile("""
+                package sample;
+
+                import jakarta.data.repository.Delete;
+                import jakarta.data.repository.Query;
+                import jakarta.data.repository.Repository;
+                import java.util.List;
+
+                @Repository
+                public interface PersonRepository {
+
+                    List<Object> findByNameAndAgeGreaterThan(String name, int age);
+
+                    long countByName(String name);
+
+                    void deleteByAge(int age);
+
+                    @Query("FROM Person WHERE age > :age ORDER BY name DESC")
+                    List<Object> older(int age);
+
+                    @Query("WHERE name = :name")
+                    List<Object> named(String name);
+
+                    @Query("DELETE FROM Person WHERE name = :name")
+                    void remove(String name);
+
+                    @Query("UPDATE Person SET age = :age WHERE name = :name")
+                    void update(String name, int age);
+
+                    @Delete
+                    void deleteAll(Object entity);
+
+                    default List<Object> findAdults() {
+                        return older(18);
+                    }
+                }
+                """);
+        var queries = queries();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(diagnostics.getDiagnostics()).noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR);
+            soft.assertThat(queries.size()).isEqualTo(7);
+            soft.assertThat(queries.select(Kind.METHOD_SELECT, "findByNameAndAgeGreaterThan", "Person"))
+                    .get().extracting(SelectQuery::entity).isEqualTo("Person");
+            soft.assertThat(queries.select(Kind.METHOD_SELECT, "countByName", "Person"))
+                    .get().extracting(SelectQuery::isCount).isEqualTo(true);
+            soft.assertThat(queries.delete(Kind.METHOD_DELETE, "deleteByAge", "Person")).isPresent();
+            soft.assertThat(queries.select(Kind.SELECT, "FROM Person WHERE age > :age ORDER BY name DESC", null))
+                    .get().extracting(SelectQuery::entity).isEqualTo("Person");
+            soft.assertThat(queries.select(Kind.SELECT, "WHERE name = :name", "Person"))
+                    .get().extracting(SelectQuery::entity).isEqualTo("Person");
+            soft.assertThat(queries.delete(Kind.DELETE, "DELETE FROM Person WHERE name = :name", null)).isPresent();
+            soft.assertThat(queries.update("UPDATE Person SET age = :age WHERE name = :name")).isPresent();
+            soft.assertThat(queries.select(Kind.METHOD_SELECT, "findAdults", "Person")).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldFailWhenQueryIsInvalid() {
+        var diagnostics = compile("""
+                package sample;
+
+                import jakarta.data.repository.Query;
+                import jakarta.data.repository.Repository;
+                import java.util.List;
+
+                @Repository
+                public interface PersonRepository {
+
+                    @Query("FROM Person WHERE name = = :name")
+                    List<Object> named(String name);
+                }
+                """);
+
+        assertThat(diagnostics.getDiagnostics()).anyMatch(d -> d.getKind() == Diagnostic.Kind.ERROR
+                && d.getMessage(null).contains("Invalid query"));
+    }
+
+    @Test
+    void shouldLeaveUnknownEnumToRuntime() {
+        var diagnostics = compile("""
+                package sample;
+
+                import jakarta.data.repository.Query;
+                import jakarta.data.repository.Repository;
+                import java.util.List;
+
+                @Repository
+                public interface PersonRepository {
+
+                    @Query("FROM Person WHERE status = sample.Status.ACTIVE")
+                    List<Object> active();
+                }
+                """);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(diagnostics.getDiagnostics()).noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR);
+            soft.assertThat(Files.exists(output.resolve(PrecompiledQueries.RESOURCE))).isFalse();
+        });
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(String source) {
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        var file = new SimpleJavaFileObject(URI.create("string:///sample/PersonRepository.java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        var options = List.of("-proc:only", "-processor", RepositoryQueryProcessor.class.getName(),
+                "-classpath", System.getProperty("java.class.path"), "-d", output.toString());
+        compiler.getTask(null, null, diagnostics, options, null, List.of(file)).call();
+        return diagnostics;
+    }
+
+    private PrecompiledQueries queries() throws IOException {
+        var properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(output.resolve(PrecompiledQueries.RESOURCE))) {
+            properties.load(reader);
+        }
+        Map<String, String> plans = new HashMap<>();
+        properties.forEach((key, value) -> plans.put(key.toString(), value.toString()));
+        return PrecompiledQueries.of(plans);
+    }
+}
@@ -102,6 +102,25 @@ abstract class AbstractFieldMetadata implements FieldMetadata {
         this.writer.write(bean, value);
     }
 
+    @Override
+    public void writeValue(Object bean, Value value) {
+        Objects.requireNonNull(bean, "bean is required");
+        Objects.requireNonNull(value, "value is required");
+        if (value.isNull() || !type.isPrimitive()) {
+            this.writer.write(bean, value(value));
+        } else if (int.class.equals(type)) {
+            this.writer.writeInt(bean, value.getInt());
+        } else if (long.class.equals(type)) {
+            this.writer.writeLong(bean, value.getLong());
+        } else if (double.class.equals(type)) {
+            this.writer.writeDouble(bean, value.getDouble());
+        } else if (boolean.class.equals(type)) {
+            this.writer.writeBoolean(bean, value.getBoolean());
+        } else {
+            this.writer.write(bean, value(value));
+        }
+    }
+
     @Override
     public Class<?> type() {
         return this.type;
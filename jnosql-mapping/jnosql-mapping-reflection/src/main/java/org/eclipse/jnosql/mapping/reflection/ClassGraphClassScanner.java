@@ -40,6 +40,7 @@ import static java.util.stream.Collectors.toUnmodifiableSet;
  * Scanner classes that will load entities with both Entity and Embeddable
  * annotations and repositories: interfaces that extend DataRepository
  * and has the Repository annotation.
+ * It scans only the packages defined at {@code jnosql.scanner.packages} when there is this property.
  */
 enum ClassGraphClassScanner implements ClassScanner {
 
@@ -59,7 +60,7 @@ enum ClassGraphClassScanner implements ClassScanner {
 
         Logger logger = Logger.getLogger(ClassGraphClassScanner.class.getName());
         logger.fine("Starting scan class to find entities, embeddable and repositories.");
-        try (ScanResult result = new ClassGraph().enableAllInfo().scan()) {
+        try (ScanResult result = classGraph(ClassScannerConfigurations.SCANNER_PACKAGES.readList()).scan()) {
             var notSupportedRepositories = loadNotSupportedRepositories(result);
             logger.info("The following repositories are not supported: " + notSupportedRepositories);
             this.entities.addAll(loadEntities(result));
@@ -92,15 +93,40 @@ enum ClassGraphClassScanner implements ClassScanner {
 
     @Override
     public <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
+        return repositories(repositories, filter);
+    }
+
+
+    @Override
+    public Set<Class<?>> repositoriesStandard() {
+        return repositoriesStandard(repositories);
+    }
+
+    @Override
+    public Set<Class<?>> customRepositories() {
+        return customRepositories;
+    }
+
+
+    /**
+     * Creates the {@link ClassGraph} that scans the given packages, or the whole classpath when there is none.
+     */
+    static ClassGraph classGraph(List<String> packages) {
+        ClassGraph classGraph = new ClassGraph().enableAllInfo();
+        if (!packages.isEmpty()) {
+            classGraph.acceptPackages(packages.toArray(String[]::new));
+        }
+        return classGraph;
+    }
+
+    static <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Set<Class<?>> repositories, Class<T> filter) {
         Objects.requireNonNull(filter, "filter is required");
         return repositories.stream().filter(filter::isAssignableFrom)
                 .filter(c -> Arrays.asList(c.getInterfaces()).contains(filter))
                 .collect(toUnmodifiableSet());
     }
 
-
-    @Override
-    public Set<Class<?>> repositoriesStandard() {
+    static Set<Class<?>> repositoriesStandard(Set<Class<?>> repositories) {
         return repositories.stream()
                 .filter(c -> {
                     List<Class<?>> interfaces = Arrays.asList(c.getInterfaces());
@@ -111,12 +137,6 @@ enum ClassGraphClassScanner implements ClassScanner {
                 }).collect(Collectors.toUnmodifiableSet());
     }
 
-    @Override
-    public Set<Class<?>> customRepositories() {
-        return customRepositories;
-    }
-
-
     @SuppressWarnings("rawtypes")
     private static List<Class<DataRepository>> loadRepositories(ScanResult scan) {
         return scan.getClassesWithAnnotation(Repository.class)
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * The file that keeps the result of the class scan between starts, in the same format as the class index of the
+ * {@code jnosql-mapping-processor}, plus the fingerprint of the classpath at the scan.
+ * A start reads the cache only when the classpath has the same fingerprint: the same files, sizes and
+ * modification times, and the same scanned packages.
+ */
+final class ClassScanCache {
+
+    static final String FINGERPRINT = "@fingerprint";
+
+    private static final Logger LOGGER = Logger.getLogger(ClassScanCache.class.getName());
+
+    private final Path file;
+
+    private final String fingerprint;
+
+    private ClassScanCache(Path file, String fingerprint) {
+        this.file = file;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Reads the classes of the cache when it matches the classpath fingerprint.
+     *
+     * @return the classes in the class index format or {@link Optional#empty()} when there is no valid cache
+     */
+    Optional<Properties> read() {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        var classes = new Properties();
+        try (InputStream stream = Files.newInputStream(file)) {
+            classes.load(stream);
+        } catch (IOException | IllegalArgumentException exception) {
+            LOGGER.log(Level.WARNING, "The class scan cache " + file + " cannot be read, scanning the classpath",
+                    exception);
+            return Optional.empty();
+        }
+        if (!fingerprint.equals(classes.remove(FINGERPRINT))) {
+            LOGGER.fine("The classpath has changed since the class scan cache " + file + ", scanning the classpath");
+            return Optional.empty();
+        }
+        return Optional.of(classes);
+    }
+
+    /**
+     * Writes the classes of the scanner with the classpath fingerprint. A failure to write only logs a warning,
+     * the next start scans the classpath again.
+     */
+    void write(ClassScanner scanner) {
+        var classes = new Properties();
+        classes.setProperty(FINGERPRINT, fingerprint);
+        scanner.entities().forEach(type -> classes.setProperty(type.getName(), "entity"));
+        scanner.embeddables().forEach(type -> classes.setProperty(type.getName(), "embeddable"));
+        scanner.repositories().forEach(type -> classes.setProperty(type.getName(), "repository"));
+        scanner.customRepositories().forEach(type -> classes.setProperty(type.getName(), "repository"));
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (OutputStream stream = Files.newOutputStream(temp)) {
+                classes.store(stream, "Classes scanned by " + ClassGraphClassScanner.class.getName());
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | UnsupportedOperationException exception) {
+            LOGGER.log(Level.WARNING, "The class scan cache " + file + " cannot be written", exception);
+        }
+    }
+
+    /**
+     * Creates the cache of the file for the classpath and the scanned packages.
+     *
+     * @param file      the cache file
+     * @param classpath the classpath files
+     * @param packages  the scanned packages
+     * @return the cache
+     * @throws NullPointerException when there is a null parameter
+     */
+    static ClassScanCache of(Path file, List<File> classpath, List<String> packages) {
+        Objects.requireNonNull(file, "file is required");
+        Objects.requireNonNull(classpath, "classpath is required");
+        Objects.requireNonNull(packages, "packages is required");
+        return new ClassScanCache(file, fingerprint(classpath, packages));
+    }
+
+    static String fingerprint(List<File> classpath, List<String> packages) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, String.join(",", packages));
+            for (File entry : classpath) {
+                update(digest, entry.getAbsolutePath());
+                if (entry.isDirectory()) {
+                    update(digest, directory(entry.toPath()));
+                } else {
+                    update(digest, entry.length() + ":" + entry.lastModified());
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("The SHA-256 algorithm is required at the Java platform", exception);
+        }
+    }
+
+    private static String directory(Path directory) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            long[] summary = new long[2];
+            files.filter(Files::isRegularFile).forEach(path -> {
+                File file = path.toFile();
+                summary[0]++;
+                summary[1] = Math.max(summary[1], file.lastModified());
+            });
+            return summary[0] + ":" + summary[1];
+        } catch (IOException | UncheckedIOException exception) {
+            LOGGER.log(Level.FINE, "The directory " + directory + " cannot be read to the fingerprint", exception);
+            return "";
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
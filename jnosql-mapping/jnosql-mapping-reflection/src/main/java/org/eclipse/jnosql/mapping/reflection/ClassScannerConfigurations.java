@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * The properties around the class scanner and the class index from the {@code jnosql-mapping-processor}.
+ */
+enum ClassScannerConfigurations implements Supplier<String> {
+    /**
+     * Define the packages, separated by comma, where the class scanner looks for the entities, embeddables and
+     * repositories. By default, it scans the whole classpath.
+     */
+    SCANNER_PACKAGES("jnosql.scanner.packages"),
+    /**
+     * Define whether the class scanner also scans the classpath elements without a class index from the
+     * {@code jnosql-mapping-processor}, when there is one. By default, it is {@code false}: when there is a class
+     * index, the scanner reads only the indexes, unless {@link #SCANNER_PACKAGES} is set.
+     */
+    SCANNER_UNINDEXED("jnosql.scanner.unindexed"),
+    /**
+     * Define the file where the class scanner keeps its result, so the next start with the same classpath
+     * skips the scan. By default, there is no cache.
+     */
+    SCANNER_CACHE("jnosql.scanner.cache");
+
+    private final String value;
+
+    ClassScannerConfigurations(String value) {
+        this.value = value;
+    }
+
+    @Override
+    public String get() {
+        return value;
+    }
+
+    /**
+     * Reads the property from the MicroProfile Config.
+     *
+     * @return the property value or {@link Optional#empty()} when it is not defined or blank
+     */
+    Optional<String> read() {
+        return ConfigProvider.getConfig().getOptionalValue(value, String.class)
+                .map(String::trim)
+                .filter(v -> !v.isEmpty());
+    }
+
+    /**
+     * Reads the property from the MicroProfile Config as a list separated by comma.
+     *
+     * @return the property values or an empty list when it is not defined
+     */
+    List<String> readList() {
+        return read().map(v -> Arrays.stream(v.split(","))
+                        .map(String::trim)
+                        .filter(s -> !s.isEmpty())
+                        .toList())
+                .orElse(List.of());
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.mapping.metadata.CollectionSupplier;
+
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * The {@link CollectionSupplier} implementations, loaded once from the {@link ServiceLoader}.
+ */
+enum CollectionSuppliers {
+
+    INSTANCE;
+
+    private final List<CollectionSupplier<?>> suppliers = ServiceLoader.load(CollectionSupplier.class)
+            .stream()
+            .map(ServiceLoader.Provider::get)
+            .<CollectionSupplier<?>>map(CollectionSupplier.class::cast)
+            .toList();
+
+    /**
+     * Finds the supplier of the collection type.
+     *
+     * @param type the collection type
+     * @return the supplier
+     * @throws UnsupportedOperationException when there is no supplier to the type
+     */
+    CollectionSupplier<?> find(Class<?> type) {
+        return suppliers.stream()
+                .filter(c -> c.test(type))
+                .findFirst()
+                .orElseThrow(() -> new UnsupportedOperationException("This collection is not supported yet: " + type));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.CDI;
+import jakarta.enterprise.util.TypeLiteral;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates the instances of a constructor, resolved once per {@link DefaultConstructorMetadata}.
+ * <p>
+ * It calls the constructor through a {@link MethodHandle} when the values match the parameter types, otherwise
+ * through {@link Constructor#newInstance(Object...)}, which also widens the primitive values, so both paths have
+ * the same behavior.
+ * It resolves the {@link Event} of {@link ConstructorEvent} once, on the first instance, since the metadata belongs
+ * to a single CDI container, and fires it only when there is an observer.
+ */
+final class ConstructorInstantiator {
+
+    private static final Logger LOGGER = Logger.getLogger(ConstructorInstantiator.class.getName());
+
+    private static final MethodType SPREAD = MethodType.methodType(Object.class, Object[].class);
+
+    private final Constructor<?> constructor;
+
+    private final Class<?>[] types;
+
+    private final boolean[] primitives;
+
+    private final MethodHandle handle;
+
+    private volatile ConstructorEvents events;
+
+    private ConstructorInstantiator(Constructor<?> constructor) {
+        this.constructor = constructor;
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        this.types = new Class<?>[parameterTypes.length];
+        this.primitives = new boolean[parameterTypes.length];
+        for (int index = 0; index < parameterTypes.length; index++) {
+            Class<?> type = parameterTypes[index];
+            this.primitives[index] = type.isPrimitive();
+            this.types[index] = type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+        }
+        this.handle = handle(constructor);
+    }
+
+    /**
+     * Fires the {@link ConstructorEvent} when there is an observer and creates the instance.
+     *
+     * @param values the constructor values
+     * @return the new instance
+     * @throws MappingException when the constructor throws an exception
+     */
+    Object newInstance(Object[] values) {
+        Event<ConstructorEvent> event = events().event();
+        if (event != null) {
+            event.fire(ConstructorEvent.of(constructor, values));
+        }
+        if (handle != null && matches(values)) {
+            try {
+                return (Object) handle.invokeExact(values);
+            } catch (Throwable exception) {
+                throw newInstanceException(exception);
+            }
+        }
+        try {
+            return constructor.newInstance(values);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException exception) {
+            throw newInstanceException(exception);
+        }
+    }
+
+    private MappingException newInstanceException(Throwable exception) {
+        return new MappingException("There is an issue to create a new instance of this class" +
+                " using this constructor: " + constructor, exception);
+    }
+
+    private ConstructorEvents events() {
+        ConstructorEvents current = this.events;
+        if (current == null) {
+            current = ConstructorEvents.of(CDI.current(), constructor);
+            this.events = current;
+        }
+        return current;
+    }
+
+    private boolean matches(Object[] values) {
+        if (values.length != types.length) {
+            return false;
+        }
+        for (int index = 0; index < types.length; index++) {
+            Object value = values[index];
+            if (value == null ? primitives[index] : !types[index].isInstance(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ConstructorInstantiator that = (ConstructorInstantiator) o;
+        return Objects.equals(constructor, that.constructor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(constructor);
+    }
+
+    @Override
+    public String toString() {
+        return "ConstructorInstantiator{" +
+                "constructor=" + constructor +
+                ", methodHandle=" + (handle != null) +
+                '}';
+    }
+
+    static ConstructorInstantiator of(Constructor<?> constructor) {
+        Objects.requireNonNull(constructor, "constructor is required");
+        return new ConstructorInstantiator(constructor);
+    }
+
+    private static MethodHandle handle(Constructor<?> constructor) {
+        try {
+            return MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asFixedArity()
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(SPREAD);
+        } catch (IllegalAccessException | RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "The constructor " + constructor + " will use reflection", exception);
+            return null;
+        }
+    }
+
+    private record ConstructorEvents(Event<ConstructorEvent> event) {
+
+        static ConstructorEvents of(CDI<Object> cdi, Constructor<?> constructor) {
+            var probe = ConstructorEvent.of(constructor, new Object[0]);
+            if (cdi.getBeanManager().resolveObserverMethods(probe).isEmpty()) {
+                return new ConstructorEvents(null);
+            }
+            Event<ConstructorEvent> event = cdi.select(new TypeLiteral<Event<ConstructorEvent>>() {
+            }).get();
+            return new ConstructorEvents(event);
+        }
+    }
+}
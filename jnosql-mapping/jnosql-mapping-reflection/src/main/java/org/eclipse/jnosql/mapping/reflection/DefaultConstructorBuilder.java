@@ -14,29 +14,23 @@
  */
 package org.eclipse.jnosql.mapping.reflection;
 
-import jakarta.data.exceptions.MappingException;
-import jakarta.enterprise.event.Event;
-import jakarta.enterprise.inject.Instance;
-import jakarta.enterprise.inject.spi.CDI;
-import jakarta.enterprise.util.TypeLiteral;
 import org.eclipse.jnosql.mapping.metadata.ConstructorBuilder;
 import org.eclipse.jnosql.mapping.metadata.ConstructorMetadata;
 import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 final class DefaultConstructorBuilder implements ConstructorBuilder {
 
-    private final List<Object> values = new ArrayList<>();
+    private final List<Object> values;
 
     private final ConstructorMetadata metadata;
 
     private DefaultConstructorBuilder(ConstructorMetadata metadata) {
         this.metadata = metadata;
+        this.values = new ArrayList<>(metadata.parameters().size());
     }
 
 
@@ -55,20 +49,10 @@ final class DefaultConstructorBuilder implements ConstructorBuilder {
         this.values.add(null);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> T build() {
-        Constructor<?> constructor = ((DefaultConstructorMetadata) metadata).constructor();
-
-        try {
-            Instance<Event<ConstructorEvent>> instance = CDI.current().select(new TypeLiteral<>() {
-            });
-            Event<ConstructorEvent> event = instance.get();
-            event.fire(ConstructorEvent.of(constructor, values.toArray()));
-            return (T) constructor.newInstance(values.toArray());
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            throw new MappingException("There is an issue to create a new instance of this class" +
-                    " using this constructor: " + constructor, e);
-        }
+        return (T) ((DefaultConstructorMetadata) metadata).instantiator().newInstance(values.toArray());
     }
 
     @Override
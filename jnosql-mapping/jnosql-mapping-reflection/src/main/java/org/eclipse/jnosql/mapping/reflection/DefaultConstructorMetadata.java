@@ -20,7 +20,12 @@ import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
 import java.lang.reflect.Constructor;
 import java.util.List;
 record DefaultConstructorMetadata(Constructor<?> constructor,
-                                  List<ParameterMetaData> parameters) implements ConstructorMetadata {
+                                  List<ParameterMetaData> parameters,
+                                  ConstructorInstantiator instantiator) implements ConstructorMetadata {
+
+    DefaultConstructorMetadata(Constructor<?> constructor, List<ParameterMetaData> parameters) {
+        this(constructor, parameters, ConstructorInstantiator.of(constructor));
+    }
 
     public boolean isDefault() {
         return parameters.isEmpty();
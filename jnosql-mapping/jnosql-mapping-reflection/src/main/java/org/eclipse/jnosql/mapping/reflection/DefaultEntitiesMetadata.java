@@ -18,6 +18,7 @@ package org.eclipse.jnosql.mapping.reflection;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.nosql.Entity;
 import org.eclipse.jnosql.mapping.metadata.ClassConverter;
 import org.eclipse.jnosql.mapping.metadata.ClassInformationNotFoundException;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
@@ -35,7 +36,9 @@ import java.util.stream.Collectors;
 
 /**
  * The default implementation of {@link EntityMetadata}.
- * It's storage the class information in a {@link ConcurrentHashMap}
+ * It's storage the class information in a {@link ConcurrentHashMap}.
+ * The {@link GroupEntityMetadata#lazyClasses()} are indexed by name at the startup,
+ * and their {@link EntityMetadata} is created once on the first use.
  */
 @ApplicationScoped
 class DefaultEntitiesMetadata implements EntitiesMetadata {
@@ -49,8 +52,18 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
     private final  Map<String, EntityMetadata> findByClassName;
 
 
+    private final Map<String, Class<?>> lazyMappings;
+
+    private final Map<String, Class<?>> lazySimpleNames;
+
+    private final Map<String, Class<?>> lazyClassNames;
+
     private final ClassConverter converter;
 
+    private final Reflections reflections;
+
+    private volatile boolean lazyLoaded;
+
     @Inject
     private GroupEntityMetadata extension;
 
@@ -59,7 +72,11 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
         this.classes = new ConcurrentHashMap<>();
         this.findBySimpleName = new ConcurrentHashMap<>();
         this.findByClassName = new ConcurrentHashMap<>();
+        this.lazyMappings = new ConcurrentHashMap<>();
+        this.lazySimpleNames = new ConcurrentHashMap<>();
+        this.lazyClassNames = new ConcurrentHashMap<>();
         this.converter = new ReflectionClassConverter();
+        this.reflections = new Reflections();
     }
 
     @PostConstruct
@@ -70,6 +87,14 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
             findBySimpleName.put(r.simpleName(), r);
             findByClassName.put(r.className(), r);
         });
+        extension.lazyClasses().stream()
+                .filter(type -> type.getAnnotation(Entity.class) != null)
+                .filter(this::hasEntityName)
+                .forEach(type -> {
+                    lazyMappings.put(reflections.getEntityName(type).toUpperCase(Locale.US), type);
+                    lazySimpleNames.put(type.getSimpleName(), type);
+                    lazyClassNames.put(type.getName(), type);
+                });
     }
 
     EntityMetadata load(Class<?> type) {
@@ -82,14 +107,39 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
         return metadata;
     }
 
+    private EntityMetadata loadLazy(Class<?> type) {
+        EntityMetadata metadata = converter.apply(type);
+        if (metadata.hasEntityName() && type.getAnnotation(Entity.class) != null) {
+            mappings.put(metadata.name().toUpperCase(Locale.US), metadata);
+            findBySimpleName.put(metadata.simpleName(), metadata);
+            findByClassName.put(metadata.className(), metadata);
+        }
+        return metadata;
+    }
+
+    private void loadLazyClasses() {
+        if (!lazyLoaded) {
+            extension.lazyClasses().forEach(this::get);
+            lazyLoaded = true;
+        }
+    }
+
+    private boolean hasEntityName(Class<?> type) {
+        return reflections.getInheritance(type).isEmpty() || reflections.hasInheritanceAnnotation(type);
+    }
+
     @Override
     public EntityMetadata get(Class<?> entity) {
+        if (extension.lazyClasses().contains(entity)) {
+            return classes.computeIfAbsent(entity, this::loadLazy);
+        }
         return classes.computeIfAbsent(entity, this::load);
     }
 
     @Override
     public Map<String, InheritanceMetadata> findByParentGroupByDiscriminatorValue(Class<?> parent) {
         Objects.requireNonNull(parent, "parent is required");
+        loadLazyClasses();
         return this.classes.values().stream()
                 .flatMap(c -> c.inheritance().stream())
                 .filter(p -> p.isParent(parent))
@@ -99,7 +149,9 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
     @Override
     public EntityMetadata findByName(String name) {
         Objects.requireNonNull(name, "name is required");
-        return Optional.ofNullable(mappings.get(name.toUpperCase(Locale.US)))
+        String key = name.toUpperCase(Locale.US);
+        return Optional.ofNullable(mappings.get(key))
+                .or(() -> Optional.ofNullable(lazyMappings.get(key)).map(this::get))
                 .orElseThrow(() -> new ClassInformationNotFoundException("There is not entity found with the name: " + name));
 
     }
@@ -107,13 +159,15 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
     @Override
     public Optional<EntityMetadata> findBySimpleName(String name) {
         Objects.requireNonNull(name, "name is required");
-        return Optional.ofNullable(findBySimpleName.get(name));
+        return Optional.ofNullable(findBySimpleName.get(name))
+                .or(() -> Optional.ofNullable(lazySimpleNames.get(name)).map(this::get));
     }
 
     @Override
     public Optional<EntityMetadata> findByClassName(String name) {
         Objects.requireNonNull(name, "name is required");
-        return Optional.ofNullable(findByClassName.get(name));
+        return Optional.ofNullable(findByClassName.get(name))
+                .or(() -> Optional.ofNullable(lazyClassNames.get(name)).map(this::get));
     }
 
     @Override
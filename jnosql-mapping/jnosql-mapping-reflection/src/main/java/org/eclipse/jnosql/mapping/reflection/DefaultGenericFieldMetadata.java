@@ -28,12 +28,15 @@ import java.lang.reflect.ParameterizedType;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
-import java.util.ServiceLoader;
 
 final class DefaultGenericFieldMetadata  extends AbstractFieldMetadata implements GenericFieldMetadata {
 
     private final TypeSupplier<?> typeSupplier;
 
+    private volatile Class<?> elementType;
+
+    private volatile CollectionSupplier<?> collectionSupplier;
+
     DefaultGenericFieldMetadata(MappingType type, Field field, String name, TypeSupplier<?> typeSupplier,
                          Class<? extends AttributeConverter<?, ?>> converter,
                                 FieldReader reader, FieldWriter writer, String udt) {
@@ -97,22 +100,24 @@ final class DefaultGenericFieldMetadata  extends AbstractFieldMetadata implement
 
     @Override
     public Class<?> elementType() {
-        return (Class<?>) ((ParameterizedType) this.field
-                .getGenericType())
-                .getActualTypeArguments()[0];
+        Class<?> type = this.elementType;
+        if (type == null) {
+            type = (Class<?>) ((ParameterizedType) this.field
+                    .getGenericType())
+                    .getActualTypeArguments()[0];
+            this.elementType = type;
+        }
+        return type;
     }
 
     @Override
     public Collection<?> collectionInstance() {
-        Class<?> type = type();
-        final CollectionSupplier supplier =  ServiceLoader.load(CollectionSupplier.class)
-                .stream()
-                .map(ServiceLoader.Provider::get)
-                .map(CollectionSupplier.class::cast)
-                .filter(c -> c.test(type))
-                .findFirst()
-                .orElseThrow(() -> new UnsupportedOperationException("This collection is not supported yet: " + type));
-        return (Collection<?>) supplier.get();
+        CollectionSupplier<?> supplier = this.collectionSupplier;
+        if (supplier == null) {
+            supplier = CollectionSuppliers.INSTANCE.find(type());
+            this.collectionSupplier = supplier;
+        }
+        return supplier.get();
     }
 
     @Override
@@ -22,13 +22,14 @@ import org.eclipse.jnosql.mapping.metadata.MappingType;
 
 import java.lang.reflect.ParameterizedType;
 import java.util.Collection;
-import java.util.ServiceLoader;
 
 class DefaultGenericParameterMetaData  extends DefaultParameterMetaData implements GenericParameterMetaData {
 
 
     private final TypeSupplier<?> typeSupplier;
 
+    private volatile CollectionSupplier<?> collectionSupplier;
+
     DefaultGenericParameterMetaData(String name, Class<?> type, boolean id,
                              Class<? extends AttributeConverter<?, ?>> converter,
                              MappingType mappingType, TypeSupplier<?> typeSupplier) {
@@ -41,15 +42,12 @@ class DefaultGenericParameterMetaData  extends DefaultParameterMetaData implemen
     }
 
     public Collection<?> collectionInstance() {
-        Class<?> type =  type();
-        final CollectionSupplier supplier = ServiceLoader.load(CollectionSupplier.class)
-                .stream()
-                .map(ServiceLoader.Provider::get)
-                .map(CollectionSupplier.class::cast)
-                .filter(c -> c.test(type))
-                .findFirst()
-                .orElseThrow(() -> new UnsupportedOperationException("This collection is not supported yet: " + type));
-        return (Collection<?>) supplier.get();
+        CollectionSupplier<?> supplier = this.collectionSupplier;
+        if (supplier == null) {
+            supplier = CollectionSuppliers.INSTANCE.find(type());
+            this.collectionSupplier = supplier;
+        }
+        return supplier.get();
     }
 
 }
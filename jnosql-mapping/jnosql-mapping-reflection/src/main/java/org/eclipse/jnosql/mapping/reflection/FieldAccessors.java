@@ -0,0 +1,188 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates the {@link FieldReader} and the {@link FieldWriter} of a field from a {@link VarHandle},
+ * with a path per primitive type, so reading and writing a primitive field does not go through the generic adaptation.
+ * The {@code int}, {@code long}, {@code double} and {@code boolean} writers also write the primitive without boxing,
+ * such as {@link FieldWriter#writeInt(Object, int)}.
+ * <p>
+ * When the {@link VarHandle} cannot be created, such as when the entity module does not open the package,
+ * or when the field is final or static, it uses the {@link Reflections} path.
+ * The {@link Reflections} path also handles any failure of the {@link VarHandle}, for instance a value of a
+ * wider type or a null value to a primitive field, so both paths have the same behavior.
+ */
+final class FieldAccessors {
+
+    private static final Logger LOGGER = Logger.getLogger(FieldAccessors.class.getName());
+
+    private static final Map<Class<?>, Function<VarHandle, FieldReader>> READERS = Map.of(
+            int.class, handle -> bean -> (int) handle.get(bean),
+            long.class, handle -> bean -> (long) handle.get(bean),
+            double.class, handle -> bean -> (double) handle.get(bean),
+            boolean.class, handle -> bean -> (boolean) handle.get(bean),
+            float.class, handle -> bean -> (float) handle.get(bean),
+            short.class, handle -> bean -> (short) handle.get(bean),
+            byte.class, handle -> bean -> (byte) handle.get(bean),
+            char.class, handle -> bean -> (char) handle.get(bean));
+
+    private static final Map<Class<?>, Function<VarHandle, FieldWriter>> WRITERS = Map.of(
+            int.class, handle -> (bean, value) -> handle.set(bean, (int) (Integer) value),
+            long.class, handle -> (bean, value) -> handle.set(bean, (long) (Long) value),
+            double.class, handle -> (bean, value) -> handle.set(bean, (double) (Double) value),
+            boolean.class, handle -> (bean, value) -> handle.set(bean, (boolean) (Boolean) value),
+            float.class, handle -> (bean, value) -> handle.set(bean, (float) (Float) value),
+            short.class, handle -> (bean, value) -> handle.set(bean, (short) (Short) value),
+            byte.class, handle -> (bean, value) -> handle.set(bean, (byte) (Byte) value),
+            char.class, handle -> (bean, value) -> handle.set(bean, (char) (Character) value));
+
+    private FieldAccessors() {
+    }
+
+    /**
+     * Creates the reader of the field.
+     *
+     * @param field       the field
+     * @param reflections the reflections to the fallback path
+     * @return the field reader
+     */
+    static FieldReader reader(Field field, Reflections reflections) {
+        FieldReader fallback = bean -> reflections.getValue(bean, field);
+        Optional<VarHandle> varHandle = varHandle(field);
+        if (varHandle.isEmpty()) {
+            return fallback;
+        }
+        FieldReader access = READERS.getOrDefault(field.getType(), handle -> bean -> (Object) handle.get(bean))
+                .apply(varHandle.get());
+        return bean -> {
+            try {
+                return access.read(bean);
+            } catch (RuntimeException exception) {
+                return fallback.read(bean);
+            }
+        };
+    }
+
+    /**
+     * Creates the writer of the field.
+     *
+     * @param field       the field
+     * @param reflections the reflections to the fallback path
+     * @return the field writer
+     */
+    static FieldWriter writer(Field field, Reflections reflections) {
+        FieldWriter fallback = (bean, value) -> reflections.setValue(bean, field, value);
+        Optional<VarHandle> varHandle = Modifier.isFinal(field.getModifiers()) ? Optional.empty() : varHandle(field);
+        if (varHandle.isEmpty()) {
+            return fallback;
+        }
+        VarHandle handle = varHandle.get();
+        FieldWriter access = WRITERS.getOrDefault(field.getType(), h -> (bean, value) -> h.set(bean, value)).apply(handle);
+        return new VarHandleWriter(field.getType(), handle, access, fallback);
+    }
+
+    private static Optional<VarHandle> varHandle(Field field) {
+        if (Modifier.isStatic(field.getModifiers())) {
+            return Optional.empty();
+        }
+        try {
+            var lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            return Optional.of(lookup.unreflectVarHandle(field));
+        } catch (IllegalAccessException | RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "The field " + field + " is accessed by reflection", exception);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes through the {@link VarHandle}, the boxed value goes to the access of the field type and
+     * a primitive value of the field type is written without boxing. Any failure goes to the fallback.
+     */
+    private record VarHandleWriter(Class<?> type, VarHandle handle, FieldWriter access,
+                                   FieldWriter fallback) implements FieldWriter {
+
+        @Override
+        public void write(Object bean, Object value) {
+            try {
+                access.write(bean, value);
+            } catch (RuntimeException exception) {
+                fallback.write(bean, value);
+            }
+        }
+
+        @Override
+        public void writeInt(Object bean, int value) {
+            if (!int.class.equals(type)) {
+                write(bean, value);
+                return;
+            }
+            try {
+                handle.set(bean, value);
+            } catch (RuntimeException exception) {
+                fallback.write(bean, value);
+            }
+        }
+
+        @Override
+        public void writeLong(Object bean, long value) {
+            if (!long.class.equals(type)) {
+                write(bean, value);
+                return;
+            }
+            try {
+                handle.set(bean, value);
+            } catch (RuntimeException exception) {
+                fallback.write(bean, value);
+            }
+        }
+
+        @Override
+        public void writeDouble(Object bean, double value) {
+            if (!double.class.equals(type)) {
+                write(bean, value);
+                return;
+            }
+            try {
+                handle.set(bean, value);
+            } catch (RuntimeException exception) {
+                fallback.write(bean, value);
+            }
+        }
+
+        @Override
+        public void writeBoolean(Object bean, boolean value) {
+            if (!boolean.class.equals(type)) {
+                write(bean, value);
+                return;
+            }
+            try {
+                handle.set(bean, value);
+            } catch (RuntimeException exception) {
+                fallback.write(bean, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import io.github.classgraph.ScanResult;
+import jakarta.data.repository.DataRepository;
+import jakarta.data.repository.Repository;
+import jakarta.nosql.Embeddable;
+import jakarta.nosql.Entity;
+import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+import org.eclipse.jnosql.mapping.metadata.MetadataException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * A {@link ClassScanner} that reads the classes from the index written at build time by the
+ * {@code jnosql-mapping-processor}, at {@value ClassScanner#CLASS_INDEX}, instead of scanning the classpath.
+ * It reads every index on the classpath and trusts them: it scans the classpath elements without an index,
+ * so a module that does not run the processor keeps its entities and repositories, only when
+ * {@code jnosql.scanner.packages} or {@code jnosql.scanner.unindexed} is set.
+ */
+final class IndexClassScanner implements ClassScanner {
+
+    private static final String RESOURCE = ClassScanner.CLASS_INDEX;
+
+    private static final Logger LOGGER = Logger.getLogger(IndexClassScanner.class.getName());
+
+    private final Set<Class<?>> entities = new HashSet<>();
+    private final Set<Class<?>> repositories = new HashSet<>();
+    private final Set<Class<?>> embeddables = new HashSet<>();
+    private final Set<Class<?>> customRepositories = new HashSet<>();
+
+    private IndexClassScanner(Properties index, ClassLoader loader) {
+        Set<Class<?>> notSupportedRepositories = new HashSet<>();
+        index.forEach((name, kind) -> load(name.toString(), loader).ifPresent(type -> {
+            switch (kind.toString()) {
+                case "entity" -> entities.add(type);
+                case "embeddable" -> embeddables.add(type);
+                case "repository" -> {
+                    if (!type.isInterface()) {
+                        return;
+                    }
+                    if (!DataRepository.class.isAssignableFrom(type)) {
+                        customRepositories.add(type);
+                    } else if (RepositoryFilter.INSTANCE.test(type)) {
+                        repositories.add(type);
+                    } else {
+                        notSupportedRepositories.add(type);
+                    }
+                }
+                default -> LOGGER.warning("The class " + name + " has an unknown kind at the index: " + kind);
+            }
+        }));
+        LOGGER.info("The following repositories are not supported: " + notSupportedRepositories);
+        LOGGER.fine(String.format("Finished the class index with entities %d, embeddables %d and repositories: %d"
+                , entities.size(), embeddables.size(), repositories.size()));
+    }
+
+    @Override
+    public Set<Class<?>> entities() {
+        return unmodifiableSet(entities);
+    }
+
+    @Override
+    public Set<Class<?>> repositories() {
+        return unmodifiableSet(repositories);
+    }
+
+    @Override
+    public Set<Class<?>> embeddables() {
+        return unmodifiableSet(embeddables);
+    }
+
+    @Override
+    public <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
+        return ClassGraphClassScanner.repositories(repositories, filter);
+    }
+
+    @Override
+    public Set<Class<?>> repositoriesStandard() {
+        return ClassGraphClassScanner.repositoriesStandard(repositories);
+    }
+
+    @Override
+    public Set<Class<?>> customRepositories() {
+        return unmodifiableSet(customRepositories);
+    }
+
+    /**
+     * Reads every class index from the class loader.
+     *
+     * @param loader the class loader
+     * @return the {@link IndexClassScanner} or {@link Optional#empty()} when there is no index
+     * @throws MetadataException when an index cannot be read
+     */
+    static Optional<IndexClassScanner> load(ClassLoader loader) {
+        List<URL> resources = resources(loader);
+        if (resources.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(of(read(resources), loader));
+    }
+
+    /**
+     * Reads every class index from the class loader. It scans the classpath elements without an index only when
+     * there are packages, in those packages, or when the unindexed elements are requested, in the whole elements.
+     *
+     * @param loader    the class loader
+     * @param packages  the scanned packages
+     * @param unindexed whether it scans the classpath elements without an index when there is no package
+     * @return the {@link IndexClassScanner} or {@link Optional#empty()} when there is no index
+     * @throws MetadataException when an index cannot be read
+     */
+    static Optional<IndexClassScanner> load(ClassLoader loader, List<String> packages, boolean unindexed) {
+        if (packages.isEmpty() && !unindexed) {
+            return load(loader);
+        }
+        return load(loader, packages);
+    }
+
+    /**
+     * Reads every class index from the class loader and scans the classpath elements without an index,
+     * in the given packages, or in the whole classpath elements when there is none.
+     *
+     * @param loader   the class loader
+     * @param packages the scanned packages
+     * @return the {@link IndexClassScanner} or {@link Optional#empty()} when there is no index
+     * @throws MetadataException when an index cannot be read
+     */
+    static Optional<IndexClassScanner> load(ClassLoader loader, List<String> packages) {
+        List<URL> resources = resources(loader);
+        if (resources.isEmpty()) {
+            return Optional.empty();
+        }
+        var index = read(resources);
+        Set<String> indexed = new HashSet<>();
+        resources.forEach(resource -> indexed.add(root(resource.toString())));
+        try (ScanResult result = ClassGraphClassScanner.classGraph(packages)
+                .filterClasspathElementsByURL(url -> !indexed.contains(root(url.toString())))
+                .scan()) {
+            result.getClassesWithAnnotation(Entity.class).getNames()
+                    .forEach(name -> index.putIfAbsent(name, "entity"));
+            result.getClassesWithAnnotation(Embeddable.class).getNames()
+                    .forEach(name -> index.putIfAbsent(name, "embeddable"));
+            result.getClassesWithAnnotation(Repository.class).getInterfaces().getNames()
+                    .forEach(name -> index.putIfAbsent(name, "repository"));
+        }
+        return Optional.of(of(index, loader));
+    }
+
+    /**
+     * Loads the classes of an index, where the key is the class binary name and the value is its kind.
+     *
+     * @param index  the index
+     * @param loader the class loader
+     * @return the {@link IndexClassScanner}
+     */
+    static IndexClassScanner of(Properties index, ClassLoader loader) {
+        return new IndexClassScanner(index, loader);
+    }
+
+    private static List<URL> resources(ClassLoader loader) {
+        try {
+            Enumeration<URL> resources = loader == null ? ClassLoader.getSystemResources(RESOURCE)
+                    : loader.getResources(RESOURCE);
+            return Collections.list(resources);
+        } catch (IOException exception) {
+            throw new MetadataException("There is an issue to read the class index " + RESOURCE, exception);
+        }
+    }
+
+    private static Properties read(List<URL> resources) {
+        var index = new Properties();
+        for (URL resource : resources) {
+            try (InputStream stream = resource.openStream()) {
+                index.load(stream);
+            } catch (IOException exception) {
+                throw new MetadataException("There is an issue to read the class index " + resource, exception);
+            }
+        }
+        LOGGER.fine("Loading the classes from the index: " + resources);
+        return index;
+    }
+
+    /**
+     * Returns the classpath element of an index URL, or of a classpath element URL, where
+     * {@code jar:file:/app.jar!/META-INF/jnosql/classes.properties} and {@code file:/app.jar} are the same.
+     */
+    private static String root(String url) {
+        String root = url.endsWith(RESOURCE) ? url.substring(0, url.length() - RESOURCE.length()) : url;
+        if (root.startsWith("jar:") && root.endsWith("!/")) {
+            root = root.substring("jar:".length(), root.length() - "!/".length());
+        }
+        return root.endsWith("/") ? root.substring(0, root.length() - 1) : root;
+    }
+
+    private static Optional<Class<?>> load(String name, ClassLoader loader) {
+        try {
+            return Optional.of(Class.forName(name, false, loader));
+        } catch (ClassNotFoundException | LinkageError exception) {
+            LOGGER.log(Level.WARNING, "The class " + name + " from the index was not found", exception);
+            return Optional.empty();
+        }
+    }
+}
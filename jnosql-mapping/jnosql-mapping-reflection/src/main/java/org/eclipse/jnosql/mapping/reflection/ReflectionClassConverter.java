@@ -178,8 +178,8 @@ public final class ReflectionClassConverter implements ClassConverter {
         String udt = reflections.getUDTName(field);
         FieldMappingBuilder builder = new FieldMappingBuilder().name(columnName)
                 .field(field).type(mappingType).id(id).udt(udt)
-                .reader(bean -> reflections.getValue(bean, field))
-                .writer((bean, value) -> reflections.setValue(bean, field, value));
+                .reader(FieldAccessors.reader(field, reflections))
+                .writer(FieldAccessors.writer(field, reflections));
 
         if (nonNull(convert)) {
             builder.converter(convert.value());
@@ -14,44 +14,82 @@
  */
 package org.eclipse.jnosql.mapping.reflection;
 
+import io.github.classgraph.ClassGraph;
 import jakarta.data.repository.DataRepository;
 import org.eclipse.jnosql.mapping.metadata.ClassScanner;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
 import java.util.Set;
+import java.util.logging.Logger;
 
 /**
  * A class that implements the {@link ClassScanner} interface using the ClassGraph library for class scanning.
  * This class provides methods to scan for different types of classes such as entities, repositories, and embeddables.
+ * When the classpath has the class index written by the {@code jnosql-mapping-processor}, at {@value ClassScanner#CLASS_INDEX},
+ * it reads the classes from the index, and it scans the classpath elements without an index only when {@code jnosql.scanner.packages}
+ * or {@code jnosql.scanner.unindexed} is set. Otherwise, when there is the {@code jnosql.scanner.cache} property,
+ * it reads the classes from this file while the classpath does not change, and writes it after a scan.
  */
 public final class ReflectionClassScanner implements ClassScanner {
 
+    private static final Logger LOGGER = Logger.getLogger(ReflectionClassScanner.class.getName());
+
+    private static final ClassScanner SCANNER = scanner();
+
     @Override
     public Set<Class<?>> entities() {
-        return ClassGraphClassScanner.INSTANCE.entities();
+        return SCANNER.entities();
     }
 
     @Override
     public Set<Class<?>> repositories() {
-        return ClassGraphClassScanner.INSTANCE.repositories();
+        return SCANNER.repositories();
     }
 
     @Override
     public Set<Class<?>> embeddables() {
-        return ClassGraphClassScanner.INSTANCE.embeddables();
+        return SCANNER.embeddables();
     }
 
     @Override
     public <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
-        return ClassGraphClassScanner.INSTANCE.repositories(filter);
+        return SCANNER.repositories(filter);
     }
 
     @Override
     public Set<Class<?>> repositoriesStandard() {
-        return ClassGraphClassScanner.INSTANCE.repositoriesStandard();
+        return SCANNER.repositoriesStandard();
     }
 
     @Override
     public Set<Class<?>> customRepositories() {
-        return  ClassGraphClassScanner.INSTANCE.customRepositories();
+        return  SCANNER.customRepositories();
+    }
+
+    private static ClassScanner scanner() {
+        ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+        ClassLoader loader = contextLoader == null ? ReflectionClassScanner.class.getClassLoader() : contextLoader;
+        List<String> packages = ClassScannerConfigurations.SCANNER_PACKAGES.readList();
+        boolean unindexed = ClassScannerConfigurations.SCANNER_UNINDEXED.read().map(Boolean::parseBoolean)
+                .orElse(false);
+        Optional<IndexClassScanner> index = IndexClassScanner.load(loader, packages, unindexed);
+        if (index.isPresent()) {
+            return index.get();
+        }
+        Optional<String> cacheFile = ClassScannerConfigurations.SCANNER_CACHE.read();
+        if (cacheFile.isEmpty()) {
+            return ClassGraphClassScanner.INSTANCE;
+        }
+        var cache = ClassScanCache.of(Path.of(cacheFile.get()), new ClassGraph().getClasspathFiles(), packages);
+        Optional<Properties> classes = cache.read();
+        if (classes.isPresent()) {
+            LOGGER.fine("Loading the classes from the class scan cache: " + cacheFile.get());
+            return IndexClassScanner.of(classes.get(), loader);
+        }
+        cache.write(ClassGraphClassScanner.INSTANCE);
+        return ClassGraphClassScanner.INSTANCE;
     }
 }
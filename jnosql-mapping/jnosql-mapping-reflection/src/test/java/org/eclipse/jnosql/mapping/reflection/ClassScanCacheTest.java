@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import io.github.classgraph.ScanResult;
+import jakarta.nosql.Entity;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+import org.eclipse.jnosql.mapping.reflection.entities.Job;
+import org.eclipse.jnosql.mapping.reflection.entities.Library;
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+import org.eclipse.jnosql.mapping.reflection.entities.PersonRepository;
+import org.eclipse.jnosql.mapping.reflection.entities.inheritance.Notification;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassScanCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReadTheClassesWritten() throws IOException {
+        Path jar = Files.writeString(directory.resolve("app.jar"), "classes");
+        Path file = directory.resolve("cache").resolve("classes.properties");
+        var cache = ClassScanCache.of(file, List.of(jar.toFile()), List.of());
+        cache.write(scanner());
+
+        var classes = ClassScanCache.of(file, List.of(jar.toFile()), List.of()).read().orElseThrow();
+        var scanner = IndexClassScanner.of(classes, getClass().getClassLoader());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(classes).containsExactlyInAnyOrderEntriesOf(Map.of(Person.class.getName(), "entity",
+                    Job.class.getName(), "embeddable", PersonRepository.class.getName(), "repository",
+                    Library.class.getName(), "repository"));
+            soft.assertThat(scanner.entities()).containsExactly(Person.class);
+            soft.assertThat(scanner.embeddables()).containsExactly(Job.class);
+            soft.assertThat(scanner.repositories()).containsExactly(PersonRepository.class);
+            soft.assertThat(scanner.customRepositories()).containsExactly(Library.class);
+        });
+    }
+
+    @Test
+    void shouldIgnoreCacheWhenClasspathChanges() throws IOException {
+        Path jar = Files.writeString(directory.resolve("app.jar"), "classes");
+        Path file = directory.resolve("classes.properties");
+        ClassScanCache.of(file, List.of(jar.toFile()), List.of()).write(scanner());
+
+        Files.writeString(jar, "new classes");
+
+        assertThat(ClassScanCache.of(file, List.of(jar.toFile()), List.of()).read()).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreCacheWhenPackagesChange() throws IOException {
+        Path jar = Files.writeString(directory.resolve("app.jar"), "classes");
+        Path file = directory.resolve("classes.properties");
+        ClassScanCache.of(file, List.of(jar.toFile()), List.of()).write(scanner());
+
+        assertThat(ClassScanCache.of(file, List.of(jar.toFile()), List.of("org.jnosql")).read()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyWhenThereIsNoCache() {
+        assertThat(ClassScanCache.of(directory.resolve("classes.properties"), List.of(), List.of()).read()).isEmpty();
+    }
+
+    @Test
+    void shouldChangeFingerprintWhenDirectoryChanges() throws IOException {
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        Files.writeString(classes.resolve("Person.class"), "person");
+        List<File> classpath = List.of(classes.toFile());
+        String fingerprint = ClassScanCache.fingerprint(classpath, List.of());
+
+        Files.writeString(classes.resolve("Book.class"), "book");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ClassScanCache.fingerprint(classpath, List.of())).isNotEqualTo(fingerprint);
+            soft.assertThat(ClassScanCache.fingerprint(classpath, List.of()))
+                    .isEqualTo(ClassScanCache.fingerprint(classpath, List.of()));
+        });
+    }
+
+    @Test
+    void shouldScanOnlyThePackages() {
+        String inheritance = Notification.class.getPackageName();
+        try (ScanResult result = ClassGraphClassScanner.classGraph(List.of(inheritance)).scan()) {
+            List<Class<?>> entities = result.getClassesWithAnnotation(Entity.class).loadClasses();
+            assertThat(entities).isNotEmpty().contains(Notification.class)
+                    .allMatch(type -> type.getPackageName().equals(inheritance));
+        }
+    }
+
+    private ClassScanner scanner() {
+        ClassScanner scanner = Mockito.mock(ClassScanner.class);
+        Mockito.when(scanner.entities()).thenReturn(Set.of(Person.class));
+        Mockito.when(scanner.embeddables()).thenReturn(Set.of(Job.class));
+        Mockito.when(scanner.repositories()).thenReturn(Set.of(PersonRepository.class));
+        Mockito.when(scanner.customRepositories()).thenReturn(Set.of(Library.class));
+        return scanner;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CollectionSuppliersTest {
+
+    @Test
+    void shouldFindSupplier() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(CollectionSuppliers.INSTANCE.find(List.class).get()).isInstanceOf(List.class);
+            soft.assertThat(CollectionSuppliers.INSTANCE.find(Set.class).get()).isInstanceOf(Set.class);
+            soft.assertThat(CollectionSuppliers.INSTANCE.find(SortedSet.class).get()).isInstanceOf(SortedSet.class);
+            soft.assertThat(CollectionSuppliers.INSTANCE.find(Deque.class).get()).isInstanceOf(Deque.class);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsNoSupplier() {
+        assertThatThrownBy(() -> CollectionSuppliers.INSTANCE.find(Map.class))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
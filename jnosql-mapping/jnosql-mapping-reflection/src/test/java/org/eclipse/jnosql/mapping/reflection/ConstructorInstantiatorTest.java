@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.CDI;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.mapping.reflection.entities.Money;
+import org.eclipse.jnosql.mapping.reflection.entities.constructor.BookUser;
+import org.eclipse.jnosql.mapping.reflection.entities.constructor.Computer;
+import org.jboss.weld.junit5.auto.AddBeanClasses;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EnableAutoWeld
+@AddBeanClasses(ConstructorInstantiatorTest.ConstructorObserver.class)
+class ConstructorInstantiatorTest {
+
+    @BeforeEach
+    void setUp() {
+        ConstructorObserver.EVENTS.clear();
+    }
+
+    @Test
+    void shouldCreateInstance() throws NoSuchMethodException {
+        var instantiator = ConstructorInstantiator.of(Computer.class.getConstructor(Long.class, String.class,
+                int.class, String.class, Money.class));
+        Money price = new Money("USD", BigDecimal.TEN);
+        Computer computer = (Computer) instantiator.newInstance(new Object[]{1L, "Dell", 2, "XPS", price});
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(computer.getId()).isEqualTo(1L);
+            soft.assertThat(computer.getName()).isEqualTo("Dell");
+            soft.assertThat(computer.getAge()).isEqualTo(2);
+            soft.assertThat(computer.getModel()).isEqualTo("XPS");
+            soft.assertThat(computer.getPrice()).isEqualTo(price);
+        });
+    }
+
+    @Test
+    void shouldWidenPrimitiveValue() throws NoSuchMethodException {
+        var instantiator = ConstructorInstantiator.of(Computer.class.getConstructor(Long.class, String.class,
+                int.class, String.class, Money.class));
+        Computer computer = (Computer) instantiator.newInstance(new Object[]{1L, "Dell", (short) 2, "XPS", null});
+        assertThat(computer.getAge()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepReflectionErrorWhenPrimitiveIsNull() throws NoSuchMethodException {
+        var instantiator = ConstructorInstantiator.of(Computer.class.getConstructor(Long.class, String.class,
+                int.class, String.class, Money.class));
+        assertThatThrownBy(() -> instantiator.newInstance(new Object[]{1L, "Dell", null, "XPS", null}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldWrapConstructorException() throws NoSuchMethodException {
+        var instantiator = ConstructorInstantiator.of(Failure.class.getConstructor(String.class));
+        assertThatThrownBy(() -> instantiator.newInstance(new Object[]{"error"}))
+                .isInstanceOf(MappingException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldFireEventWhenThereIsObserver() throws NoSuchMethodException {
+        Constructor<BookUser> constructor = BookUser.class.getDeclaredConstructor(String.class, String.class,
+                List.class);
+        constructor.setAccessible(true);
+        var instantiator = ConstructorInstantiator.of(constructor);
+        instantiator.newInstance(new Object[]{"otaviojava", "Otavio", null});
+
+        assertThat(ConstructorObserver.EVENTS).containsExactly(ConstructorEvent.of(constructor,
+                new Object[]{"otaviojava", "Otavio", null}));
+    }
+
+    @Test
+    void shouldResolveContainerOnce() throws NoSuchMethodException {
+        Constructor<BookUser> constructor = BookUser.class.getDeclaredConstructor(String.class, String.class,
+                List.class);
+        constructor.setAccessible(true);
+        var instantiator = ConstructorInstantiator.of(constructor);
+        instantiator.newInstance(new Object[]{"otaviojava", "Otavio", null});
+
+        try (MockedStatic<CDI> cdi = Mockito.mockStatic(CDI.class)) {
+            instantiator.newInstance(new Object[]{"ada", "Ada", null});
+            cdi.verifyNoInteractions();
+        }
+        assertThat(ConstructorObserver.EVENTS).hasSize(2);
+    }
+
+    @Test
+    void shouldEqualsHashCode() throws NoSuchMethodException {
+        Constructor<Failure> constructor = Failure.class.getConstructor(String.class);
+        var instantiator = ConstructorInstantiator.of(constructor);
+        assertThat(instantiator).isEqualTo(ConstructorInstantiator.of(constructor))
+                .hasSameHashCodeAs(ConstructorInstantiator.of(constructor));
+    }
+
+    public static class Failure {
+
+        public Failure(String message) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    @ApplicationScoped
+    public static class ConstructorObserver {
+
+        static final List<ConstructorEvent> EVENTS = new CopyOnWriteArrayList<>();
+
+        void observe(@Observes ConstructorEvent event) {
+            EVENTS.add(event);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.mapping.metadata.ClassInformationNotFoundException;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.GroupEntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.entities.Job;
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+import org.eclipse.jnosql.mapping.reflection.entities.Vendor;
+import org.eclipse.jnosql.mapping.reflection.entities.inheritance.EmailNotification;
+import org.eclipse.jnosql.mapping.reflection.entities.inheritance.Notification;
+import org.eclipse.jnosql.mapping.reflection.entities.inheritance.SmsNotification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultEntitiesMetadataLazyTest {
+
+    @Mock
+    private GroupEntityMetadata extension;
+
+    @InjectMocks
+    private DefaultEntitiesMetadata mappings;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(extension.mappings()).thenReturn(Map.of());
+        Mockito.when(extension.classes()).thenReturn(Map.of());
+        Mockito.when(extension.lazyClasses()).thenReturn(Set.of(Person.class, Vendor.class, Job.class,
+                Notification.class, EmailNotification.class, SmsNotification.class));
+        mappings.init();
+    }
+
+    @Test
+    void shouldCreateMetadataOnGet() {
+        EntityMetadata metadata = mappings.get(Person.class);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(metadata.type()).isEqualTo(Person.class);
+            soft.assertThat(mappings.get(Person.class)).isSameAs(metadata);
+            soft.assertThat(mappings.get(Job.class).type()).isEqualTo(Job.class);
+        });
+    }
+
+    @Test
+    void shouldFindByName() {
+        EntityMetadata metadata = mappings.findByName("vendors");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(metadata.type()).isEqualTo(Vendor.class);
+            soft.assertThat(mappings.get(Vendor.class)).isSameAs(metadata);
+            soft.assertThat(mappings.findByName("Notification").type()).isEqualTo(Notification.class);
+        });
+    }
+
+    @Test
+    void shouldNotFindByNameTheChildEntity() {
+        assertThatThrownBy(() -> mappings.findByName("EmailNotification"))
+                .isInstanceOf(ClassInformationNotFoundException.class);
+    }
+
+    @Test
+    void shouldFindBySimpleNameAndClassName() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(mappings.findBySimpleName("Person")).map(EntityMetadata::type).contains(Person.class);
+            soft.assertThat(mappings.findByClassName(Vendor.class.getName())).map(EntityMetadata::type)
+                    .contains(Vendor.class);
+            soft.assertThat(mappings.findBySimpleName("Job")).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldFindByParentGroupByDiscriminatorValue() {
+        var group = mappings.findByParentGroupByDiscriminatorValue(Notification.class);
+        assertThat(group).containsKeys("Email", "SMS", "Notification");
+    }
+
+    @Test
+    void shouldLoadLazyClassesOnce() {
+        mappings.findByParentGroupByDiscriminatorValue(Notification.class);
+        Mockito.clearInvocations(extension);
+        var group = mappings.findByParentGroupByDiscriminatorValue(Notification.class);
+
+        Mockito.verify(extension, Mockito.never()).lazyClasses();
+        assertThat(group).containsKeys("Email", "SMS", "Notification");
+    }
+
+    @Test
+    void shouldCreateMetadataOnceOnConcurrentAccess() {
+        List<CompletableFuture<EntityMetadata>> futures = IntStream.range(0, 16)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> mappings.findByName("Person")))
+                .toList();
+        List<EntityMetadata> metadata = futures.stream().map(CompletableFuture::join).toList();
+        assertThat(metadata).allMatch(m -> m == metadata.get(0));
+    }
+}
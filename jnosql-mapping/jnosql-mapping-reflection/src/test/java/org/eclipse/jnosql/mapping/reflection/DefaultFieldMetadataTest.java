@@ -17,6 +17,7 @@ package org.eclipse.jnosql.mapping.reflection;
 import org.assertj.core.api.Assertions;
 import jakarta.nosql.AttributeConverter;
 import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.mapping.metadata.ClassConverter;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
@@ -55,6 +56,36 @@ class DefaultFieldMetadataTest {
         assertThat(fieldMetadata).hasSameHashCodeAs(fieldMetadata);
     }
 
+    @Test
+    void shouldWriteValue() {
+        EntityMetadata entityMetadata = converter.apply(Person.class);
+        FieldMetadata id = entityMetadata.fieldMapping("id").orElseThrow();
+        FieldMetadata age = entityMetadata.fieldMapping("age").orElseThrow();
+        var person = Person.builder().build();
+
+        fieldMetadata.writeValue(person, Value.of("Ada"));
+        id.writeValue(person, Value.ofLong(10L));
+        age.writeValue(person, Value.of("20"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(person.getName()).isEqualTo("Ada");
+            soft.assertThat(person.getId()).isEqualTo(10L);
+            soft.assertThat(person.getAge()).isEqualTo(20);
+        });
+    }
+
+    @Test
+    void shouldIgnoreNullValueOnPrimitiveField() {
+        EntityMetadata entityMetadata = converter.apply(Person.class);
+        FieldMetadata age = entityMetadata.fieldMapping("age").orElseThrow();
+        var person = Person.builder().build();
+        age.writeValue(person, Value.ofInt(20));
+
+        age.writeValue(person, Value.ofNull());
+
+        assertThat(person.getAge()).isEqualTo(20);
+    }
+
     @Test
     void shouldCreateNewInstanceConverter(){
         EntityMetadata entityMetadata = converter.apply(Worker.class);
@@ -57,6 +57,14 @@ class DefaultGenericFieldMetaDataTest {
         assertThat(collection).isInstanceOf(List.class);
     }
 
+    @Test
+    void shouldCreateNewCollectionInstance(){
+        Collection<?> collection = this.fieldMetadata.collectionInstance();
+        Collection<?> other = this.fieldMetadata.collectionInstance();
+        assertThat(collection).isInstanceOf(List.class).isEmpty();
+        assertThat(other).isInstanceOf(List.class).isNotSameAs(collection);
+    }
+
     @Test
     void shouldEqualsHashCode(){
         Assertions.assertThat(fieldMetadata).isEqualTo(fieldMetadata);
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.stream.Stream;
+
+class FieldAccessorsTest {
+
+    private final Reflections reflections = new Reflections();
+
+    @ParameterizedTest
+    @MethodSource("values")
+    void shouldReadAndWrite(String name, Object value) throws NoSuchFieldException {
+        Field field = Sample.class.getDeclaredField(name);
+        reflections.makeAccessible(field);
+        FieldReader reader = FieldAccessors.reader(field, reflections);
+        FieldWriter writer = FieldAccessors.writer(field, reflections);
+        var sample = new Sample();
+
+        writer.write(sample, value);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(reader.read(sample)).isEqualTo(value);
+            soft.assertThat(reflections.getValue(sample, field)).isEqualTo(value);
+        });
+    }
+
+    @Test
+    void shouldKeepReflectionBehaviorOnInvalidValues() throws NoSuchFieldException {
+        Field number = Sample.class.getDeclaredField("number");
+        Field age = Sample.class.getDeclaredField("age");
+        reflections.makeAccessible(number);
+        reflections.makeAccessible(age);
+        var sample = new Sample();
+        sample.age = 10;
+
+        FieldAccessors.writer(number, reflections).write(sample, 12);
+        FieldAccessors.writer(age, reflections).write(sample, null);
+        FieldAccessors.writer(age, reflections).write(sample, "invalid");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(sample.number).isEqualTo(12L);
+            soft.assertThat(sample.age).isEqualTo(10);
+            soft.assertThat(FieldAccessors.reader(age, reflections).read(null)).isNull();
+        });
+    }
+
+    @Test
+    void shouldWritePrimitives() throws NoSuchFieldException {
+        var sample = new Sample();
+
+        FieldAccessors.writer(accessible("age"), reflections).writeInt(sample, 10);
+        FieldAccessors.writer(accessible("number"), reflections).writeLong(sample, 20L);
+        FieldAccessors.writer(accessible("price"), reflections).writeDouble(sample, 2.5D);
+        FieldAccessors.writer(accessible("active"), reflections).writeBoolean(sample, true);
+        FieldAccessors.writer(accessible("rate"), reflections).writeInt(sample, 3);
+        FieldAccessors.writer(accessible("name"), reflections).writeInt(sample, 4);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(sample.age).isEqualTo(10);
+            soft.assertThat(sample.number).isEqualTo(20L);
+            soft.assertThat(sample.price).isEqualTo(2.5D);
+            soft.assertThat(sample.active).isTrue();
+            soft.assertThat(sample.rate).isEqualTo(3F);
+            soft.assertThat(sample.name).isNull();
+        });
+    }
+
+    @Test
+    void shouldWriteFinalField() throws NoSuchFieldException {
+        Field field = Sample.class.getDeclaredField("id");
+        reflections.makeAccessible(field);
+        var sample = new Sample();
+
+        FieldAccessors.writer(field, reflections).write(sample, "new-id");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(FieldAccessors.reader(field, reflections).read(sample)).isEqualTo("new-id");
+        });
+    }
+
+    private Field accessible(String name) throws NoSuchFieldException {
+        Field field = Sample.class.getDeclaredField(name);
+        reflections.makeAccessible(field);
+        return field;
+    }
+
+    static Stream<Arguments> values() {
+        return Stream.of(Arguments.of("age", 10),
+                Arguments.of("number", 20L),
+                Arguments.of("price", 2.5D),
+                Arguments.of("active", true),
+                Arguments.of("rate", 1.5F),
+                Arguments.of("level", (short) 3),
+                Arguments.of("flag", (byte) 4),
+                Arguments.of("letter", 'a'),
+                Arguments.of("name", "Ada"));
+    }
+
+    private static class Sample {
+
+        private final String id = String.valueOf(System.nanoTime());
+
+        private int age;
+
+        private long number;
+
+        private double price;
+
+        private boolean active;
+
+        private float rate;
+
+        private short level;
+
+        private byte flag;
+
+        private char letter;
+
+        private String name;
+    }
+}
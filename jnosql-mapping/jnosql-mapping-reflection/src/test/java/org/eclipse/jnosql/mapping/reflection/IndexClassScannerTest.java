@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.repository.CrudRepository;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+import org.eclipse.jnosql.mapping.reflection.entities.AnimalRepository;
+import org.eclipse.jnosql.mapping.reflection.entities.Contact;
+import org.eclipse.jnosql.mapping.reflection.entities.Job;
+import org.eclipse.jnosql.mapping.reflection.entities.Library;
+import org.eclipse.jnosql.mapping.reflection.entities.MovieRepository;
+import org.eclipse.jnosql.mapping.reflection.entities.NoSQLVendor;
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+import org.eclipse.jnosql.mapping.reflection.entities.PersonRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexClassScannerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldLoadClassesFromIndex() throws IOException {
+        Path index = directory.resolve(ClassScanner.CLASS_INDEX);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, """
+                org.eclipse.jnosql.mapping.reflection.entities.Person=entity
+                org.eclipse.jnosql.mapping.reflection.entities.Job=embeddable
+                org.eclipse.jnosql.mapping.reflection.entities.Contact=embeddable
+                org.eclipse.jnosql.mapping.reflection.entities.AnimalRepository=repository
+                org.eclipse.jnosql.mapping.reflection.entities.PersonRepository=repository
+                org.eclipse.jnosql.mapping.reflection.entities.MovieRepository=repository
+                org.eclipse.jnosql.mapping.reflection.entities.NoSQLVendor=repository
+                org.eclipse.jnosql.mapping.reflection.entities.Library=repository
+                org.eclipse.jnosql.mapping.reflection.entities.Missing=entity
+                """);
+
+        try (var loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader())) {
+            var scanner = IndexClassScanner.load(loader).orElseThrow();
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(scanner.entities()).containsExactly(Person.class);
+                soft.assertThat(scanner.embeddables()).containsExactlyInAnyOrder(Job.class, Contact.class);
+                soft.assertThat(scanner.repositories()).containsExactlyInAnyOrder(AnimalRepository.class,
+                        PersonRepository.class, MovieRepository.class);
+                soft.assertThat(scanner.repositories(NoSQLVendor.class)).containsExactly(AnimalRepository.class);
+                soft.assertThat(scanner.repositories(CrudRepository.class)).containsExactly(MovieRepository.class);
+                soft.assertThat(scanner.repositoriesStandard()).containsExactlyInAnyOrder(PersonRepository.class,
+                        MovieRepository.class);
+                soft.assertThat(scanner.customRepositories()).containsExactly(Library.class);
+            });
+        }
+    }
+
+    @Test
+    void shouldScanTheClasspathElementsWithoutIndex() throws IOException {
+        Path index = directory.resolve(ClassScanner.CLASS_INDEX);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, "org.eclipse.jnosql.mapping.reflection.IndexClassScannerTest=entity");
+
+        try (var loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader())) {
+            var scanner = IndexClassScanner.load(loader, List.of(Person.class.getPackageName())).orElseThrow();
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(scanner.entities()).contains(IndexClassScannerTest.class, Person.class);
+                soft.assertThat(scanner.embeddables()).contains(Job.class, Contact.class);
+                soft.assertThat(scanner.repositories()).contains(PersonRepository.class);
+                soft.assertThat(scanner.customRepositories()).contains(Library.class);
+            });
+        }
+    }
+
+    @Test
+    void shouldNotScanTheClasspathWhenThereIsIndex() throws IOException {
+        Path index = directory.resolve(ClassScanner.CLASS_INDEX);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, "org.eclipse.jnosql.mapping.reflection.IndexClassScannerTest=entity");
+
+        try (var loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader());
+             MockedStatic<ClassGraphClassScanner> classGraph = Mockito.mockStatic(ClassGraphClassScanner.class)) {
+            var scanner = IndexClassScanner.load(loader, List.of(), false).orElseThrow();
+
+            assertThat(scanner.entities()).containsExactly(IndexClassScannerTest.class);
+            classGraph.verifyNoInteractions();
+        }
+    }
+
+    @Test
+    void shouldScanTheClasspathElementsWithoutIndexWhenItIsRequested() throws IOException {
+        Path index = directory.resolve(ClassScanner.CLASS_INDEX);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, "org.eclipse.jnosql.mapping.reflection.IndexClassScannerTest=entity");
+
+        try (var loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader())) {
+            var scanner = IndexClassScanner.load(loader, List.of(Person.class.getPackageName()), false)
+                    .orElseThrow();
+
+            assertThat(scanner.entities()).contains(IndexClassScannerTest.class, Person.class);
+        }
+    }
+
+    @Test
+    void shouldReturnEmptyWhenThereIsNoIndex() throws IOException {
+        try (var loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, null)) {
+            assertThat(IndexClassScanner.load(loader)).isEmpty();
+        }
+    }
+}
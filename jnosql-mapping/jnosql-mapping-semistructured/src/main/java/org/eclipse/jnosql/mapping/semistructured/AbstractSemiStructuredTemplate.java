@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.semistructured;
 
 
+import jakarta.data.exceptions.MappingException;
 import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.data.page.CursoredPage;
 import jakarta.data.page.PageRequest;
@@ -22,11 +23,15 @@ import jakarta.data.page.impl.CursoredPageRecord;
 import jakarta.nosql.QueryMapper;
 
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.QueryParser;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
@@ -35,16 +40,20 @@ import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 
@@ -59,6 +68,10 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
 
     private static final QueryParser PARSER = new QueryParser();
 
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
+    private static final int DEFAULT_IN_CLAUSE_SIZE = 100;
+
     /**
      * Retrieves the converter used to convert between entity objects and communication entities.
      *
@@ -122,24 +135,45 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     @Override
     public <T> Iterable<T> update(Iterable<T> entities) {
         requireNonNull(entities, "entity is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        return persistAll(entities, c -> manager().update(c));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        return persistAll(entities, c -> manager().insert(c));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
         requireNonNull(entities, "entities is required");
         requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(e -> insert(e, ttl))
-                .collect(Collectors.toList());
+        return persistAll(entities, c -> manager().insert(c, ttl));
+    }
+
+    @Override
+    public <T> T upsert(T entity) {
+        requireNonNull(entity, "entity is required");
+        if (manager().supportsUpsert()) {
+            return persist(entity, e -> manager().upsert(e));
+        }
+        EntityMetadata metadata = entities().get(entity.getClass());
+        FieldMetadata idField = metadata.id()
+                .orElseThrow(() -> IdNotFoundException.newInstance(metadata.type()));
+        return persist(entity, e -> exists(e, idField.name()) ? manager().update(e) : manager().insert(e));
+    }
+
+    @Override
+    public <T> Iterable<T> upsert(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        if (manager().supportsUpsert()) {
+            return persistAll(entities, c -> manager().upsert(c));
+        }
+        List<T> result = new ArrayList<>();
+        for (T entity : entities) {
+            result.add(upsert(entity));
+        }
+        return result;
     }
 
     @Override
@@ -191,6 +225,45 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
         return singleResult(query);
     }
 
+    @Override
+    public <T, K> Stream<T> findByIds(Class<T> type, Iterable<K> ids) {
+        requireNonNull(type, "type is required");
+        requireNonNull(ids, "ids is required");
+        EntityMetadata entityMetadata = entities().get(type);
+        FieldMetadata idField = entityMetadata.id()
+                .orElseThrow(() -> IdNotFoundException.newInstance(type));
+        List<Object> values = idValues(ids, entityMetadata, idField);
+        if (values.isEmpty()) {
+            return Stream.empty();
+        }
+        Map<Object, T> entitiesById = new HashMap<>();
+        for (List<Object> chunk : chunks(values, inClauseSize())) {
+            SelectQuery query = SelectQuery.builder().from(entityMetadata.name())
+                    .where(idCondition(idField.name(), chunk)).build();
+            this.<T>select(query).forEach(entity -> {
+                Object id = idField.read(entity);
+                if (id != null) {
+                    entitiesById.putIfAbsent(ConverterUtil.getValue(id, converters(), idField), entity);
+                }
+            });
+        }
+        return values.stream().map(entitiesById::get).filter(Objects::nonNull);
+    }
+
+    @Override
+    public <T, K> void deleteByIds(Class<T> type, Iterable<K> ids) {
+        requireNonNull(type, "type is required");
+        requireNonNull(ids, "ids is required");
+        EntityMetadata entityMetadata = entities().get(type);
+        FieldMetadata idField = entityMetadata.id()
+                .orElseThrow(() -> IdNotFoundException.newInstance(type));
+        List<Object> values = idValues(ids, entityMetadata, idField);
+        for (List<Object> chunk : chunks(values, inClauseSize())) {
+            manager().delete(DeleteQuery.builder().from(entityMetadata.name())
+                    .where(idCondition(idField.name(), chunk)).build());
+        }
+    }
+
     @Override
     public <T, K> void delete(Class<T> type, K id) {
         requireNonNull(type, "type is required");
@@ -344,6 +417,109 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
                 .orElseThrow();
     }
 
+    /**
+     * Returns the maximum number of entities that {@link #insert(Iterable)}, {@link #insert(Iterable, Duration)},
+     * {@link #update(Iterable)} and {@link #upsert(Iterable)} send at once to the {@link DatabaseManager}.
+     * By default, it reads {@link MappingConfigurations#BATCH_SIZE}, and a value lower than one sends all
+     * the entities at once.
+     *
+     * @return the batch size
+     */
+    protected int batchSize() {
+        return MicroProfileSettings.INSTANCE.get(MappingConfigurations.BATCH_SIZE, Integer.class)
+                .orElse(DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Returns the maximum number of ids that {@link #findByIds(Class, Iterable)} and
+     * {@link #deleteByIds(Class, Iterable)} send at a single {@code IN} condition.
+     * By default, it reads {@link MappingConfigurations#IN_CLAUSE_SIZE}, and a value lower than one sends all
+     * the ids at once.
+     *
+     * @return the maximum number of ids at a condition
+     */
+    protected int inClauseSize() {
+        return MicroProfileSettings.INSTANCE.get(MappingConfigurations.IN_CLAUSE_SIZE, Integer.class)
+                .orElse(DEFAULT_IN_CLAUSE_SIZE);
+    }
+
+    private <T> List<T> persistAll(Iterable<T> entities,
+                                   UnaryOperator<Iterable<CommunicationEntity>> persistAction) {
+        int batchSize = batchSize();
+        List<T> result = new ArrayList<>();
+        List<T> batch = new ArrayList<>();
+        for (T entity : entities) {
+            batch.add(requireNonNull(entity, "entity is required"));
+            if (batch.size() == batchSize) {
+                result.addAll(persistBatch(batch, persistAction));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            result.addAll(persistBatch(batch, persistAction));
+        }
+        return result;
+    }
+
+    private <T> List<T> persistBatch(List<T> entities,
+                                     UnaryOperator<Iterable<CommunicationEntity>> persistAction) {
+        List<CommunicationEntity> communications = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            eventManager().firePreEntity(entity);
+            communications.add(converter().toCommunication(entity));
+        }
+        Iterable<CommunicationEntity> persisted = persistAction.apply(communications);
+        Iterator<CommunicationEntity> iterator = persisted == null ? Collections.emptyIterator() : persisted.iterator();
+        List<T> result = new ArrayList<>(entities.size());
+        for (int index = 0; index < entities.size(); index++) {
+            if (!iterator.hasNext()) {
+                throw new MappingException("The database manager returned " + index + " entities of the "
+                        + entities.size() + " entities sent at the batch");
+            }
+            T entity = converter().toEntity(entities.get(index), iterator.next());
+            eventManager().firePostEntity(entity);
+            result.add(entity);
+        }
+        return result;
+    }
+
+    private boolean exists(CommunicationEntity entity, String idName) {
+        Optional<Element> id = entity.find(idName).filter(e -> !e.value().isNull());
+        if (id.isEmpty()) {
+            return false;
+        }
+        SelectQuery query = SelectQuery.select().from(entity.name())
+                .where(idName).eq(id.get().get()).build();
+        return manager().exists(query);
+    }
+
+    private <K> List<Object> idValues(Iterable<K> ids, EntityMetadata entityMetadata, FieldMetadata idField) {
+        Set<Object> values = new LinkedHashSet<>();
+        for (K id : ids) {
+            requireNonNull(id, "id is required");
+            values.add(ConverterUtil.getValue(id, entityMetadata, idField.fieldName(), converters()));
+        }
+        return new ArrayList<>(values);
+    }
+
+    private static List<List<Object>> chunks(List<Object> values, int size) {
+        if (size < 1 || values.size() <= size) {
+            return values.isEmpty() ? List.of() : List.of(values);
+        }
+        List<List<Object>> chunks = new ArrayList<>();
+        for (int start = 0; start < values.size(); start += size) {
+            chunks.add(values.subList(start, Math.min(start + size, values.size())));
+        }
+        return chunks;
+    }
+
+    private static CriteriaCondition idCondition(String idName, List<Object> values) {
+        if (values.size() == 1) {
+            return CriteriaCondition.eq(idName, values.get(0));
+        }
+        return CriteriaCondition.in(idName, values);
+    }
+
     private <T> UnaryOperator<T> toUnary(Consumer<T> consumer) {
         return t -> {
             consumer.accept(t);
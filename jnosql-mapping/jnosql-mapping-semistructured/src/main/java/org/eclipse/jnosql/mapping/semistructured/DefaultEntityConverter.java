@@ -16,8 +16,11 @@ package org.eclipse.jnosql.mapping.semistructured;
 
 
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -33,6 +36,15 @@ class DefaultEntityConverter extends EntityConverter {
     @Inject
     private Converters converters;
 
+    private boolean planEnabled;
+
+    @PostConstruct
+    void init() {
+        this.planEnabled = MicroProfileSettings.INSTANCE
+                .get(MappingConfigurations.ENTITY_CONVERTER_PLAN, Boolean.class)
+                .orElse(false);
+    }
+
     @Override
     protected EntitiesMetadata entities() {
         return entities;
@@ -42,4 +54,9 @@ class DefaultEntityConverter extends EntityConverter {
     protected Converters converters() {
         return converters;
     }
+
+    @Override
+    protected boolean isPlanEnabled() {
+        return planEnabled;
+    }
 }
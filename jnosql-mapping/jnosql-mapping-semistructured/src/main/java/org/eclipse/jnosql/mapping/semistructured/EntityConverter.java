@@ -31,7 +31,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static java.util.Objects.requireNonNull;
@@ -46,6 +48,11 @@ import static org.eclipse.jnosql.mapping.metadata.MappingType.ENTITY;
  */
 public abstract class EntityConverter {
 
+    private final Map<Class<?>, EntityConverterPlan> plans = new ConcurrentHashMap<>();
+
+    private final boolean hooksOverridden = isOverridden(getClass(), "to", FieldMetadata.class, Object.class)
+            || isOverridden(getClass(), "feedObject", Object.class, List.class, Map.class);
+
     /**
      * Retrieves the metadata about entities.
      *
@@ -60,6 +67,19 @@ public abstract class EntityConverter {
      */
     protected abstract Converters converters();
 
+    /**
+     * Defines whether the conversion uses a plan resolved once per entity, which indexes the elements by name
+     * instead of looking for each field element on the whole list. Both paths give the same result.
+     * It is disabled by default. The plan does not call {@link #to(FieldMetadata, Object)} and
+     * {@link #feedObject(Object, List, Map)}, so it is not used when a subclass overrides either of them.
+     *
+     * @return true to use the conversion plan per entity
+     * @see org.eclipse.jnosql.mapping.core.config.MappingConfigurations#ENTITY_CONVERTER_PLAN
+     */
+    protected boolean isPlanEnabled() {
+        return false;
+    }
+
     /**
      * Converts the provided entity instance to a {@link CommunicationEntity}.
      *
@@ -71,6 +91,12 @@ public abstract class EntityConverter {
         requireNonNull(entity, "entity is required");
         EntityMetadata mapping = entities().get(entity.getClass());
         CommunicationEntity communication = CommunicationEntity.of(mapping.name());
+        if (usePlan()) {
+            plan(mapping).toCommunication(entity, communication, this, converters());
+            mapping.inheritance().ifPresent(i -> communication.add(i.discriminatorColumn(),
+                    i.discriminatorValue()));
+            return communication;
+        }
         mapping.fields().stream()
                 .map(f -> to(f, entity))
                 .map(f -> f.toElements(this, converters()))
@@ -116,7 +142,7 @@ public abstract class EntityConverter {
             return (T) toEntity(type.getClass(), entity.elements());
         }
         EntityMetadata mapping = entities().get(type.getClass());
-        return convertEntity(entity.elements(), mapping, type);
+        return convertEntity(entity, mapping, type);
     }
 
     /**
@@ -136,9 +162,9 @@ public abstract class EntityConverter {
         ConstructorMetadata constructor = mapping.constructor();
         if (constructor.isDefault()) {
             T instance = mapping.newInstance();
-            return convertEntity(entity.elements(), mapping, instance);
+            return convertEntity(entity, mapping, instance);
         } else {
-            return convertEntityByConstructor(entity.elements(), mapping);
+            return convertEntityByConstructor(entity, mapping);
         }
     }
 
@@ -148,9 +174,14 @@ public abstract class EntityConverter {
     }
 
     protected <T> Consumer<String> feedObject(T entity, List<Element> elements, Map<String, FieldMetadata> fieldsGroupByName) {
+        return feedObject(entity, k -> elements.stream().filter(c -> c.name().equals(k))
+                .filter(e -> !e.value().isNull()).findFirst(), elements, fieldsGroupByName);
+    }
+
+    private <T> Consumer<String> feedObject(T entity, Function<String, Optional<Element>> elementsByName,
+                                            List<Element> elements, Map<String, FieldMetadata> fieldsGroupByName) {
         return (String k) -> {
-            Optional<Element> element = elements.stream().filter(c -> c.name().equals(k))
-                    .filter(e -> !e.value().isNull()).findFirst();
+            Optional<Element> element = elementsByName.apply(k).filter(e -> !e.value().isNull());
             FieldMetadata field = fieldsGroupByName.get(k);
             FieldConverter fieldConverter = FieldConverter.get(field);
             if (ENTITY.equals(field.mappingType())) {
@@ -177,34 +208,89 @@ public abstract class EntityConverter {
     }
 
     private <T> T convertEntityByConstructor(List<Element> elements, EntityMetadata mapping) {
+        return convertEntityByConstructor(EntityConverterPlan.firstByName(elements)::get, mapping);
+    }
+
+    /**
+     * Reads each parameter through {@link CommunicationEntity#find(String)}, so it reads only the elements
+     * of the parameters, instead of reading the name of each element.
+     */
+    private <T> T convertEntityByConstructor(CommunicationEntity entity, EntityMetadata mapping) {
+        return convertEntityByConstructor(name -> entity.find(name).orElse(null), mapping);
+    }
+
+    private <T> T convertEntityByConstructor(Function<String, Element> elementsByName, EntityMetadata mapping) {
         ConstructorBuilder builder = ConstructorBuilder.of(mapping.constructor());
         for (ParameterMetaData parameter : builder.parameters()) {
-            Optional<Element> element = elements.stream()
-                    .filter(c -> c.name().equals(parameter.name()))
-                    .findFirst();
-            element.ifPresentOrElse(c -> {
-                ParameterConverter converter = ParameterConverter.of(parameter, entities());
-                converter.convert(this, c, parameter, builder);
-            }, builder::addEmptyParameter);
+            Element element = elementsByName.apply(parameter.name());
+            if (element == null) {
+                builder.addEmptyParameter();
+            } else {
+                ParameterConverter.of(parameter, entities()).convert(this, element, parameter, builder);
+            }
         }
         return builder.build();
     }
 
     private <T> T convertEntity(List<Element> elements, EntityMetadata mapping, T instance) {
+        if (usePlan()) {
+            return plan(mapping).toEntity(elements, instance, this);
+        }
         final Map<String, FieldMetadata> fieldsGroupByName = mapping.fieldsGroupByName();
         final List<String> names = elements.stream().map(Element::name).sorted().toList();
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
+        return convertEntity(k -> Collections.binarySearch(names, k) >= 0, fieldsGroupByName,
+                feedObject(instance, elements, fieldsGroupByName), instance);
+    }
+
+    /**
+     * Finds the elements by name through {@link CommunicationEntity#find(String)}, so it does not read
+     * the name of each element, which might decode the element, such as at {@link CommunicationEntity#view}.
+     */
+    private <T> T convertEntity(CommunicationEntity entity, EntityMetadata mapping, T instance) {
+        if (usePlan()) {
+            return plan(mapping).toEntity(entity, instance, this);
+        }
+        final Map<String, FieldMetadata> fieldsGroupByName = mapping.fieldsGroupByName();
+        final List<Element> elements = entity.elements();
+        final Consumer<String> feed = hooksOverridden ? feedObject(instance, elements, fieldsGroupByName)
+                : feedObject(instance, entity::find, elements, fieldsGroupByName);
+        return convertEntity(entity::contains, fieldsGroupByName, feed, instance);
+    }
+
+    private <T> T convertEntity(Predicate<String> existField, Map<String, FieldMetadata> fieldsGroupByName,
+                                Consumer<String> feed, T instance) {
         final Predicate<String> isElementType = k -> {
             MappingType type = fieldsGroupByName.get(k).mappingType();
             return EMBEDDED.equals(type)|| EMBEDDED_GROUP.equals(type) || ENTITY.equals(type);
         };
         fieldsGroupByName.keySet().stream()
                 .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, elements, fieldsGroupByName));
+                .forEach(feed);
 
         return instance;
     }
 
+    private boolean usePlan() {
+        return !hooksOverridden && isPlanEnabled();
+    }
+
+    private EntityConverterPlan plan(EntityMetadata mapping) {
+        return plans.computeIfAbsent(mapping.type(), k -> EntityConverterPlan.of(mapping));
+    }
+
+    private static boolean isOverridden(Class<?> type, String name, Class<?>... parameters) {
+        for (Class<?> current = type; current != null && !EntityConverter.class.equals(current);
+             current = current.getSuperclass()) {
+            try {
+                current.getDeclaredMethod(name, parameters);
+                return true;
+            } catch (NoSuchMethodException exception) {
+                // looks at the superclass
+            }
+        }
+        return false;
+    }
+
     private <T> T mapInheritanceEntity(CommunicationEntity entity, Class<?> type) {
         Map<String, InheritanceMetadata> group = entities()
                 .findByParentGroupByDiscriminatorValue(type);
@@ -232,9 +318,9 @@ public abstract class EntityConverter {
         ConstructorMetadata constructor = mapping.constructor();
         if (constructor.isDefault()) {
             T instance = mapping.newInstance();
-            return convertEntity(entity.elements(), mapping, instance);
+            return convertEntity(entity, mapping, instance);
         } else {
-            return convertEntityByConstructor(entity.elements(), mapping);
+            return convertEntityByConstructor(entity, mapping);
         }
     }
 
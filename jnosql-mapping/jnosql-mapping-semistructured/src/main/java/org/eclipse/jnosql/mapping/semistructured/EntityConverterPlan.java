@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.MappingType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.eclipse.jnosql.mapping.metadata.MappingType.EMBEDDED;
+import static org.eclipse.jnosql.mapping.metadata.MappingType.EMBEDDED_GROUP;
+import static org.eclipse.jnosql.mapping.metadata.MappingType.ENTITY;
+
+/**
+ * The conversion of an entity, resolved once per {@link EntityMetadata}: the fields in the order of
+ * {@link EntityMetadata#fieldsGroupByName()}, with their names, their {@link FieldConverter} and whether they are
+ * converted even without an element of the same name, such as the embedded fields.
+ * <p>
+ * Each conversion to the entity indexes the elements by name in a single pass, so it reads each field in constant
+ * time instead of looking for its element on the whole list. It gives the same result as the
+ * {@link EntityConverter} default path: a field takes the first element of its name with a non-null value.
+ */
+final class EntityConverterPlan {
+
+    private final FieldMetadata[] fields;
+
+    private final String[] names;
+
+    private final FieldConverter[] converters;
+
+    private final boolean[] elementTypes;
+
+    private final FieldMetadata[] writeFields;
+
+    private EntityConverterPlan(EntityMetadata mapping) {
+        Map<String, FieldMetadata> fieldsGroupByName = mapping.fieldsGroupByName();
+        int size = fieldsGroupByName.size();
+        this.fields = new FieldMetadata[size];
+        this.names = new String[size];
+        this.converters = new FieldConverter[size];
+        this.elementTypes = new boolean[size];
+        int index = 0;
+        for (Map.Entry<String, FieldMetadata> entry : fieldsGroupByName.entrySet()) {
+            FieldMetadata field = entry.getValue();
+            MappingType type = field.mappingType();
+            fields[index] = field;
+            names[index] = entry.getKey();
+            converters[index] = FieldConverter.get(field);
+            elementTypes[index] = EMBEDDED.equals(type) || EMBEDDED_GROUP.equals(type) || ENTITY.equals(type);
+            index++;
+        }
+        this.writeFields = mapping.fields().toArray(FieldMetadata[]::new);
+    }
+
+    /**
+     * Writes the entity fields as elements of the communication entity.
+     */
+    void toCommunication(Object entity, CommunicationEntity communication, EntityConverter converter,
+                         Converters converters) {
+        for (FieldMetadata field : writeFields) {
+            for (Element element : converter.to(field, entity).toElements(converter, converters)) {
+                communication.add(element);
+            }
+        }
+    }
+
+    /**
+     * Reads the elements into the fields of the entity instance.
+     */
+    <T> T toEntity(List<Element> elements, T instance, EntityConverter converter) {
+        Map<String, Element> values = new HashMap<>();
+        for (Element element : elements) {
+            if (element.value().isNull()) {
+                values.putIfAbsent(element.name(), null);
+            } else if (values.get(element.name()) == null) {
+                values.put(element.name(), element);
+            }
+        }
+        for (int index = 0; index < fields.length; index++) {
+            String name = names[index];
+            if (!elementTypes[index] && !values.containsKey(name)) {
+                continue;
+            }
+            Element element = values.get(name);
+            FieldMetadata field = fields[index];
+            if (ENTITY.equals(field.mappingType())) {
+                if (element != null) {
+                    converters[index].convert(instance, element, field, converter);
+                }
+            } else {
+                converters[index].convert(instance, elements, element, field, converter);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Reads the elements of the communication entity into the fields of the entity instance. It finds the element
+     * of each field by name instead of indexing the elements, so it reads only the elements of the fields.
+     */
+    <T> T toEntity(CommunicationEntity entity, T instance, EntityConverter converter) {
+        List<Element> elements = null;
+        for (int index = 0; index < fields.length; index++) {
+            Element element = entity.find(names[index]).orElse(null);
+            if (!elementTypes[index] && element == null) {
+                continue;
+            }
+            if (element != null && element.value().isNull()) {
+                element = null;
+            }
+            FieldMetadata field = fields[index];
+            if (ENTITY.equals(field.mappingType())) {
+                if (element != null) {
+                    converters[index].convert(instance, element, field, converter);
+                }
+            } else {
+                if (elements == null) {
+                    elements = entity.elements();
+                }
+                converters[index].convert(instance, elements, element, field, converter);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Indexes the elements by name, keeping the first element of each name.
+     */
+    static Map<String, Element> firstByName(List<Element> elements) {
+        Map<String, Element> first = new HashMap<>();
+        for (Element element : elements) {
+            first.putIfAbsent(element.name(), element);
+        }
+        return first;
+    }
+
+    static EntityConverterPlan of(EntityMetadata mapping) {
+        return new EntityConverterPlan(mapping);
+    }
+}
@@ -108,9 +108,9 @@ enum FieldConverter {
                     AttributeConverter<X, Y> attributeConverter = converter.converters().get(field);
                     Y attr = (Y)(value.isInstanceOf(List.class) ? element : value.get());
                     Object attributeConverted = attributeConverter.convertToEntityAttribute(attr);
-                    field.write(instance, field.value(Value.of(attributeConverted)));
+                    field.writeValue(instance, Value.of(attributeConverted));
                 } else {
-                    field.write(instance, field.value(value));
+                    field.writeValue(instance, value);
                 }
             }
         }
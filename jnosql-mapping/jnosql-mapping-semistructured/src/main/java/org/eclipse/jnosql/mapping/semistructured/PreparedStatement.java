@@ -80,6 +80,28 @@ public final class PreparedStatement implements org.eclipse.jnosql.mapping.Prepa
         return selectQuery().map(SelectQuery::isCount).orElse(false);
     }
 
+    /**
+     * Checks if the operation is an update operation.
+     *
+     * @return {@code true} if the operation is an update operation, otherwise {@code false}
+     */
+    public boolean isUpdate() {
+        return preparedStatement.isUpdate();
+    }
+
+    /**
+     * Runs the update without reading the updated entities back, so use it instead of {@link #result()}
+     * when the caller does not read them.
+     *
+     * @return the number of updated entities
+     * @throws org.eclipse.jnosql.communication.QueryException if there are parameters left to bind
+     * @throws IllegalArgumentException if the operation is not an update operation
+     * @see org.eclipse.jnosql.communication.semistructured.DatabaseManager#executeUpdate
+     */
+    public long executeUpdate() {
+        return preparedStatement.executeUpdate();
+    }
+
     /**
      * Optionally returns the underlying {@link SelectQuery} associated with this PreparedStatement,
      * if applicable.
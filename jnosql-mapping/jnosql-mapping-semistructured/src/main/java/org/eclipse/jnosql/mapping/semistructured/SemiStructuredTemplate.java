@@ -17,8 +17,12 @@ import jakarta.nosql.Template;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 
@@ -140,6 +144,88 @@ public interface SemiStructuredTemplate extends Template {
      * @throws UnsupportedOperationException if the provider does not support query by text
      */
     PreparedStatement prepare(String query, String entity);
+    /**
+     * Saves an entity: inserts it when there is no entity with the same id, otherwise updates it.
+     * By default, it is not supported, and the repositories find the entity by id and then insert or update it;
+     * the template of this module overrides it to use the upsert of the
+     * {@link org.eclipse.jnosql.communication.semistructured.DatabaseManager} when it supports it, otherwise
+     * a query that neither reads nor converts the entity.
+     *
+     * @param entity the entity to save
+     * @param <T>    the entity type
+     * @return the saved entity
+     * @throws NullPointerException when the entity is null
+     * @throws org.eclipse.jnosql.mapping.IdNotFoundException when the entity has no id
+     * @throws UnsupportedOperationException when the template does not support the upsert
+     */
+    default <T> T upsert(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        throw new UnsupportedOperationException("The template " + getClass().getName()
+                + " does not support the upsert");
+    }
+
+    /**
+     * Saves the entities, inserting each one that does not exist and updating the others.
+     * By default, it saves each entity with {@link #upsert(Object)}; the template of this module overrides it
+     * to send the entities to the database in batches, as {@link #insert(Iterable)} does, when the
+     * {@link org.eclipse.jnosql.communication.semistructured.DatabaseManager} supports the upsert.
+     *
+     * @param entities the entities to save
+     * @param <T>      the entity type
+     * @return the saved entities
+     * @throws NullPointerException when the iterable or any entity is null
+     * @throws UnsupportedOperationException when the template does not support the upsert
+     * @see #upsert(Object)
+     */
+    default <T> Iterable<T> upsert(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<T> result = new ArrayList<>();
+        for (T entity : entities) {
+            result.add(upsert(entity));
+        }
+        return result;
+    }
+
+    /**
+     * Finds the entities with the given ids, following the order of the ids and ignoring an id without an entity.
+     * By default, it finds each id with {@link #find(Class, Object)}; the template of this module overrides it
+     * to send the ids in {@code IN} conditions of at most {@code jnosql.query.in.size} ids, so a large list of ids
+     * takes a few queries instead of one per id, and then it has an entity once even when its id is repeated.
+     *
+     * @param type the entity type
+     * @param ids  the ids
+     * @param <T>  the entity type
+     * @param <K>  the id type
+     * @return the entities found
+     * @throws NullPointerException when the type, the ids or any id is null
+     * @throws org.eclipse.jnosql.mapping.IdNotFoundException when the entity has no id
+     */
+    default <T, K> Stream<T> findByIds(Class<T> type, Iterable<K> ids) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(ids, "ids is required");
+        return StreamSupport.stream(ids.spliterator(), false)
+                .map(id -> find(type, id))
+                .flatMap(Optional::stream);
+    }
+
+    /**
+     * Deletes the entities with the given ids. By default, it deletes each id with {@link #delete(Class, Object)};
+     * the template of this module overrides it to send the ids in {@code IN} conditions of at most
+     * {@code jnosql.query.in.size} ids, so a large list of ids takes a few deletes instead of one per id.
+     *
+     * @param type the entity type
+     * @param ids  the ids
+     * @param <T>  the entity type
+     * @param <K>  the id type
+     * @throws NullPointerException when the type, the ids or any id is null
+     * @throws org.eclipse.jnosql.mapping.IdNotFoundException when the entity has no id
+     */
+    default <T, K> void deleteByIds(Class<T> type, Iterable<K> ids) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(ids, "ids is required");
+        ids.forEach(id -> delete(type, id));
+    }
+
     /**
      * Deletes an entity
      *
@@ -26,11 +26,13 @@ import org.eclipse.jnosql.mapping.semistructured.SemiStructuredTemplate;
 import org.eclipse.jnosql.mapping.semistructured.MappingQuery;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepository;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The {@link org.eclipse.jnosql.mapping.NoSQLRepository} template method
@@ -39,6 +41,45 @@ public abstract class AbstractSemiStructuredRepository<T, K> extends AbstractRep
 
     protected abstract SemiStructuredTemplate template();
 
+    @Override
+    public <S extends T> S save(S entity) {
+        Objects.requireNonNull(entity, "Entity is required");
+        try {
+            return template().upsert(entity);
+        } catch (UnsupportedOperationException exception) {
+            return insertOrUpdate(entity);
+        }
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(List<S> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        try {
+            return StreamSupport.stream(template().upsert(entities).spliterator(), false).toList();
+        } catch (UnsupportedOperationException exception) {
+            return entities.stream().map(this::insertOrUpdate).toList();
+        }
+    }
+
+    @Override
+    public Stream<T> findByIdIn(Iterable<K> ids) {
+        Objects.requireNonNull(ids, "ids is required");
+        return template().findByIds(type(), ids);
+    }
+
+    @Override
+    public void deleteByIdIn(Iterable<K> ids) {
+        Objects.requireNonNull(ids, "ids is required");
+        template().deleteByIds(type(), ids);
+    }
+
+    @Override
+    public void deleteAll(List<? extends T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        FieldMetadata id = getIdField();
+        template().deleteByIds(type(), entities.stream().map(id::read).toList());
+    }
+
     @Override
     public long countBy() {
         return template().count(type());
@@ -72,4 +113,17 @@ public abstract class AbstractSemiStructuredRepository<T, K> extends AbstractRep
         template().deleteAll(type());
     }
 
+    /**
+     * Saves the entity when the template does not support the upsert: it finds the entity by id and then
+     * inserts or updates it.
+     */
+    private <S extends T> S insertOrUpdate(S entity) {
+        Objects.requireNonNull(entity, "Entity is required");
+        Object id = getIdField().read(entity);
+        if (id != null && template().find(type(), id).isPresent()) {
+            return template().update(entity);
+        }
+        return template().insert(entity);
+    }
+
 }
@@ -28,6 +28,7 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -38,10 +39,26 @@ import java.util.stream.Stream;
  */
 public abstract class AbstractSemiStructuredRepositoryProxy<T, K> extends BaseSemiStructuredRepository<T, K> {
 
+    private static final Set<Class<?>> UPDATE_RETURNS = Set.of(void.class, Void.class, int.class, Integer.class,
+            long.class, Long.class);
+
     @Override
     protected Object executeQuery(Object instance, Method method, Object[] params) {
         Class<?> type = entityMetadata().type();
         var entity = entityMetadata().name();
+        Class<?> returnType = method.getReturnType();
+        if (UPDATE_RETURNS.contains(returnType)) {
+            var textQuery = RepositoryReflectionUtils.INSTANCE.getQuery(method);
+            var prepare = (org.eclipse.jnosql.mapping.semistructured.PreparedStatement) template().prepare(textQuery, entity);
+            if (prepare.isUpdate()) {
+                RepositoryReflectionUtils.INSTANCE.getParams(method, params).forEach(prepare::bind);
+                long count = prepare.executeUpdate();
+                if (int.class.equals(returnType) || Integer.class.equals(returnType)) {
+                    return Math.toIntExact(count);
+                }
+                return long.class.equals(returnType) || Long.class.equals(returnType) ? count : Void.class;
+            }
+        }
         var pageRequest = DynamicReturn.findPageRequest(params);
         var methodReturn = DynamicQueryMethodReturn.builder()
                 .args(params)
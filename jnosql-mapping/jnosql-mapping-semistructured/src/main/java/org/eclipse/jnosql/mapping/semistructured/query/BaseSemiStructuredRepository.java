@@ -19,14 +19,13 @@ import jakarta.data.Limit;
 import jakarta.data.Sort;
 import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
-import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.query.method.DeleteMethodProvider;
 import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
 import org.eclipse.jnosql.communication.semistructured.CommunicationObserverParser;
+import org.eclipse.jnosql.communication.semistructured.CommunicationPreparedQuery;
+import org.eclipse.jnosql.communication.semistructured.CommunicationQueryBinder;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
-import org.eclipse.jnosql.communication.semistructured.DeleteQueryParser;
 import org.eclipse.jnosql.communication.semistructured.Element;
-import org.eclipse.jnosql.communication.semistructured.SelectQueryParser;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepositoryProxy;
@@ -41,8 +40,10 @@ import org.eclipse.jnosql.mapping.semistructured.SemiStructuredTemplate;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -55,11 +56,12 @@ import java.util.stream.Stream;
  */
 public abstract class BaseSemiStructuredRepository<T, K> extends AbstractRepositoryProxy<T, K> {
 
-    private static final SelectQueryParser SELECT_PARSER = new SelectQueryParser();
-
-    private static final DeleteQueryParser DELETE_PARSER = new DeleteQueryParser();
     private static final Object[] EMPTY_PARAM = new Object[0];
 
+    private final Map<Method, CommunicationPreparedQuery> selectQueries = new ConcurrentHashMap<>();
+
+    private final Map<Method, CommunicationPreparedQuery> deleteQueries = new ConcurrentHashMap<>();
+
     /**
      * Retrieves the Converters instance responsible for converting data types.
      *
@@ -87,13 +89,10 @@ public abstract class BaseSemiStructuredRepository<T, K> extends AbstractReposit
 
 
     protected org.eclipse.jnosql.communication.semistructured.SelectQuery query(Method method, Object[] args) {
-        var provider = SelectMethodProvider.INSTANCE;
-        var selectQuery = provider.apply(method, entityMetadata().name());
-        var queryParams = SELECT_PARSER.apply(selectQuery, parser());
-        var query = queryParams.query();
-        var params = queryParams.params();
-        paramsBinder().bind(params, args(args), method);
-        return updateQueryDynamically(args(args), query);
+        var prepared = selectQueries.computeIfAbsent(method, m -> CommunicationPreparedQuery.select(
+                SelectMethodProvider.INSTANCE.apply(m, entityMetadata().name()), parser()));
+        var binder = bind(prepared, method, args(args));
+        return updateQueryDynamically(args(args), binder.select());
     }
 
     private static Object[] args(Object[] args) {
@@ -101,13 +100,19 @@ public abstract class BaseSemiStructuredRepository<T, K> extends AbstractReposit
     }
 
     protected org.eclipse.jnosql.communication.semistructured.DeleteQuery deleteQuery(Method method, Object[] args) {
-        var deleteMethodFactory = DeleteMethodProvider.INSTANCE;
-        var deleteQuery = deleteMethodFactory.apply(method, entityMetadata().name());
-        var queryParams = DELETE_PARSER.apply(deleteQuery, parser());
-        var query = queryParams.query();
-        Params params = queryParams.params();
-        paramsBinder().bind(params, args(args), method);
-        return query;
+        var prepared = deleteQueries.computeIfAbsent(method, m -> CommunicationPreparedQuery.delete(
+                DeleteMethodProvider.INSTANCE.apply(m, entityMetadata().name()), parser()));
+        return bind(prepared, method, args(args)).delete();
+    }
+
+    private CommunicationQueryBinder bind(CommunicationPreparedQuery prepared, Method method, Object[] args) {
+        var binder = prepared.binder();
+        paramsBinder().bind(prepared.parameters(), args, method, (name, value) -> {
+            if (value != null) {
+                binder.bind(name, value);
+            }
+        });
+        return binder;
     }
 
     /**
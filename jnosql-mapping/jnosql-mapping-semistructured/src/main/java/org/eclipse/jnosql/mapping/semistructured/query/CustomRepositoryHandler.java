@@ -27,6 +27,7 @@ import org.eclipse.jnosql.mapping.core.repository.RepositoryReflectionUtils;
 import org.eclipse.jnosql.mapping.core.repository.ThrowingSupplier;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.semistructured.PreparedStatement;
 import org.eclipse.jnosql.mapping.semistructured.SemiStructuredTemplate;
 
 import java.lang.reflect.InvocationHandler;
@@ -38,6 +39,7 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -72,6 +74,8 @@ public class CustomRepositoryHandler implements InvocationHandler {
 
     private final SemiStructuredRepositoryProxy<?, ?> defaultRepository;
 
+    private final Map<Method, SemiStructuredRepositoryProxy<?, ?>> repositories = new ConcurrentHashMap<>();
+
     CustomRepositoryHandler(EntitiesMetadata entitiesMetadata, SemiStructuredTemplate template,
                             Class<?> customRepositoryType,
                             Converters converters) {
@@ -133,8 +137,13 @@ public class CustomRepositoryHandler implements InvocationHandler {
                     if (prepare.isCount()) {
                         return prepare.count();
                     }
+                    boolean count = method.getReturnType().equals(long.class) || method.getReturnType().equals(Long.class);
+                    if (prepare instanceof PreparedStatement statement && statement.isUpdate()) {
+                        long updated = statement.executeUpdate();
+                        return count ? updated : Void.class;
+                    }
                     Stream<?> entities = prepare.result();
-                    if (method.getReturnType().equals(long.class) || method.getReturnType().equals(Long.class)) {
+                    if (count) {
                         return entities.count();
                     }
                     return Void.class;
@@ -203,10 +212,12 @@ public class CustomRepositoryHandler implements InvocationHandler {
     }
 
     private SemiStructuredRepositoryProxy<?, ?> repository(Method method) {
-        RepositoryMetadata result = repositoryMetadata(method);
-        Class<?> entityType = result.typeClass();
-        return result.metadata().map(entityMetadata -> new SemiStructuredRepositoryProxy<>(template, entityMetadata, entityType, converters))
-                .orElseThrow(() -> new UnsupportedOperationException("The repository does not support the method " + method));
+        return repositories.computeIfAbsent(method, m -> {
+            RepositoryMetadata result = repositoryMetadata(m);
+            Class<?> entityType = result.typeClass();
+            return result.metadata().map(entityMetadata -> new SemiStructuredRepositoryProxy<>(template, entityMetadata, entityType, converters))
+                    .orElseThrow(() -> new UnsupportedOperationException("The repository does not support the method " + m));
+        });
     }
 
     private RepositoryMetadata repositoryMetadata(Method method) {
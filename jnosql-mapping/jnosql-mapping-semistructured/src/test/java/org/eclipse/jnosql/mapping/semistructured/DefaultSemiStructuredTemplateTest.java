@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.mapping.semistructured;
 
+import jakarta.data.exceptions.MappingException;
 import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.data.page.CursoredPage;
 import jakarta.data.page.PageRequest;
@@ -22,6 +23,7 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.mapping.PreparedStatement;
 import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
@@ -29,7 +31,9 @@ import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.semistructured.entities.Book;
 import org.eclipse.jnosql.mapping.semistructured.entities.Job;
 import org.eclipse.jnosql.mapping.semistructured.entities.Person;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
@@ -45,6 +49,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -52,6 +57,8 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.jnosql.communication.semistructured.DeleteQuery.delete;
 import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
 import static org.junit.jupiter.api.Assertions.*;
@@ -213,11 +220,14 @@ class DefaultSemiStructuredTemplateTest {
         Duration duration = Duration.ofHours(2);
 
         Mockito.when(managerMock
-                .insert(any(CommunicationEntity.class), Mockito.eq(duration)))
-                .thenReturn(communicationEntity);
+                .insert(Mockito.<Iterable<CommunicationEntity>>any(), Mockito.eq(duration)))
+                .thenReturn(List.of(communicationEntity, communicationEntity));
 
         template.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(CommunicationEntity.class), any(Duration.class));
+        verify(managerMock).insert(Mockito.<Iterable<CommunicationEntity>>any(), Mockito.eq(duration));
+        verify(managerMock, Mockito.never()).insert(any(CommunicationEntity.class), any(Duration.class));
+        verify(eventPersistManager, times(2)).firePreEntity(any(Person.class));
+        verify(eventPersistManager, times(2)).firePostEntity(any(Person.class));
     }
 
     @Test
@@ -226,11 +236,14 @@ class DefaultSemiStructuredTemplateTest {
         communicationEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .insert(any(CommunicationEntity.class)))
-                .thenReturn(communicationEntity);
+                .insert(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenReturn(List.of(communicationEntity, communicationEntity));
 
         template.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(CommunicationEntity.class));
+        verify(managerMock).insert(Mockito.<Iterable<CommunicationEntity>>any());
+        verify(managerMock, Mockito.never()).insert(any(CommunicationEntity.class));
+        verify(eventPersistManager, times(2)).firePreEntity(any(Person.class));
+        verify(eventPersistManager, times(2)).firePostEntity(any(Person.class));
     }
 
     @Test
@@ -239,11 +252,318 @@ class DefaultSemiStructuredTemplateTest {
         communicationEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .update(any(CommunicationEntity.class)))
-                .thenReturn(communicationEntity);
+                .update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenReturn(List.of(communicationEntity, communicationEntity));
 
         template.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(CommunicationEntity.class));
+        verify(managerMock).update(Mockito.<Iterable<CommunicationEntity>>any());
+        verify(managerMock, Mockito.never()).update(any(CommunicationEntity.class));
+        verify(eventPersistManager, times(2)).firePreEntity(any(Person.class));
+        verify(eventPersistManager, times(2)).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    void shouldInsertEntitiesInBatches() {
+        System.setProperty(MappingConfigurations.BATCH_SIZE.get(), "2");
+        try {
+            List<Integer> sizes = new ArrayList<>();
+            Mockito.when(managerMock.insert(Mockito.<Iterable<CommunicationEntity>>any()))
+                    .thenAnswer(invocation -> {
+                        Iterable<CommunicationEntity> entities = invocation.getArgument(0);
+                        List<CommunicationEntity> batch = new ArrayList<>();
+                        entities.forEach(batch::add);
+                        sizes.add(batch.size());
+                        return batch;
+                    });
+
+            List<Person> people = Stream.generate(() -> Person.builder().withName("Name").withId(19).build())
+                    .limit(5).toList();
+            Iterable<Person> result = template.insert(people);
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(sizes).as("the round trips to the database").containsExactly(2, 2, 1);
+                soft.assertThat(result).hasSize(5).allMatch(p -> "Name".equals(p.getName()));
+            });
+            verify(eventPersistManager, times(5)).firePreEntity(any(Person.class));
+            verify(eventPersistManager, times(5)).firePostEntity(any(Person.class));
+        } finally {
+            System.clearProperty(MappingConfigurations.BATCH_SIZE.get());
+        }
+    }
+
+    @Test
+    void shouldSendEntitiesAtOnceWhenBatchSizeIsNotPositive() {
+        System.setProperty(MappingConfigurations.BATCH_SIZE.get(), "0");
+        try {
+            Mockito.when(managerMock.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            List<Person> people = Stream.generate(() -> Person.builder().withName("Name").withId(19).build())
+                    .limit(5).toList();
+            template.update(people);
+
+            verify(managerMock).update(Mockito.<Iterable<CommunicationEntity>>any());
+        } finally {
+            System.clearProperty(MappingConfigurations.BATCH_SIZE.get());
+        }
+    }
+
+    @Test
+    void shouldMapBatchResultsInOrder() {
+        var ada = CommunicationEntity.of("Person");
+        ada.addAll(List.of(Element.of("name", "Ada"), Element.of("id", 1L)));
+        var grace = CommunicationEntity.of("Person");
+        grace.addAll(List.of(Element.of("name", "Grace"), Element.of("id", 2L)));
+
+        Mockito.when(managerMock.insert(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenReturn(List.of(ada, grace));
+
+        Person first = Person.builder().withName("first").build();
+        Person second = Person.builder().withName("second").build();
+        List<Person> result = new ArrayList<>();
+        template.insert(List.of(first, second)).forEach(result::add);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(result).containsExactly(first, second);
+            soft.assertThat(first.getName()).isEqualTo("Ada");
+            soft.assertThat(second.getName()).isEqualTo("Grace");
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenBatchReturnsFewerResults() {
+        var ada = CommunicationEntity.of("Person");
+        ada.addAll(List.of(Element.of("name", "Ada"), Element.of("id", 1L)));
+        Mockito.when(managerMock.insert(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenReturn(List.of(ada));
+
+        Person first = Person.builder().withName("first").build();
+        Person second = Person.builder().withName("second").build();
+
+        assertThatThrownBy(() -> template.insert(List.of(first, second)))
+                .isInstanceOf(MappingException.class)
+                .hasMessageContaining("1 entities of the 2");
+    }
+
+    @Test
+    void shouldReturnErrorWhenBatchHasNullEntity() {
+        List<Person> people = Arrays.asList(person, null);
+        assertThrows(NullPointerException.class, () -> template.insert(people));
+    }
+
+    @Test
+    void shouldUpsertNatively() {
+        var communicationEntity = CommunicationEntity.of("Person");
+        communicationEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.supportsUpsert()).thenReturn(true);
+        Mockito.when(managerMock.upsert(any(CommunicationEntity.class))).thenReturn(communicationEntity);
+
+        Person person = Person.builder().withId(19).build();
+        Person result = template.upsert(person);
+
+        verify(managerMock).upsert(any(CommunicationEntity.class));
+        verify(managerMock, Mockito.never()).exists(any(SelectQuery.class));
+        verify(eventPersistManager).firePreEntity(any(Person.class));
+        verify(eventPersistManager).firePostEntity(any(Person.class));
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(result).isSameAs(person);
+            soft.assertThat(result.getName()).isEqualTo("Name");
+        });
+    }
+
+    @Test
+    void shouldReturnUnsupportedAtDefaultUpsert() {
+        var defaultTemplate = Mockito.mock(SemiStructuredTemplate.class, Mockito.CALLS_REAL_METHODS);
+        Person ada = Person.builder().withId(1).withName("Ada").build();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> defaultTemplate.upsert(ada))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            soft.assertThatThrownBy(() -> defaultTemplate.upsert(List.of(ada)))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        });
+        verify(defaultTemplate, Mockito.never()).insert(ada);
+        verify(defaultTemplate, Mockito.never()).update(ada);
+    }
+
+    @Test
+    void shouldUpsertWithInsertWhenIdDoesNotExist() {
+        var communicationEntity = CommunicationEntity.of("Person");
+        communicationEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        ArgumentCaptor<SelectQuery> query = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.when(managerMock.exists(query.capture())).thenReturn(false);
+        Mockito.when(managerMock.insert(any(CommunicationEntity.class))).thenReturn(communicationEntity);
+
+        template.upsert(person);
+
+        verify(managerMock).insert(any(CommunicationEntity.class));
+        verify(managerMock, Mockito.never()).update(any(CommunicationEntity.class));
+        verify(managerMock, Mockito.never()).select(any(SelectQuery.class));
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(query.getValue().name()).isEqualTo("Person");
+            soft.assertThat(query.getValue().condition()).get()
+                    .extracting(CriteriaCondition::element)
+                    .isEqualTo(Element.of("_id", 19L));
+        });
+    }
+
+    @Test
+    void shouldUpsertWithUpdateWhenIdExists() {
+        var communicationEntity = CommunicationEntity.of("Person");
+        communicationEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.exists(any(SelectQuery.class))).thenReturn(true);
+        Mockito.when(managerMock.update(any(CommunicationEntity.class))).thenReturn(communicationEntity);
+
+        template.upsert(person);
+
+        verify(managerMock).update(any(CommunicationEntity.class));
+        verify(managerMock, Mockito.never()).insert(any(CommunicationEntity.class));
+        verify(eventPersistManager).firePreEntity(any(Person.class));
+        verify(eventPersistManager).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    void shouldUpsertWithInsertWhenIdIsNull() {
+        var communicationEntity = CommunicationEntity.of("Book");
+        communicationEntity.add("name", "Effective Java");
+        Mockito.when(managerMock.insert(any(CommunicationEntity.class))).thenReturn(communicationEntity);
+
+        template.upsert(Book.builder().withName("Effective Java").build());
+
+        verify(managerMock).insert(any(CommunicationEntity.class));
+        verify(managerMock, Mockito.never()).exists(any(SelectQuery.class));
+    }
+
+    @Test
+    void shouldUpsertEntitiesNatively() {
+        var communicationEntity = CommunicationEntity.of("Person");
+        communicationEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.supportsUpsert()).thenReturn(true);
+        Mockito.when(managerMock.upsert(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenReturn(List.of(communicationEntity, communicationEntity));
+
+        template.upsert(Arrays.asList(person, person));
+
+        verify(managerMock).upsert(Mockito.<Iterable<CommunicationEntity>>any());
+        verify(managerMock, Mockito.never()).upsert(any(CommunicationEntity.class));
+        verify(eventPersistManager, times(2)).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    void shouldUpsertEntitiesOneByOneWithoutNativeUpsert() {
+        var communicationEntity = CommunicationEntity.of("Person");
+        communicationEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.exists(any(SelectQuery.class))).thenReturn(true, false);
+        Mockito.when(managerMock.update(any(CommunicationEntity.class))).thenReturn(communicationEntity);
+        Mockito.when(managerMock.insert(any(CommunicationEntity.class))).thenReturn(communicationEntity);
+
+        Iterable<Person> result = template.upsert(Arrays.asList(person, person));
+
+        verify(managerMock).update(any(CommunicationEntity.class));
+        verify(managerMock).insert(any(CommunicationEntity.class));
+        assertThat(result).hasSize(2);
+    }
+
+    @Test
+    void shouldFindByIdsWithInCondition() {
+        var ada = CommunicationEntity.of("Person");
+        ada.addAll(List.of(Element.of("_id", 1L), Element.of("name", "Ada")));
+        var grace = CommunicationEntity.of("Person");
+        grace.addAll(List.of(Element.of("_id", 2L), Element.of("name", "Grace")));
+        ArgumentCaptor<SelectQuery> query = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.when(managerMock.select(query.capture())).thenReturn(Stream.of(ada, grace));
+
+        List<Person> people = template.findByIds(Person.class, List.of(2, 1, 3, 2)).toList();
+
+        verify(managerMock).select(any(SelectQuery.class));
+        CriteriaCondition condition = query.getValue().condition().orElseThrow();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(people).extracting(Person::getName).containsExactly("Grace", "Ada");
+            soft.assertThat(query.getValue().name()).isEqualTo("Person");
+            soft.assertThat(condition.condition()).isEqualTo(Condition.IN);
+            soft.assertThat(condition.element().name()).isEqualTo("_id");
+            soft.assertThat(condition.element().get()).isEqualTo(List.of(2L, 1L, 3L));
+        });
+    }
+
+    @Test
+    void shouldFindByIdsInChunks() {
+        System.setProperty(MappingConfigurations.IN_CLAUSE_SIZE.get(), "2");
+        try {
+            ArgumentCaptor<SelectQuery> query = ArgumentCaptor.forClass(SelectQuery.class);
+            Mockito.when(managerMock.select(query.capture())).thenAnswer(invocation -> Stream.empty());
+
+            List<Person> people = template.findByIds(Person.class, List.of(1L, 2L, 3L, 4L, 5L)).toList();
+
+            List<CriteriaCondition> conditions = query.getAllValues().stream()
+                    .map(q -> q.condition().orElseThrow()).toList();
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(people).isEmpty();
+                soft.assertThat(conditions).extracting(CriteriaCondition::condition)
+                        .containsExactly(Condition.IN, Condition.IN, Condition.EQUALS);
+                soft.assertThat(conditions).extracting(c -> c.element().get())
+                        .containsExactly(List.of(1L, 2L), List.of(3L, 4L), 5L);
+            });
+        } finally {
+            System.clearProperty(MappingConfigurations.IN_CLAUSE_SIZE.get());
+        }
+    }
+
+    @Test
+    void shouldNotQueryWithoutIds() {
+        assertThat(template.findByIds(Person.class, List.of())).isEmpty();
+        template.deleteByIds(Person.class, List.of());
+        Mockito.verifyNoInteractions(managerMock);
+    }
+
+    @Test
+    void shouldReturnErrorWhenIdsHaveNull() {
+        List<Long> ids = Arrays.asList(1L, null);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> template.findByIds(Person.class, ids))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.deleteByIds(Person.class, ids))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @Test
+    void shouldDeleteByIdsInChunks() {
+        System.setProperty(MappingConfigurations.IN_CLAUSE_SIZE.get(), "2");
+        try {
+            ArgumentCaptor<DeleteQuery> query = ArgumentCaptor.forClass(DeleteQuery.class);
+
+            template.deleteByIds(Person.class, List.of(1L, 2L, 2L, 3L));
+
+            verify(managerMock, times(2)).delete(query.capture());
+            List<CriteriaCondition> conditions = query.getAllValues().stream()
+                    .map(q -> q.condition().orElseThrow()).toList();
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(query.getAllValues()).extracting(DeleteQuery::name).containsOnly("Person");
+                soft.assertThat(conditions).extracting(CriteriaCondition::condition)
+                        .containsExactly(Condition.IN, Condition.EQUALS);
+                soft.assertThat(conditions).extracting(c -> c.element().get())
+                        .containsExactly(List.of(1L, 2L), 3L);
+            });
+        } finally {
+            System.clearProperty(MappingConfigurations.IN_CLAUSE_SIZE.get());
+        }
+    }
+
+    @Test
+    void shouldFindAndDeleteByIdsAtDefaultMethods() {
+        var defaultTemplate = Mockito.mock(SemiStructuredTemplate.class, Mockito.CALLS_REAL_METHODS);
+        Person ada = Person.builder().withId(1).withName("Ada").build();
+        Mockito.doReturn(Optional.of(ada)).when(defaultTemplate).find(Person.class, 1L);
+        Mockito.doReturn(Optional.empty()).when(defaultTemplate).find(Person.class, 2L);
+        Mockito.doNothing().when(defaultTemplate).delete(Mockito.eq(Person.class), Mockito.any());
+
+        List<Person> result = defaultTemplate.findByIds(Person.class, List.of(1L, 2L, 1L)).toList();
+        defaultTemplate.deleteByIds(Person.class, List.of(1L, 2L));
+
+        assertThat(result).containsExactly(ada, ada);
+        verify(defaultTemplate).delete(Person.class, 1L);
+        verify(defaultTemplate).delete(Person.class, 2L);
     }
 
     @Test
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.inject.Inject;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.semistructured.entities.Person;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the {@link EntityConverterTest} with the conversion plan per entity, which must give the same results.
+ */
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, EntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions(EntityMetadataExtension.class)
+class EntityConverterPlanTest extends EntityConverterTest {
+
+    @Inject
+    private DefaultEntityConverter planConverter;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    @Test
+    void shouldEnablePlan() {
+        assertThat(planConverter.isPlanEnabled()).isTrue();
+    }
+
+    @Test
+    void shouldCallOverriddenHooks() {
+        List<String> fields = new ArrayList<>();
+        var converter = new EntityConverter() {
+            @Override
+            protected EntitiesMetadata entities() {
+                return entities;
+            }
+
+            @Override
+            protected Converters converters() {
+                return converters;
+            }
+
+            @Override
+            protected boolean isPlanEnabled() {
+                return true;
+            }
+
+            @Override
+            protected AttributeFieldValue to(FieldMetadata field, Object entity) {
+                fields.add(field.name());
+                return super.to(field, entity);
+            }
+        };
+        var person = Person.builder().withId(12).withName("Ada").build();
+
+        var communication = converter.toCommunication(person);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(fields).contains("name", "age");
+            soft.assertThat(communication.find("name")).get().extracting(Element::get).isEqualTo("Ada");
+        });
+    }
+
+    @BeforeAll
+    static void enablePlan() {
+        System.setProperty(MappingConfigurations.ENTITY_CONVERTER_PLAN.get(), "true");
+    }
+
+    @AfterAll
+    static void disablePlan() {
+        System.clearProperty(MappingConfigurations.ENTITY_CONVERTER_PLAN.get());
+    }
+}
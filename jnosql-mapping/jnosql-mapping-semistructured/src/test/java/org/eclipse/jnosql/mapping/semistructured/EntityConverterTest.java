@@ -168,6 +168,28 @@ class EntityConverterTest {
         assertEquals(Collections.singletonMap("JavaZone", 10), actor.getMovieRating());
     }
 
+    @Test
+    void shouldConvertViewWithoutReadingOtherElements() {
+        Map<String, Object> document = new HashMap<>();
+        document.put("_id", 12L);
+        document.put("name", "Otavio");
+        document.put("age", 10);
+        document.put("phones", asList("234", "2342"));
+        document.put("broken", (Iterable<Object>) () -> {
+            throw new IllegalStateException("It should not be read");
+        });
+        CommunicationEntity entity = CommunicationEntity.view("Person", document);
+
+        Person person = converter.toEntity(entity);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(person.getId()).isEqualTo(12L);
+            soft.assertThat(person.getName()).isEqualTo("Otavio");
+            soft.assertThat(person.getAge()).isEqualTo(10);
+            soft.assertThat(person.getPhones()).containsExactly("234", "2342");
+        });
+    }
+
     @Test
     void shouldReturnErrorWhenToEntityIsNull() {
         CommunicationEntity entity = CommunicationEntity.of("Actor");
@@ -122,52 +122,67 @@ class CrudRepositoryProxyTest {
 
 
     @Test
-    void shouldSaveUsingInsertWhenDataDoesNotExist() {
-        when(template.find(Person.class, 10L)).thenReturn(Optional.empty());
-
+    void shouldSaveUsingUpsert() {
         ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().withName("Ada")
                 .withId(10L)
                 .withPhones(singletonList("123123"))
                 .build();
+        when(template.upsert(any(Person.class))).thenReturn(person);
+
         assertNotNull(personRepository.save(person));
-        verify(template).insert(captor.capture());
+        verify(template).upsert(captor.capture());
         Person value = captor.getValue();
         assertEquals(person, value);
     }
 
 
     @Test
-    void shouldSaveUsingUpdateWhenDataExists() {
-
-        when(template.find(Person.class, 10L)).thenReturn(Optional.of(Person.builder().build()));
-
-        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
+    void shouldNotFindEntityWhenSaving() {
         Person person = Person.builder().withName("Ada")
                 .withId(10L)
                 .withPhones(singletonList("123123"))
                 .build();
-        assertNotNull(personRepository.save(person));
-        verify(template).update(captor.capture());
-        Person value = captor.getValue();
-        assertEquals(person, value);
+        when(template.upsert(any(Person.class))).thenReturn(person);
+
+        personRepository.save(person);
+        verify(template, never()).find(Person.class, 10L);
+        verify(template, never()).insert(any(Person.class));
+        verify(template, never()).update(any(Person.class));
     }
 
 
     @Test
     void shouldSaveIterable() {
-        when(personRepository.findById(10L)).thenReturn(Optional.empty());
-
-        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().withName("Ada")
                 .withId(10L)
                 .withPhones(singletonList("123123"))
                 .build();
+        when(template.upsert(Mockito.<Iterable<Person>>any())).thenReturn(List.of(person));
 
-        personRepository.saveAll(singletonList(person));
-        verify(template).insert(captor.capture());
-        Person personCapture = captor.getValue();
-        assertEquals(person, personCapture);
+        List<Person> people = personRepository.saveAll(singletonList(person));
+        verify(template).upsert(List.of(person));
+        assertThat(people).containsExactly(person);
+    }
+
+
+    @Test
+    void shouldSaveByFindWhenTemplateDoesNotSupportUpsert() {
+        Person ada = Person.builder().withName("Ada").withId(10L).build();
+        Person grace = Person.builder().withName("Grace").withId(20L).build();
+        when(template.upsert(any(Person.class))).thenThrow(UnsupportedOperationException.class);
+        when(template.upsert(Mockito.<Iterable<Person>>any())).thenThrow(UnsupportedOperationException.class);
+        when(template.find(Person.class, 10L)).thenReturn(Optional.of(ada));
+        when(template.find(Person.class, 20L)).thenReturn(Optional.empty());
+        when(template.update(ada)).thenReturn(ada);
+        when(template.insert(grace)).thenReturn(grace);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(personRepository.save(ada)).isEqualTo(ada);
+            soft.assertThat(personRepository.saveAll(List.of(ada, grace))).containsExactly(ada, grace);
+        });
+        verify(template, Mockito.times(2)).update(ada);
+        verify(template).insert(grace);
     }
 
 
@@ -360,14 +375,14 @@ class CrudRepositoryProxyTest {
 
     @Test
     void shouldFindByIds() {
-        when(template.find(Mockito.eq(Person.class), Mockito.any(Long.class)))
-                .thenReturn(Optional.of(Person.builder().build()));
-
-        personRepository.findByIdIn(singletonList(10L)).toList();
-        verify(template).find(Person.class, 10L);
+        Person ada = Person.builder().withId(1L).withName("Ada").build();
+        when(template.findByIds(Mockito.eq(Person.class), Mockito.<Iterable<Long>>any()))
+                .thenReturn(Stream.of(ada));
 
-        personRepository.findByIdIn(asList(1L, 2L, 3L)).toList();
-        verify(template, times(4)).find(Mockito.eq(Person.class), Mockito.any(Long.class));
+        List<Person> people = personRepository.findByIdIn(asList(1L, 2L, 3L)).toList();
+        verify(template).findByIds(Person.class, asList(1L, 2L, 3L));
+        verify(template, never()).find(Mockito.eq(Person.class), Mockito.any(Long.class));
+        assertThat(people).containsExactly(ada);
     }
 
     @Test
@@ -381,7 +396,8 @@ class CrudRepositoryProxyTest {
     void shouldDeleteByIds() {
         ArgumentCaptor<DeleteQuery> captor = ArgumentCaptor.forClass(DeleteQuery.class);
         personRepository.deleteByIdIn(singletonList(10L));
-        verify(template).delete(Person.class, 10L);
+        verify(template).deleteByIds(Person.class, singletonList(10L));
+        verify(template, never()).delete(Person.class, 10L);
     }
 
 
@@ -508,6 +524,20 @@ class CrudRepositoryProxyTest {
 
     }
 
+    @Test
+    void shouldBindEachCallOfTheSameMethod() {
+        when(template.singleResult(any(SelectQuery.class))).thenReturn(Optional.empty());
+
+        personRepository.findByName("Ada");
+        personRepository.findByName("Grace");
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(template, Mockito.times(2)).singleResult(captor.capture());
+        List<SelectQuery> queries = captor.getAllValues();
+        assertEquals(Element.of("name", "Ada"), queries.get(0).condition().orElseThrow().element());
+        assertEquals(Element.of("name", "Grace"), queries.get(1).condition().orElseThrow().element());
+    }
+
     @Test
     void shouldFindByAgeBetween() {
         Person ada = Person.builder()
@@ -157,7 +157,7 @@ class CustomRepositoryHandlerTest {
         var persons = List.of(Person.builder().withId(12L).withAge(26).withName("Ada").build());
          people.delete(persons);
 
-        Mockito.verify(template).delete(Person.class, 12L);
+        Mockito.verify(template).deleteByIds(Person.class, List.of(12L));
         Mockito.verifyNoMoreInteractions(template);
     }
 
@@ -167,18 +167,18 @@ class CustomRepositoryHandlerTest {
         var persons = new Person[]{ada};
         people.delete(persons);
 
-        Mockito.verify(template).delete(Person.class, 2L);
+        Mockito.verify(template).deleteByIds(Person.class, List.of(2L));
         Mockito.verifyNoMoreInteractions(template);
     }
 
     @Test
     void shouldSaveEntity() {
         Person person = Person.builder().withAge(26).withName("Ada").build();
-        Mockito.when(template.insert(person)).thenReturn(person);
+        Mockito.when(template.upsert(person)).thenReturn(person);
         Person result = people.save(person);
 
-        Mockito.verify(template).insert(person);
-        Mockito.verify(template).find(Person.class, 0L);
+        Mockito.verify(template).upsert(person);
+        Mockito.verify(template, Mockito.never()).find(Person.class, 0L);
         Assertions.assertThat(result).isEqualTo(person);
     }
 
@@ -186,12 +186,11 @@ class CustomRepositoryHandlerTest {
     void shouldSaveListEntity() {
         Person ada = Person.builder().withAge(26).withName("Ada").build();
         var persons = List.of(ada);
-        Mockito.when(template.insert(persons)).thenReturn(persons);
-        Mockito.when(template.insert(ada)).thenReturn(ada);
+        Mockito.when(template.upsert(persons)).thenReturn(persons);
         List<Person> result = people.save(persons);
 
-        Mockito.verify(template).insert(ada);
-        Mockito.verify(template).find(Person.class, 0L);
+        Mockito.verify(template).upsert(persons);
+        Mockito.verify(template, Mockito.never()).find(Person.class, 0L);
         Assertions.assertThat(result).isEqualTo(persons);
     }
 
@@ -199,17 +198,14 @@ class CustomRepositoryHandlerTest {
     void shouldSaveArrayEntity() {
         Person ada = Person.builder().withAge(26).withName("Ada").build();
         var persons = new Person[]{ada};
-        Mockito.when(template.insert(Mockito.any())).thenReturn(List.of(ada));
-        Mockito.when(template.insert(ada)).thenReturn(ada);
+        Mockito.when(template.upsert(List.of(ada))).thenReturn(List.of(ada));
         Person[] result = people.save(persons);
 
-        Mockito.verify(template).insert(ada);
-        Mockito.verify(template).find(Person.class, 0L);
+        Mockito.verify(template).upsert(List.of(ada));
+        Mockito.verify(template, Mockito.never()).find(Person.class, 0L);
         Assertions.assertThat(result).isEqualTo(persons);
     }
 
-
-
     @Test
     void shouldExecuteObjectMethods(){
         Assertions.assertThat(people.toString()).isNotNull();
@@ -122,33 +122,17 @@ class RepositoryProxyTest {
 
 
     @Test
-    void shouldSaveUsingInsertWhenDataDoesNotExist() {
-        when(template.find(Person.class, 10L)).thenReturn(Optional.empty());
-
+    void shouldSaveUsingUpsert() {
         ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().withName("Ada")
                 .withId(10L)
                 .withPhones(singletonList("123123"))
                 .build();
-        assertNotNull(personRepository.save(person));
-        verify(template).insert(captor.capture());
-        Person value = captor.getValue();
-        assertEquals(person, value);
-    }
-
-
-    @Test
-    void shouldSaveUsingUpdateWhenDataExists() {
-
-        when(template.find(Person.class, 10L)).thenReturn(Optional.of(Person.builder().build()));
+        when(template.upsert(any(Person.class))).thenReturn(person);
 
-        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
-        Person person = Person.builder().withName("Ada")
-                .withId(10L)
-                .withPhones(singletonList("123123"))
-                .build();
         assertNotNull(personRepository.save(person));
-        verify(template).update(captor.capture());
+        verify(template).upsert(captor.capture());
+        verify(template, never()).find(Person.class, 10L);
         Person value = captor.getValue();
         assertEquals(person, value);
     }
@@ -156,18 +140,14 @@ class RepositoryProxyTest {
 
     @Test
     void shouldSaveIterable() {
-        when(personRepository.findById(10L)).thenReturn(Optional.empty());
-
-        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().withName("Ada")
                 .withId(10L)
                 .withPhones(singletonList("123123"))
                 .build();
+        when(template.upsert(Mockito.<Iterable<Person>>any())).thenReturn(List.of(person));
 
         personRepository.saveAll(singletonList(person));
-        verify(template).insert(captor.capture());
-        Person personCapture = captor.getValue();
-        assertEquals(person, personCapture);
+        verify(template).upsert(List.of(person));
     }
 
 
@@ -277,14 +257,14 @@ class RepositoryProxyTest {
 
     @Test
     void shouldFindByIds() {
-        when(template.find(Mockito.eq(Person.class), Mockito.any(Long.class)))
-                .thenReturn(Optional.of(Person.builder().build()));
-
-        personRepository.findByIdIn(singletonList(10L)).toList();
-        verify(template).find(Person.class, 10L);
+        Person ada = Person.builder().withId(1L).withName("Ada").build();
+        when(template.findByIds(Mockito.eq(Person.class), Mockito.<Iterable<Long>>any()))
+                .thenReturn(Stream.of(ada));
 
-        personRepository.findByIdIn(asList(1L, 2L, 3L)).toList();
-        verify(template, times(4)).find(Mockito.eq(Person.class), Mockito.any(Long.class));
+        List<Person> people = personRepository.findByIdIn(asList(1L, 2L, 3L)).toList();
+        verify(template).findByIds(Person.class, asList(1L, 2L, 3L));
+        verify(template, never()).find(Mockito.eq(Person.class), Mockito.any(Long.class));
+        assertThat(people).containsExactly(ada);
     }
 
     @Test
@@ -298,7 +278,8 @@ class RepositoryProxyTest {
     void shouldDeleteByIds() {
         ArgumentCaptor<DeleteQuery> captor = ArgumentCaptor.forClass(DeleteQuery.class);
         personRepository.deleteByIdIn(singletonList(10L));
-        verify(template).delete(Person.class, 10L);
+        verify(template).deleteByIds(Person.class, singletonList(10L));
+        verify(template, never()).delete(Person.class, 10L);
     }
 
 
@@ -349,7 +330,7 @@ class RepositoryProxyTest {
     void shouldDeleteEntities(){
         Person person = Person.builder().withId(1L).withAge(20).withName("Ada").build();
         personRepository.deleteAll(List.of(person));
-        verify(template).delete(Person.class, 1L);
+        verify(template).deleteByIds(Person.class, List.of(1L));
     }
 
     @Test
@@ -635,6 +616,22 @@ class RepositoryProxyTest {
         verify(statement).bind("?2", "id");
     }
 
+    @Test
+    void shouldExecuteUpdateWithoutReadingEntities() {
+        var statement = Mockito.mock(org.eclipse.jnosql.mapping.semistructured.PreparedStatement.class);
+        when(template.prepare(Mockito.anyString(), Mockito.anyString())).thenReturn(statement);
+        when(statement.isUpdate()).thenReturn(true);
+        when(statement.executeUpdate()).thenReturn(2L);
+
+        personRepository.update("name", "id");
+        long count = personRepository.updateName("name", "id");
+
+        verify(statement, times(2)).bind("name", "name");
+        verify(statement, times(2)).executeUpdate();
+        verify(statement, Mockito.never()).result();
+        assertThat(count).isEqualTo(2L);
+    }
+
     @Test
     void shouldExecuteJNoSQLPrepareUpdate2() {
         PreparedStatement statement = Mockito.mock(org.eclipse.jnosql.mapping.semistructured.PreparedStatement.class);
@@ -892,7 +889,7 @@ class RepositoryProxyTest {
                 .withPhones(singletonList("123123"))
                 .build();
         personRepository.savePerson(person);
-        Mockito.verify(template).insert(person);
+        Mockito.verify(template).upsert(person);
     }
 
     @Test
@@ -1051,6 +1048,9 @@ class RepositoryProxyTest {
         @Query("UPDATE Person SET name = :name WHERE id = :id")
         void update(@Param("name") String name, @Param("id") String id);
 
+        @Query("UPDATE Person SET name = :name WHERE id = :id")
+        long updateName(@Param("name") String name, @Param("id") String id);
+
 
         @Query("DELETE FROM Person WHERE id = ?1")
         void delete(String id);